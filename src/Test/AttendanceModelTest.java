@@ -1,11 +1,15 @@
 package Test;
 
 // Simple test class without JUnit dependencies for now
+import dao.AttendanceDAO;
 import model.Attendance;
+import model.AttendanceSummary;
 import java.sql.Date;
 import java.sql.Time;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 public class AttendanceModelTest {
 
@@ -106,6 +110,66 @@ public class AttendanceModelTest {
         System.out.println("✅ testNullLogOut passed");
     }
     
+    public void testSummaryFromRecords() {
+        // Arrange - the rules of AttendanceDAO's GROUP BY query: whole minutes,
+        // late only after 8:15 but counted from 8:00, undertime before 17:00
+        List<Attendance> records = new ArrayList<>();
+        records.add(record(3, LocalTime.of(8, 0), LocalTime.of(17, 0)));      // on time
+        records.add(record(4, LocalTime.of(8, 15), LocalTime.of(17, 0)));     // at the threshold, not late
+        records.add(record(5, LocalTime.of(8, 30), LocalTime.of(16, 30)));    // 30 late, 30 short
+        records.add(record(6, LocalTime.of(9, 5, 30), LocalTime.of(17, 30))); // 65 late, seconds dropped
+        records.add(record(7, LocalTime.of(8, 0), null));                     // present, no hours
+        records.add(record(10, null, null));                                  // absent, skipped
+        records.add(null);
+
+        // Act
+        AttendanceSummary summary = AttendanceSummary.fromRecords(10001, records);
+
+        // Assert
+        assert summary.getEmployeeId() == 10001 : "Employee ID should match";
+        assert summary.getDaysPresent() == 5 : "Days present should be 5, got " + summary.getDaysPresent();
+        assert summary.getWorkMinutes() == 540 + 525 + 480 + 504 : "Work minutes should be 2049, got " + summary.getWorkMinutes();
+        assert summary.getLateCount() == 2 : "Late count should be 2";
+        assert summary.getLateMinutes() == 95 : "Late minutes should be 95, got " + summary.getLateMinutes();
+        assert summary.getUndertimeCount() == 1 : "Undertime count should be 1";
+        assert summary.getUndertimeMinutes() == 30 : "Undertime minutes should be 30";
+        assert AttendanceSummary.fromRecords(10001, null).getDaysPresent() == 0 : "No records should give an empty summary";
+        
+        System.out.println("✅ testSummaryFromRecords passed");
+    }
+
+    public void testSummaryMatchesGroupedQuery() {
+        // Arrange
+        LocalDate periodStart = LocalDate.of(2024, 6, 1);
+        LocalDate periodEnd = LocalDate.of(2024, 6, 30);
+        AttendanceDAO attendanceDAO = new AttendanceDAO();
+
+        try {
+            // Act
+            AttendanceSummary grouped = attendanceDAO.getAttendanceSummary(10001, periodStart, periodEnd);
+            AttendanceSummary fromRecords = AttendanceSummary.fromRecords(10001,
+                    attendanceDAO.getAttendanceByEmployeeIdBetweenDates(10001, periodStart, periodEnd));
+
+            // Assert
+            assert grouped.getDaysPresent() == fromRecords.getDaysPresent() : "Days present should match";
+            assert grouped.getWorkMinutes() == fromRecords.getWorkMinutes() : "Work minutes should match";
+            assert grouped.getLateCount() == fromRecords.getLateCount() : "Late count should match";
+            assert grouped.getLateMinutes() == fromRecords.getLateMinutes() : "Late minutes should match";
+            assert grouped.getUndertimeCount() == fromRecords.getUndertimeCount() : "Undertime count should match";
+            assert grouped.getUndertimeMinutes() == fromRecords.getUndertimeMinutes() : "Undertime minutes should match";
+            
+            System.out.println("✅ testSummaryMatchesGroupedQuery passed - " + grouped);
+        } catch (RuntimeException e) {
+            System.out.println("⚠️ testSummaryMatchesGroupedQuery skipped - requires database connection");
+        }
+    }
+
+    private static Attendance record(int day, LocalTime logIn, LocalTime logOut) {
+        return new Attendance(10001, Date.valueOf(LocalDate.of(2024, 6, day)),
+                logIn != null ? Time.valueOf(logIn) : null,
+                logOut != null ? Time.valueOf(logOut) : null);
+    }
+    
     // Main method to run all tests
     public static void main(String[] args) {
         System.out.println("🧪 Running Attendance Model Tests...");
@@ -131,6 +195,12 @@ public class AttendanceModelTest {
             test.setUp();
             test.testNullLogOut();
             
+            test.setUp();
+            test.testSummaryFromRecords();
+            
+            test.setUp();
+            test.testSummaryMatchesGroupedQuery();
+            
             System.out.println("🎉 All Attendance Model Tests Passed!");
             
         } catch (Exception e) {
@@ -0,0 +1,367 @@
+package Test;
+
+import dao.BatchResult;
+import dao.PayrollDAO;
+import model.Payroll;
+import util.DataSourceManager;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import javax.sql.DataSource;
+
+/**
+ * Tests for the batch insert, update and upsert methods of PayrollDAO and the
+ * failure handling they share. DataSourceManager is pointed at a stand-in
+ * database, built from java.lang.reflect.Proxy, that rejects chosen
+ * employees' rows the way MySQL Connector/J reports a failed batch; no
+ * database is needed.
+ */
+public class BatchStatementsTest {
+
+    private static final Date PERIOD_START = Date.valueOf(LocalDate.of(2024, 6, 1));
+    private static final Date PERIOD_END = Date.valueOf(LocalDate.of(2024, 6, 15));
+
+    private FakeDatabase database;
+    private PayrollDAO payrollDAO;
+
+    public void setUp() throws Exception {
+        database = new FakeDatabase();
+        setDataSource(database.dataSource());
+        payrollDAO = new PayrollDAO();
+    }
+
+    public void tearDown() {
+        DataSourceManager.reset();
+    }
+
+    public void testFailedRowsAreFoundByHalving() {
+        database.failing.add(10006);
+        List<Payroll> payrolls = payrolls(10001, 10002, 10003, 10004, 10005, 10006, 10007, 10008);
+
+        BatchResult<Payroll> result = payrollDAO.insertPayrolls(payrolls);
+
+        // 8 fail together; halves of 4; the bad half splits to 2, then 1 and 1; the other 2 pass
+        assert database.batchSizes.equals(Arrays.asList(8, 4, 4, 2, 1, 1, 2))
+                : "Unexpected batch sizes: " + database.batchSizes;
+        assert result.getSavedCount() == 7 : "Every row but the bad one should be saved";
+        assert result.getFailureCount() == 1 : "Only the bad row should fail";
+        assert result.getFailures().get(0).getIndex() == 5 : "Failure should point at the bad row's position";
+
+        System.out.println("✅ testFailedRowsAreFoundByHalving passed");
+    }
+
+    public void testEachFailedRowGetsItsOwnReason() {
+        database.failing.add(10002);
+        database.failing.add(10004);
+        List<Payroll> payrolls = payrolls(10001, 10002, 10003, 10004);
+
+        BatchResult<Payroll> result = payrollDAO.insertPayrolls(payrolls);
+
+        assert result.getFailureCount() == 2 : "Both bad rows should fail";
+        BatchResult.Failure<Payroll> first = result.getFailures().get(0);
+        BatchResult.Failure<Payroll> second = result.getFailures().get(1);
+        assert first.getIndex() == 1 && first.getRow().getEmployeeId() == 10002 : "First failure should be 10002";
+        assert second.getIndex() == 3 && second.getRow().getEmployeeId() == 10004 : "Second failure should be 10004";
+        assert first.getReason().contains("10002") : "Reason should be 10002's own error: " + first.getReason();
+        assert second.getReason().contains("10004") : "Reason should be 10004's own error: " + second.getReason();
+
+        System.out.println("✅ testEachFailedRowGetsItsOwnReason passed");
+    }
+
+    public void testUpdateMatchingNoRowIsReported() {
+        database.missing.add(10002);
+        List<Payroll> payrolls = payrolls(10001, 10002, 10003);
+        for (Payroll payroll : payrolls) {
+            payroll.setPayrollId(payroll.getEmployeeId() - 10000);
+        }
+
+        BatchResult<Payroll> result = payrollDAO.updatePayrolls(payrolls);
+
+        assert database.batchSizes.equals(Arrays.asList(3)) : "A row matching nothing should not be retried";
+        assert result.getSavedCount() == 2 : "Matched rows should be saved";
+        assert result.getFailureCount() == 1 : "The unmatched row should fail";
+        assert result.getFailures().get(0).getIndex() == 1 : "Failure should point at the unmatched row";
+        assert "No rows affected".equals(result.getFailures().get(0).getReason())
+                : "Unexpected reason: " + result.getFailures().get(0).getReason();
+
+        System.out.println("✅ testUpdateMatchingNoRowIsReported passed");
+    }
+
+    public void testKeysMapToRowsAfterPartialFailure() throws Exception {
+        database.failing.add(10003);
+        List<Payroll> rewritten = payrolls(10001, 10002, 10003, 10004, 10005);
+
+        payrollDAO.insertPayrolls(rewritten);
+
+        assertKeys(rewritten, 10003);
+
+        // A driver that stops at the first bad row reports counts and keys for the rows before it
+        setUp();
+        database.stopAtFirstError = true;
+        database.failing.add(10003);
+        List<Payroll> stopped = payrolls(10001, 10002, 10003, 10004, 10005);
+
+        BatchResult<Payroll> result = payrollDAO.insertPayrolls(stopped);
+
+        // The 3 rows from the failure on are retried as 2 (split to 1 and 1) and 1
+        assert database.batchSizes.equals(Arrays.asList(5, 2, 1, 1, 1))
+                : "Only the rows from the failure on should be retried: " + database.batchSizes;
+        assert result.getSavedCount() == 4 : "Rows before and after the bad one should be saved";
+        assertKeys(stopped, 10003);
+
+        System.out.println("✅ testKeysMapToRowsAfterPartialFailure passed");
+    }
+
+    public void testUpsertAssignsIdsOfInsertedAndUpdatedRows() {
+        database.existing.add(10002);
+        database.failing.add(10003);
+        List<Payroll> payrolls = payrolls(10001, 10002, 10003, 10004);
+
+        BatchResult<Payroll> result = payrollDAO.upsertPayrolls(payrolls);
+
+        assert result.getSavedCount() == 3 : "Inserted and updated rows should both be saved";
+        assert result.getFailureCount() == 1 && result.getFailures().get(0).getIndex() == 2
+                : "Only the bad row should fail";
+        assert database.idLookups == 1 : "IDs of one period should be looked up in one query";
+        for (Payroll payroll : payrolls) {
+            int expected = payroll.getEmployeeId() == 10003 ? 0 : FakeDatabase.storedId(payroll.getEmployeeId());
+            assert payroll.getPayrollId() == expected
+                    : "Employee " + payroll.getEmployeeId() + " got payroll ID " + payroll.getPayrollId();
+        }
+
+        System.out.println("✅ testUpsertAssignsIdsOfInsertedAndUpdatedRows passed");
+    }
+
+    private static void assertKeys(List<Payroll> payrolls, int failedEmployeeId) {
+        for (Payroll payroll : payrolls) {
+            int expected = payroll.getEmployeeId() == failedEmployeeId ? 0 : FakeDatabase.generatedKey(payroll.getEmployeeId());
+            assert payroll.getPayrollId() == expected
+                    : "Employee " + payroll.getEmployeeId() + " got payroll ID " + payroll.getPayrollId();
+        }
+    }
+
+    private static List<Payroll> payrolls(int... employeeIds) {
+        List<Payroll> payrolls = new ArrayList<>();
+        for (int employeeId : employeeIds) {
+            payrolls.add(new Payroll(employeeId, PERIOD_START, PERIOD_END));
+        }
+        return payrolls;
+    }
+
+    private static void setDataSource(DataSource dataSource) throws Exception {
+        DataSourceManager.reset();
+        for (String name : new String[] { "dataSource", "readDataSource" }) {
+            Field field = DataSourceManager.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, dataSource);
+        }
+    }
+
+    /**
+     * Stand-in for the payroll table. Rows are told apart by their employee ID,
+     * the first parameter of every payroll statement.
+     */
+    private static final class FakeDatabase {
+        final Set<Integer> failing = new HashSet<>();
+        final Set<Integer> missing = new HashSet<>();
+        final Set<Integer> existing = new HashSet<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+        boolean stopAtFirstError;
+        int idLookups;
+
+        /** Key the stand-in generates for an inserted row, so tests can tell which row got it */
+        static int generatedKey(int employeeId) {
+            return employeeId - 9000;
+        }
+
+        /** ID the stand-in reports when an upserted row is looked up */
+        static int storedId(int employeeId) {
+            return employeeId - 5000;
+        }
+
+        DataSource dataSource() {
+            return proxy(DataSource.class, (proxy, method, args) ->
+                    method.getName().equals("getConnection") ? connection() : defaultValue(method.getReturnType()));
+        }
+
+        private Connection connection() {
+            return proxy(Connection.class, (proxy, method, args) ->
+                    method.getName().equals("prepareStatement")
+                            ? new FakeStatement((String) args[0]).proxy()
+                            : defaultValue(method.getReturnType()));
+        }
+
+        private final class FakeStatement {
+            private final String sql;
+            private final Map<Integer, Object> parameters = new HashMap<>();
+            private final List<Map<Integer, Object>> batch = new ArrayList<>();
+            private final List<Integer> keys = new ArrayList<>();
+
+            FakeStatement(String sql) {
+                this.sql = sql;
+            }
+
+            PreparedStatement proxy() {
+                return FakeDatabase.proxy(PreparedStatement.class, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length == 2 && args[0] instanceof Integer) {
+                        parameters.put((Integer) args[0], args[1]);
+                        return null;
+                    }
+                    switch (name) {
+                        case "addBatch":
+                            batch.add(new HashMap<>(parameters));
+                            return null;
+                        case "clearBatch":
+                            batch.clear();
+                            return null;
+                        case "executeBatch":
+                            return executeBatch();
+                        case "getGeneratedKeys":
+                            return resultSet(keys, null);
+                        case "executeQuery":
+                            return lookUpIds();
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+            }
+
+            private int[] executeBatch() throws BatchUpdateException {
+                batchSizes.add(batch.size());
+                keys.clear();
+                List<Integer> counts = new ArrayList<>();
+                Integer rejected = null;
+                for (Map<Integer, Object> row : batch) {
+                    int employeeId = (Integer) row.get(1);
+                    if (failing.contains(employeeId)) {
+                        rejected = employeeId;
+                        break;
+                    }
+                    if (missing.contains(employeeId)) {
+                        counts.add(0);
+                    } else {
+                        counts.add(existing.contains(employeeId) ? 2 : 1);
+                        keys.add(generatedKey(employeeId));
+                    }
+                }
+                batch.clear();
+                if (rejected == null) {
+                    return counts.stream().mapToInt(Integer::intValue).toArray();
+                }
+
+                String message = "Cannot add or update a child row for employee " + rejected;
+                if (stopAtFirstError) {
+                    throw new BatchUpdateException(message, counts.stream().mapToInt(Integer::intValue).toArray());
+                }
+                // A rewritten multi-row statement fails as a whole
+                keys.clear();
+                int[] failed = new int[batchSizes.get(batchSizes.size() - 1)];
+                Arrays.fill(failed, Statement.EXECUTE_FAILED);
+                throw new BatchUpdateException(message, failed);
+            }
+
+            private ResultSet lookUpIds() {
+                if (!sql.startsWith("SELECT payroll_id, employee_id FROM payroll")) {
+                    throw new IllegalStateException("Unexpected query: " + sql);
+                }
+                idLookups++;
+                List<Integer> employeeIds = new ArrayList<>();
+                for (int index = 3; parameters.containsKey(index); index++) {
+                    int employeeId = (Integer) parameters.get(index);
+                    if (!failing.contains(employeeId)) {
+                        employeeIds.add(employeeId);
+                    }
+                }
+                return resultSet(employeeIds, FakeDatabase::storedId);
+            }
+        }
+
+        /**
+         * @param ids the first column of each row
+         * @param payrollId maps each ID to a payroll_id column, or null for a one-column key result
+         */
+        private static ResultSet resultSet(List<Integer> ids, IntUnaryOperator payrollId) {
+            int[] position = { -1 };
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        return ++position[0] < ids.size();
+                    case "getInt":
+                        int id = ids.get(position[0]);
+                        if ("payroll_id".equals(args[0])) {
+                            return payrollId.applyAsInt(id);
+                        }
+                        return id;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+    // Main method to run all tests
+    public static void main(String[] args) {
+        System.out.println("🧪 Running Batch Statement Tests...");
+
+        BatchStatementsTest test = new BatchStatementsTest();
+
+        try {
+            test.setUp();
+            test.testFailedRowsAreFoundByHalving();
+
+            test.setUp();
+            test.testEachFailedRowGetsItsOwnReason();
+
+            test.setUp();
+            test.testUpdateMatchingNoRowIsReported();
+
+            test.setUp();
+            test.testKeysMapToRowsAfterPartialFailure();
+
+            test.setUp();
+            test.testUpsertAssignsIdsOfInsertedAndUpdatedRows();
+
+            System.out.println("🎉 All Batch Statement Tests Passed!");
+
+        } catch (Exception e) {
+            System.err.println("❌ Test failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            test.tearDown();
+        }
+    }
+}
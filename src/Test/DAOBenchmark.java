@@ -0,0 +1,142 @@
+package Test;
+
+import dao.AttendanceDAO;
+import dao.EmployeeDAO;
+import dao.LeaveRequestDAO;
+import dao.OvertimeDAO;
+import dao.PayrollDAO;
+import util.ConfigurationManager;
+import util.DataSourceManager;
+import util.DatabaseConnectionPool;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Measures per-call latency of common read-only DAO methods
+ * before and after connection pooling / statement caching.
+ *
+ * "Before" uses a direct DriverManager connection per call with the default
+ * URL profile. "After" uses the pool, the per-connection statement cache and
+ * the opt-in "performance" URL profile. The employee cache is disabled for
+ * both runs. Requires the sample database.
+ *
+ * Usage: java Test.DAOBenchmark [iterations]
+ */
+public class DAOBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 500;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int EMPLOYEE_ID = 10001;
+    private static final LocalDate PERIOD_START = LocalDate.of(2024, 6, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2024, 6, 30);
+
+    private final EmployeeDAO employeeDAO = new EmployeeDAO();
+    private final AttendanceDAO attendanceDAO = new AttendanceDAO();
+    private final OvertimeDAO overtimeDAO = new OvertimeDAO();
+    private final PayrollDAO payrollDAO = new PayrollDAO();
+    private final LeaveRequestDAO leaveRequestDAO = new LeaveRequestDAO();
+
+    private Map<String, Runnable> daoCalls() {
+        Map<String, Runnable> calls = new LinkedHashMap<>();
+        calls.put("EmployeeDAO.getEmployeeById", () -> employeeDAO.getEmployeeById(EMPLOYEE_ID));
+        calls.put("AttendanceDAO.getAttendanceByEmployeeIdBetweenDates",
+                () -> attendanceDAO.getAttendanceByEmployeeIdBetweenDates(EMPLOYEE_ID, PERIOD_START, PERIOD_END));
+        calls.put("OvertimeDAO.getOvertimeByEmployeeIdAndDateRange",
+                () -> overtimeDAO.getOvertimeByEmployeeIdAndDateRange(EMPLOYEE_ID, PERIOD_START, PERIOD_END));
+        calls.put("PayrollDAO.getPayrollByEmployeeId", () -> payrollDAO.getPayrollByEmployeeId(EMPLOYEE_ID));
+        calls.put("LeaveRequestDAO.getLeaveRequestsByEmployeeId",
+                () -> leaveRequestDAO.getLeaveRequestsByEmployeeId(EMPLOYEE_ID));
+        return calls;
+    }
+
+    /**
+     * Runs every DAO call and returns its p50 and p95 latency in microseconds
+     */
+    private Map<String, long[]> measure(int iterations) {
+        Map<String, long[]> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Runnable> call : daoCalls().entrySet()) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                call.getValue().run();
+            }
+
+            long[] samples = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                call.getValue().run();
+                samples[i] = (System.nanoTime() - start) / 1_000;
+            }
+            Arrays.sort(samples);
+            results.put(call.getKey(), new long[] {
+                samples[iterations / 2], samples[(int) (iterations * 0.95)]
+            });
+        }
+        return results;
+    }
+
+    /**
+     * Writes the current configuration with the given overrides to a temporary
+     * file and reloads from it. The employee cache is turned off so
+     * getEmployeeById measures the query rather than cache hits.
+     */
+    private static void configure(boolean pooled, String urlProfile) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        Properties properties = new Properties();
+        Properties current = config.getAllProperties();
+        for (String key : current.stringPropertyNames()) {
+            properties.setProperty(key, current.getProperty(key));
+        }
+        properties.setProperty("db.pool.enabled", String.valueOf(pooled));
+        properties.setProperty("db.url.profile", urlProfile);
+        properties.setProperty("cache.employee.max.size", "0");
+
+        try {
+            File file = File.createTempFile("dao-benchmark", ".properties");
+            file.deleteOnExit();
+            try (OutputStream output = new FileOutputStream(file)) {
+                properties.store(output, "DAOBenchmark");
+            }
+            System.setProperty("motorph.config.file", file.getAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write benchmark configuration", e);
+        }
+        config.reloadConfiguration();
+        DataSourceManager.reset();
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        DAOBenchmark benchmark = new DAOBenchmark();
+
+        System.out.println("⏱️ DAO latency benchmark (" + iterations + " iterations per call)");
+
+        configure(false, "default");
+        Map<String, long[]> before = benchmark.measure(iterations);
+
+        configure(true, "performance");
+        Map<String, long[]> after = benchmark.measure(iterations);
+
+        System.out.println("=".repeat(100));
+        System.out.printf("%-55s %10s %10s %10s %10s %8s%n",
+                "DAO call (µs)", "before p50", "before p95", "after p50", "after p95", "speedup");
+        System.out.println("-".repeat(100));
+        for (String call : before.keySet()) {
+            long[] b = before.get(call);
+            long[] a = after.get(call);
+            System.out.printf("%-55s %10d %10d %10d %10d %7.1fx%n",
+                    call, b[0], b[1], a[0], a[1], (double) b[0] / Math.max(1, a[0]));
+        }
+        System.out.println("=".repeat(100));
+        System.out.println(DatabaseConnectionPool.getInstance().getMetrics());
+
+        DataSourceManager.reset();
+    }
+}
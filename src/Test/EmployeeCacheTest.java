@@ -0,0 +1,173 @@
+package Test;
+
+import dao.CacheStats;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+/**
+ * Tests for the employee cache behind EmployeeDAO.getEmployeeById. The cache
+ * and its rows are package-private, so they are reached through reflection;
+ * rows are built from a stand-in ResultSet and no database is needed.
+ */
+public class EmployeeCacheTest {
+
+    private static final long NO_TTL = 0;
+
+    private Object cache;
+
+    public void setUp() throws Exception {
+        cache = newCache(3, NO_TTL);
+    }
+
+    public void testGenerationGuardRejectsStalePut() throws Exception {
+        long before = generation();
+        // A write invalidates while a lookup that started earlier is still reading
+        call("invalidate", new Class<?>[] { int.class }, 10001);
+        put(10001, before);
+
+        assert get(10001) == null : "Row loaded before the invalidation should not be cached";
+
+        put(10001, generation());
+        assert get(10001) != null : "Row loaded after the invalidation should be cached";
+
+        System.out.println("✅ testGenerationGuardRejectsStalePut passed");
+    }
+
+    public void testEntryExpiresAfterTtl() throws Exception {
+        cache = newCache(3, 50);
+        put(10001, generation());
+        assert get(10001) != null : "Fresh entry should be served";
+
+        Thread.sleep(80);
+
+        assert get(10001) == null : "Entry older than the TTL should not be served";
+        assert stats().getExpirations() == 1 : "Expired entry should be counted";
+        assert stats().getSize() == 0 : "Expired entry should be dropped";
+
+        System.out.println("✅ testEntryExpiresAfterTtl passed");
+    }
+
+    public void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        put(10001, generation());
+        put(10002, generation());
+        put(10003, generation());
+        // Touch the oldest entry so 10002 becomes the least recently used
+        assert get(10001) != null : "10001 should be cached";
+
+        put(10004, generation());
+
+        assert get(10002) == null : "Least recently used entry should be evicted";
+        assert get(10001) != null : "Recently used entry should stay";
+        assert get(10003) != null : "10003 should stay";
+        assert get(10004) != null : "Newest entry should stay";
+        assert stats().getEvictions() == 1 : "One eviction expected";
+        assert stats().getSize() == 3 : "Cache should stay at its maximum size";
+
+        System.out.println("✅ testLeastRecentlyUsedEntryIsEvicted passed");
+    }
+
+    public void testConfigureShrinksCache() throws Exception {
+        put(10001, generation());
+        put(10002, generation());
+        put(10003, generation());
+        assert get(10003) != null : "10003 should be cached";
+
+        call("configure", new Class<?>[] { int.class, long.class }, 1, NO_TTL);
+
+        assert stats().getSize() == 1 : "Shrinking should drop entries over the new size";
+        assert stats().getMaxSize() == 1 : "New maximum size should be reported";
+        assert stats().getEvictions() == 2 : "Dropped entries should count as evictions";
+        assert get(10003) != null : "Most recently used entry should be kept";
+
+        call("configure", new Class<?>[] { int.class, long.class }, 0, NO_TTL);
+        put(10001, generation());
+        assert stats().getSize() == 0 : "A cache configured to size 0 should store nothing";
+
+        System.out.println("✅ testConfigureShrinksCache passed");
+    }
+
+    private static Object newCache(int maxSize, long ttlMillis) throws Exception {
+        Constructor<?> constructor = Class.forName("dao.EmployeeCache").getDeclaredConstructor(int.class, long.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(maxSize, ttlMillis);
+    }
+
+    private long generation() throws Exception {
+        return (Long) call("generation", new Class<?>[0]);
+    }
+
+    private Object get(int employeeId) throws Exception {
+        return call("get", new Class<?>[] { int.class }, employeeId);
+    }
+
+    private void put(int employeeId, long generation) throws Exception {
+        Class<?> snapshotType = Class.forName("dao.EmployeeSnapshot");
+        Method from = snapshotType.getDeclaredMethod("from", ResultSet.class);
+        from.setAccessible(true);
+        Object snapshot = from.invoke(null, employeeRow(employeeId));
+        call("put", new Class<?>[] { snapshotType, long.class }, snapshot, generation);
+    }
+
+    private CacheStats stats() throws Exception {
+        return (CacheStats) call("stats", new Class<?>[0]);
+    }
+
+    private Object call(String name, Class<?>[] types, Object... args) throws Exception {
+        Method method = cache.getClass().getDeclaredMethod(name, types);
+        method.setAccessible(true);
+        try {
+            return method.invoke(cache, args);
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    /**
+     * A row of SELECT * FROM employees with only the ID set
+     */
+    private static ResultSet employeeRow(int employeeId) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if (type == int.class) {
+                        return "employee_id".equals(args[0]) ? employeeId : 0;
+                    }
+                    if (type == double.class) {
+                        return 0.0;
+                    }
+                    return null;
+                });
+    }
+
+    // Main method to run all tests
+    public static void main(String[] args) {
+        System.out.println("🧪 Running Employee Cache Tests...");
+
+        EmployeeCacheTest test = new EmployeeCacheTest();
+
+        try {
+            test.setUp();
+            test.testGenerationGuardRejectsStalePut();
+
+            test.setUp();
+            test.testEntryExpiresAfterTtl();
+
+            test.setUp();
+            test.testLeastRecentlyUsedEntryIsEvicted();
+
+            test.setUp();
+            test.testConfigureShrinksCache();
+
+            System.out.println("🎉 All Employee Cache Tests Passed!");
+
+        } catch (Exception e) {
+            System.err.println("❌ Test failed: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
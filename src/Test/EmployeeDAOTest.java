@@ -79,6 +79,83 @@ public class EmployeeDAOTest {
         System.out.println("✅ testSearchEmployees passed - Found " + results.size() + " results");
     }
 
+    public void testSearchEmployeesMultipleMatches() {
+        // Act - several employees share this position
+        List<Employee> results = employeeDAO.searchEmployees("Rank and File");
+
+        // Assert
+        assert results != null : "Search results should not be null";
+        assert results.size() >= 2 : "Search should return several employees, got " + results.size();
+        assert results.stream().allMatch(emp -> 
+            emp.getPosition() != null && emp.getPosition().contains("Rank and File")) : 
+            "Every result should hold a Rank and File position";
+        assert results.stream().map(Employee::getEmployeeId).distinct().count() == results.size() : 
+            "Each employee should appear once";
+        
+        System.out.println("✅ testSearchEmployeesMultipleMatches passed - Found " + results.size() + " results");
+    }
+
+    public void testSearchEmployeesRanking() {
+        // Act
+        List<Employee> byId = employeeDAO.searchEmployees("10001");
+        List<Employee> byName = employeeDAO.searchEmployees("Garcia");
+
+        // Assert - an exact ID or whole-word name match comes first
+        assert !byId.isEmpty() && byId.get(0).getEmployeeId() == 10001 : 
+            "Exact ID match should rank first";
+        assert !byName.isEmpty() && byName.get(0).getEmployeeId() == 10001 : 
+            "Employee named Garcia should rank first";
+        
+        System.out.println("✅ testSearchEmployeesRanking passed");
+    }
+
+    public void testSearchEmployeesAllWordsMatch() {
+        // Act
+        List<Employee> results = employeeDAO.searchEmployees("manuel garcia");
+        List<Employee> noMatch = employeeDAO.searchEmployees("garcia zzqx");
+
+        // Assert - every word must match, in any order
+        assert !results.isEmpty() : "Search should find Manuel Garcia";
+        assert results.get(0).getEmployeeId() == 10001 : "Manuel Garcia should rank first";
+        assert results.stream().allMatch(emp -> {
+            String name = (emp.getFirstName() + " " + emp.getLastName()).toLowerCase();
+            return name.contains("manuel") && name.contains("garcia");
+        }) : "Every result should match both words";
+        assert noMatch.isEmpty() : "A word that matches nobody should give no results";
+        
+        System.out.println("✅ testSearchEmployeesAllWordsMatch passed");
+    }
+
+    public void testSearchFollowsInsertUpdateDelete() {
+        // Arrange - the first search loads the in-memory index
+        employeeDAO.searchEmployees("Garcia");
+        testEmployee.setLastName("Indexcheck");
+
+        try {
+            // Act & Assert - each write shows up in the next search without a rebuild
+            assert employeeDAO.searchEmployees("Indexcheck").isEmpty() : "Test employee should not exist yet";
+
+            employeeDAO.insertEmployee(testEmployee);
+            List<Employee> inserted = employeeDAO.searchEmployees("Indexcheck");
+            assert inserted.size() == 1 && inserted.get(0).getEmployeeId() == 99999 : 
+                "Inserted employee should be found";
+
+            testEmployee.setLastName("Indexrenamed");
+            employeeDAO.updateEmployee(testEmployee);
+            assert employeeDAO.searchEmployees("Indexcheck").isEmpty() : "Old name should no longer match";
+            assert employeeDAO.searchEmployees("Indexrenamed").size() == 1 : "New name should match";
+
+            employeeDAO.deleteEmployee(99999);
+            assert employeeDAO.searchEmployees("Indexrenamed").isEmpty() : "Deleted employee should not be found";
+        } finally {
+            if (employeeDAO.employeeExists(99999)) {
+                employeeDAO.deleteEmployee(99999);
+            }
+        }
+        
+        System.out.println("✅ testSearchFollowsInsertUpdateDelete passed");
+    }
+
     public void testGetEmployeesByStatus() {
         // Act
         List<Employee> regularEmployees = employeeDAO.getEmployeesByStatus("Regular");
@@ -169,6 +246,18 @@ public class EmployeeDAOTest {
             test.setUp();
             test.testSearchEmployees();
             
+            test.setUp();
+            test.testSearchEmployeesMultipleMatches();
+            
+            test.setUp();
+            test.testSearchEmployeesRanking();
+            
+            test.setUp();
+            test.testSearchEmployeesAllWordsMatch();
+            
+            test.setUp();
+            test.testSearchFollowsInsertUpdateDelete();
+            
             test.setUp();
             test.testGetEmployeesByStatus();
             
@@ -164,6 +164,77 @@ public class PayrollCalculatorTest {
         System.out.println("✅ testGovernmentContributions passed");
     }
 
+    public void testResultCacheHit() {
+        // Arrange
+        LocalDate periodStart = LocalDate.of(2024, 6, 1);
+        LocalDate periodEnd = LocalDate.of(2024, 6, 30);
+        PayrollCalculator.clearResultCache();
+
+        try {
+            // Act - the second call has the same inputs
+            CacheStats before = PayrollCalculator.getResultCacheStats();
+            Payroll first = payrollCalculator.calculatePayroll(10001, periodStart, periodEnd);
+            Payroll second = payrollCalculator.calculatePayroll(10001, periodStart, periodEnd);
+            CacheStats after = PayrollCalculator.getResultCacheStats();
+
+            // Assert
+            assert after.getMisses() - before.getMisses() == 1 : "First calculation should miss";
+            assert after.getHits() - before.getHits() == 1 : "Second calculation should hit";
+            assert Math.abs(first.getNetPay() - second.getNetPay()) < 0.01 : "Cached result should match";
+            assert first != second : "Each call should get its own copy";
+            
+            System.out.println("✅ testResultCacheHit passed");
+        } catch (Exception e) {
+            System.out.println("⚠️ testResultCacheHit skipped - requires database connection");
+        }
+    }
+
+    public void testResultCacheMissWhenInputsChange() {
+        // Arrange
+        LocalDate periodStart = LocalDate.of(2024, 6, 1);
+        LocalDate periodEnd = LocalDate.of(2024, 6, 30);
+        EmployeeDAO employeeDAO = new EmployeeDAO();
+        PayrollCalculator.clearResultCache();
+
+        Employee employee;
+        try {
+            employee = employeeDAO.getEmployeeById(10001);
+            payrollCalculator.calculatePayroll(10001, periodStart, periodEnd);
+        } catch (Exception e) {
+            System.out.println("⚠️ testResultCacheMissWhenInputsChange skipped - requires database connection");
+            return;
+        }
+        double originalSalary = employee.getBasicSalary();
+
+        try {
+            // Act - another period, then a salary change for the cached period
+            CacheStats before = PayrollCalculator.getResultCacheStats();
+            payrollCalculator.calculatePayroll(10001, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31));
+            CacheStats otherPeriod = PayrollCalculator.getResultCacheStats();
+
+            employee.setBasicSalary(originalSalary + 1000.0);
+            employeeDAO.updateEmployee(employee);
+            Payroll raised = payrollCalculator.calculatePayroll(10001, periodStart, periodEnd);
+            CacheStats changed = PayrollCalculator.getResultCacheStats();
+
+            // Assert
+            assert otherPeriod.getMisses() - before.getMisses() == 1 : "Another period should miss";
+            assert changed.getMisses() - otherPeriod.getMisses() == 1 : "Changed salary should miss";
+            assert changed.getInvalidations() - otherPeriod.getInvalidations() == 1 : 
+                "Result for the old salary should be dropped";
+            assert changed.getHits() == before.getHits() : "Nothing should hit";
+            assert Math.abs(raised.getMonthlyRate() - (originalSalary + 1000.0)) < 0.01 : 
+                "Payroll should use the new salary";
+            
+            System.out.println("✅ testResultCacheMissWhenInputsChange passed");
+        } catch (Exception e) {
+            System.out.println("⚠️ testResultCacheMissWhenInputsChange skipped - requires database connection");
+        } finally {
+            employee.setBasicSalary(originalSalary);
+            employeeDAO.updateEmployee(employee);
+        }
+    }
+
     // Helper methods for testing calculations
     private double calculateSSS(double monthlySalary) {
         if (monthlySalary <= 4000) return 180.00;
@@ -228,6 +299,12 @@ public class PayrollCalculatorTest {
             test.testPayrollCalculationComponents();
             test.testGovernmentContributions();
             
+            test.setUp();
+            test.testResultCacheHit();
+            
+            test.setUp();
+            test.testResultCacheMissWhenInputsChange();
+            
             System.out.println("🎉 All Payroll Calculator Tests Passed!");
             
         } catch (Exception e) {
@@ -21,6 +21,12 @@ public class TestSuite {
             System.out.println("\n📋 Running Employee DAO Tests...");
             EmployeeDAOTest.main(args);
             
+            System.out.println("\n📋 Running Employee Cache Tests...");
+            EmployeeCacheTest.main(args);
+            
+            System.out.println("\n📋 Running Batch Statement Tests...");
+            BatchStatementsTest.main(args);
+            
             System.out.println("\n📋 Running Login Form Tests...");
             LoginFormTest.main(args);
             
@@ -0,0 +1,185 @@
+package dao;
+
+import model.Attendance;
+import model.AttendanceSummary;
+import model.Employee;
+import model.EmployeeListRow;
+import model.LeaveRequestListRow;
+import model.Payroll;
+import util.ConfigurationManager;
+import util.QueryScope;
+import util.VirtualThreads;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs DAO calls off the calling thread so a slow query cannot freeze the
+ * Swing dialog that issued it.
+ *
+ * Each call returns a CompletableFuture and runs on a virtual thread; at most
+ * db.async.max.concurrent calls run at once. Every statement the call makes gets the query timeout of
+ * its {@link QueryKind}, and the future fails with a TimeoutException once
+ * that time has passed.
+ *
+ * Cancelling the returned future, or its timing out, calls Statement.cancel()
+ * on the query still running, so a screen can drop a superseded query:
+ * <pre>
+ * if (pendingSearch != null) {
+ *     pendingSearch.cancel(true);
+ * }
+ * pendingSearch = asyncDAO.searchEmployeeListRows(term);
+ * pendingSearch.thenAccept(rows -&gt; SwingUtilities.invokeLater(() -&gt; showRows(rows)));
+ * </pre>
+ * Cancel the future returned here; cancelling one derived from it with
+ * thenApply or thenAccept does not reach the query.
+ */
+public class AsyncDAO {
+
+    /**
+     * Kinds of DAO call, each with its own default query timeout. Override a
+     * default with db.query.timeout.&lt;key&gt;.seconds.
+     */
+    public enum QueryKind {
+        /** Single row by key */
+        LOOKUP("lookup", 5),
+        /** Search as the user types */
+        SEARCH("search", 5),
+        /** A table or a page of one */
+        LIST("list", 15),
+        /** Period-wide aggregates for reports */
+        REPORT("report", 60);
+
+        private final String key;
+        private final int defaultSeconds;
+
+        QueryKind(String key, int defaultSeconds) {
+            this.key = key;
+            this.defaultSeconds = defaultSeconds;
+        }
+
+        public int getTimeoutSeconds() {
+            return ConfigurationManager.getInstance().getQueryTimeoutSeconds(key, defaultSeconds);
+        }
+    }
+
+    private final EmployeeDAO employeeDAO;
+    private final LeaveRequestDAO leaveRequestDAO;
+    private final AttendanceDAO attendanceDAO;
+    private final PayrollDAO payrollDAO;
+
+    public AsyncDAO() {
+        this.employeeDAO = new EmployeeDAO();
+        this.leaveRequestDAO = new LeaveRequestDAO();
+        this.attendanceDAO = new AttendanceDAO();
+        this.payrollDAO = new PayrollDAO();
+    }
+
+    public CompletableFuture<List<EmployeeListRow>> searchEmployeeListRows(String searchTerm) {
+        return submit(QueryKind.SEARCH, () -> employeeDAO.searchEmployeeListRows(searchTerm));
+    }
+
+    public CompletableFuture<Page<EmployeeListRow>> getEmployeeListPage(EmployeeListRow after, int pageSize) {
+        return submit(QueryKind.LIST, () -> employeeDAO.getEmployeeListPage(after, pageSize));
+    }
+
+    public CompletableFuture<Employee> getEmployeeById(int employeeId) {
+        return submit(QueryKind.LOOKUP, () -> employeeDAO.getEmployeeById(employeeId));
+    }
+
+    public CompletableFuture<Integer> getEmployeeCount() {
+        return submit(QueryKind.LOOKUP, employeeDAO::getEmployeeCount);
+    }
+
+    public CompletableFuture<List<LeaveRequestListRow>> getLeaveRequestListRows(String status) {
+        return submit(QueryKind.LIST, () -> leaveRequestDAO.getLeaveRequestListRows(status));
+    }
+
+    public CompletableFuture<List<Attendance>> getAttendanceByEmployeeIdBetweenDates(int employeeId,
+                                                                                  LocalDate periodStart, LocalDate periodEnd) {
+        return submit(QueryKind.LIST,
+                () -> attendanceDAO.getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd));
+    }
+
+    public CompletableFuture<Map<Integer, AttendanceSummary>> getAttendanceSummariesByPeriod(LocalDate periodStart,
+                                                                                          LocalDate periodEnd) {
+        return submit(QueryKind.REPORT, () -> attendanceDAO.getAttendanceSummariesByPeriod(periodStart, periodEnd));
+    }
+
+    public CompletableFuture<Page<Payroll>> getPayrollPageByEmployeeId(int employeeId, Payroll after, int pageSize) {
+        return submit(QueryKind.LIST, () -> payrollDAO.getPayrollPageByEmployeeId(employeeId, after, pageSize));
+    }
+
+    /**
+     * Runs any DAO call with the timeout of the given kind
+     * @param query the DAO call; runs on another thread
+     */
+    public <T> CompletableFuture<T> submit(QueryKind kind, Supplier<T> query) {
+        return submit(kind.getTimeoutSeconds(), query);
+    }
+
+    /**
+     * Runs any DAO call with an explicit timeout
+     * @param timeoutSeconds query and overall timeout; 0 for none
+     * @param query the DAO call; runs on another thread
+     */
+    public <T> CompletableFuture<T> submit(int timeoutSeconds, Supplier<T> query) {
+        QueryScope scope = new QueryScope(timeoutSeconds);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Workers.EXECUTOR.execute(() -> run(query, scope, future));
+        if (timeoutSeconds > 0) {
+            future.orTimeout(timeoutSeconds, TimeUnit.SECONDS);
+        }
+        future.whenComplete((result, error) -> {
+            if (error != null && !scope.isCancelled()) {
+                // Cancelling makes a server round trip; keep it off the thread that cancelled
+                Workers.CANCELLER.execute(scope::cancel);
+            }
+        });
+        return future;
+    }
+
+    private static <T> void run(Supplier<T> query, QueryScope scope, CompletableFuture<T> future) {
+        if (future.isDone()) {
+            return; // cancelled while queued
+        }
+        try {
+            Workers.PERMITS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return;
+        }
+        QueryScope.Binding binding = null;
+        try {
+            binding = scope.bind();
+            if (!future.isDone()) {
+                future.complete(query.get());
+            }
+        } catch (Throwable e) {
+            // Errors too, or the future would wait for its timeout (forever with none);
+            // ignored if the future was already cancelled or timed out
+            future.completeExceptionally(e);
+        } finally {
+            if (binding != null) {
+                binding.close();
+            }
+            Workers.PERMITS.release();
+        }
+    }
+
+    /**
+     * Threads for async calls, created on first use
+     */
+    private static final class Workers {
+        static final int CONCURRENCY = Math.max(1, ConfigurationManager.getInstance().getAsyncQueryConcurrency());
+        static final Semaphore PERMITS = new Semaphore(CONCURRENCY, true);
+        static final ExecutorService EXECUTOR = VirtualThreads.newExecutor("db-query");
+        static final ExecutorService CANCELLER = VirtualThreads.newExecutor("db-cancel");
+    }
+}
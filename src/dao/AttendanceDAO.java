@@ -1,17 +1,25 @@
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.Attendance;
+import model.AttendanceSummary;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 public class AttendanceDAO {
     private static final Logger logger = Logger.getLogger(AttendanceDAO.class.getName());
 
+    // MySQL error codes raised by the attendance table's constraints
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final int MYSQL_NO_REFERENCED_ROW = 1216;
+    private static final int MYSQL_NO_REFERENCED_ROW_2 = 1452;
+
     public List<Attendance> getAttendanceByEmployeeId(int empId) {
         if (empId <= 0) {
             throw new IllegalArgumentException("Employee ID must be positive");
@@ -20,7 +28,7 @@ public class AttendanceDAO {
         List<Attendance> list = new ArrayList<>();
         String query = "SELECT * FROM attendance WHERE employee_id = ? ORDER BY date DESC";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, empId);
@@ -40,6 +48,38 @@ public class AttendanceDAO {
     }
 
 
+    /**
+     * Streams an employee's full attendance history, newest first, without
+     * loading it into a list. The stream holds a database connection until it
+     * is closed, so use it in a try-with-resources block.
+     */
+    public Stream<Attendance> streamAttendanceByEmployeeId(int empId) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+
+        String query = "SELECT * FROM attendance WHERE employee_id = ? ORDER BY date DESC";
+        return RowStreams.stream(query, stmt -> stmt.setInt(1, empId), this::mapResultSetToAttendance);
+    }
+
+
+    /**
+     * Passes each of an employee's attendance records, newest first, to the action.
+     * @return number of records read
+     */
+    public int forEachAttendanceByEmployeeId(int empId, Consumer<Attendance> action) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        String query = "SELECT * FROM attendance WHERE employee_id = ? ORDER BY date DESC";
+        return RowStreams.forEach(query, stmt -> stmt.setInt(1, empId), this::mapResultSetToAttendance, action);
+    }
+
+
     public List<Attendance> getAttendanceByEmployeeIdBetweenDates(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
         if (employeeId <= 0) {
             throw new IllegalArgumentException("Employee ID must be positive");
@@ -54,7 +94,7 @@ public class AttendanceDAO {
         List<Attendance> list = new ArrayList<>();
         String query = "SELECT * FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ? ORDER BY date DESC";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -78,93 +118,169 @@ public class AttendanceDAO {
     }
 
 
-    public int insertAttendance(Attendance attendance) {
-        // ENHANCED: Comprehensive input validation
-        if (attendance == null) {
-            throw new IllegalArgumentException("Attendance cannot be null");
-        }
-        if (attendance.getEmployeeId() <= 0) {
-            throw new IllegalArgumentException("Employee ID must be positive, got: " + attendance.getEmployeeId());
+    /**
+     * Loads every employee's attendance for a period in a single query.
+     * @return records keyed by employee ID, newest first; employees without records are absent
+     */
+    public Map<Integer, List<Attendance>> getAttendanceByPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return loadAttendanceByPeriod(Collections.emptySet(), periodStart, periodEnd);
+    }
+
+
+    /**
+     * Loads the given employees' attendance for a period in a single query.
+     * @return records keyed by employee ID, newest first; employees without records are absent
+     */
+    public Map<Integer, List<Attendance>> getAttendanceByPeriod(Collection<Integer> employeeIds,
+                                                                LocalDate periodStart, LocalDate periodEnd) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        if (ids.isEmpty()) {
+            return new LinkedHashMap<>();
         }
-        if (attendance.getDate() == null) {
-            throw new IllegalArgumentException("Date cannot be null");
+        return loadAttendanceByPeriod(ids, periodStart, periodEnd);
+    }
+
+
+    private Map<Integer, List<Attendance>> loadAttendanceByPeriod(Set<Integer> ids, LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
         }
-        if (attendance.getLogIn() == null) {
-            throw new IllegalArgumentException("Log in time cannot be null");
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
         }
 
-        // ENHANCED: Validate date is not in the future
-        LocalDate today = LocalDate.now();
-        LocalDate attendanceDate = attendance.getDate().toLocalDate();
-        if (attendanceDate.isAfter(today)) {
-            throw new IllegalArgumentException("Attendance date cannot be in the future: " + attendanceDate);
-        }
+        Map<Integer, List<Attendance>> attendanceByEmployee = new LinkedHashMap<>();
+        String query = "SELECT * FROM attendance WHERE date >= ? AND date <= ?"
+                + BulkQueries.employeeIdFilter(ids.size())
+                + " ORDER BY employee_id, date DESC";
 
-        // ENHANCED: Validate date is not too far in the past (optional business rule)
-        LocalDate maxPastDate = today.minusDays(30); // Allow up to 30 days past
-        if (attendanceDate.isBefore(maxPastDate)) {
-            throw new IllegalArgumentException("Attendance date is too far in the past: " + attendanceDate +
-                    ". Maximum allowed past date is: " + maxPastDate);
-        }
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
 
-        // ENHANCED: Validate log times
-        if (attendance.getLogOut() != null) {
-            LocalTime logIn = attendance.getLogIn().toLocalTime();
-            LocalTime logOut = attendance.getLogOut().toLocalTime();
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            BulkQueries.bindIds(stmt, 3, ids);
 
-            if (logOut.isBefore(logIn)) {
-                throw new IllegalArgumentException("Log out time (" + logOut +
-                        ") cannot be before log in time (" + logIn + ")");
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Attendance a = mapResultSetToAttendance(rs);
+                    BulkQueries.addToGroup(attendanceByEmployee, a.getEmployeeId(), a);
+                }
             }
 
-            // Check for reasonable working hours (24 hours max)
-            long workingMinutes = java.time.Duration.between(logIn, logOut).toMinutes();
-            if (workingMinutes > 24 * 60) { // More than 24 hours
-                throw new IllegalArgumentException("Working hours cannot exceed 24 hours. " +
-                        "Log in: " + logIn + ", Log out: " + logOut);
-            }
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance for " + BulkQueries.describe(ids) +
+                    " between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
         }
 
-        // ENHANCED: Check if employee exists
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement checkStmt = conn.prepareStatement("SELECT 1 FROM employees WHERE employee_id = ?")) {
+        return attendanceByEmployee;
+    }
 
-            checkStmt.setInt(1, attendance.getEmployeeId());
-            try (ResultSet rs = checkStmt.executeQuery()) {
-                if (!rs.next()) {
-                    throw new IllegalArgumentException("Employee ID " + attendance.getEmployeeId() +
-                            " does not exist in the system. Please verify the employee ID.");
-                }
-            }
-        } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error validating employee existence for ID: " + attendance.getEmployeeId(), e);
-            throw new RuntimeException("Error validating employee: " + e.getMessage(), e);
+
+    /**
+     * Totals every employee's attendance for a period in one grouped query.
+     * @return summaries keyed by employee ID; employees without records are absent
+     */
+    public Map<Integer, AttendanceSummary> getAttendanceSummariesByPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return loadAttendanceSummaries(Collections.emptySet(), periodStart, periodEnd);
+    }
+
+
+    /**
+     * Totals the given employees' attendance for a period in one grouped query.
+     * @return summaries keyed by employee ID; employees without records are absent
+     */
+    public Map<Integer, AttendanceSummary> getAttendanceSummariesByPeriod(Collection<Integer> employeeIds,
+                                                                          LocalDate periodStart, LocalDate periodEnd) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        if (ids.isEmpty()) {
+            return new LinkedHashMap<>();
         }
+        return loadAttendanceSummaries(ids, periodStart, periodEnd);
+    }
 
-        // ENHANCED: Check for duplicate attendance on the same date
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement duplicateStmt = conn.prepareStatement(
-                     "SELECT id FROM attendance WHERE employee_id = ? AND date = ?")) {
 
-            duplicateStmt.setInt(1, attendance.getEmployeeId());
-            duplicateStmt.setDate(2, attendance.getDate());
+    /**
+     * @return the employee's totals for the period, all zero if there are no records
+     */
+    public AttendanceSummary getAttendanceSummary(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        AttendanceSummary summary = getAttendanceSummariesByPeriod(
+                Collections.singleton(employeeId), periodStart, periodEnd).get(employeeId);
+        return summary != null ? summary : AttendanceSummary.empty(employeeId);
+    }
 
-            try (ResultSet rs = duplicateStmt.executeQuery()) {
-                if (rs.next()) {
-                    throw new IllegalArgumentException("Attendance record already exists for employee " +
-                            attendance.getEmployeeId() + " on date " + attendance.getDate() +
-                            ". Existing record ID: " + rs.getInt("id"));
+
+    private Map<Integer, AttendanceSummary> loadAttendanceSummaries(Set<Integer> ids, LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+
+        // Same rules as AttendanceSummary.fromRecords: whole minutes, late only past the threshold
+        Map<Integer, AttendanceSummary> summaries = new LinkedHashMap<>();
+        String query = "SELECT employee_id, COUNT(*) AS days_present, "
+                + "SUM(TRUNCATE((TIME_TO_SEC(log_out) - TIME_TO_SEC(log_in)) / 60, 0)) AS work_minutes, "
+                + "SUM(log_in > ?) AS late_count, "
+                + "SUM(CASE WHEN log_in > ? THEN TRUNCATE((TIME_TO_SEC(log_in) - TIME_TO_SEC(?)) / 60, 0) ELSE 0 END) AS late_minutes, "
+                + "SUM(log_out < ?) AS undertime_count, "
+                + "SUM(CASE WHEN log_out < ? THEN TRUNCATE((TIME_TO_SEC(?) - TIME_TO_SEC(log_out)) / 60, 0) ELSE 0 END) AS undertime_minutes "
+                + "FROM attendance WHERE log_in IS NOT NULL AND date >= ? AND date <= ?"
+                + BulkQueries.employeeIdFilter(ids.size())
+                + " GROUP BY employee_id ORDER BY employee_id";
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            Time lateThreshold = Time.valueOf(AttendanceSummary.LATE_THRESHOLD);
+            Time shiftEnd = Time.valueOf(AttendanceSummary.SHIFT_END);
+            stmt.setTime(1, lateThreshold);
+            stmt.setTime(2, lateThreshold);
+            stmt.setTime(3, Time.valueOf(AttendanceSummary.SHIFT_START));
+            stmt.setTime(4, shiftEnd);
+            stmt.setTime(5, shiftEnd);
+            stmt.setTime(6, shiftEnd);
+            stmt.setDate(7, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(8, java.sql.Date.valueOf(periodEnd));
+            BulkQueries.bindIds(stmt, 9, ids);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int employeeId = rs.getInt("employee_id");
+                    summaries.put(employeeId, new AttendanceSummary(
+                            employeeId,
+                            rs.getInt("days_present"),
+                            rs.getLong("work_minutes"),
+                            rs.getInt("late_count"),
+                            rs.getLong("late_minutes"),
+                            rs.getInt("undertime_count"),
+                            rs.getLong("undertime_minutes")));
                 }
             }
-        } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error checking for duplicate attendance", e);
-            throw new RuntimeException("Error checking duplicate attendance: " + e.getMessage(), e);
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error summarizing attendance for " + BulkQueries.describe(ids) +
+                    " between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to summarize attendance records", ex);
         }
 
-        // ENHANCED: Insert attendance record with detailed logging
+        return summaries;
+    }
+
+
+    public int insertAttendance(Attendance attendance) {
+        validateAttendanceForInsert(attendance);
+
+        // The employee foreign key and the unique (employee_id, date) key reject
+        // unknown employees and second records for a day, so one INSERT is enough
         String query = "INSERT INTO attendance (employee_id, date, log_in, log_out) VALUES (?, ?, ?, ?)";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setInt(1, attendance.getEmployeeId());
@@ -196,6 +312,12 @@ public class AttendanceDAO {
             }
 
         } catch (SQLException ex) {
+            IllegalArgumentException violation = mapConstraintViolation(ex, attendance);
+            if (violation != null) {
+                logger.warning("Attendance rejected: " + violation.getMessage());
+                throw violation;
+            }
+
             logger.log(Level.SEVERE, "Error inserting attendance record", ex);
 
             // ENHANCED: Provide specific error messages based on SQL error types
@@ -220,6 +342,155 @@ public class AttendanceDAO {
     }
 
 
+    /**
+     * Inserts many attendance records with JDBC batching, applying the same
+     * checks as insertAttendance. Employee existence and existing records are
+     * looked up with one query each for the whole list instead of per row.
+     * @return saved rows (with generated IDs) and per-row failures
+     */
+    public BatchResult<Attendance> insertAttendanceRecords(List<Attendance> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("Attendance records cannot be null");
+        }
+
+        Set<Integer> employeeIds = new LinkedHashSet<>();
+        LocalDate earliest = null;
+        LocalDate latest = null;
+        for (Attendance attendance : records) {
+            if (attendance == null || attendance.getEmployeeId() <= 0 || attendance.getDate() == null) {
+                continue; // rejected by validation below
+            }
+            employeeIds.add(attendance.getEmployeeId());
+            LocalDate date = attendance.getDate().toLocalDate();
+            earliest = earliest == null || date.isBefore(earliest) ? date : earliest;
+            latest = latest == null || date.isAfter(latest) ? date : latest;
+        }
+
+        Set<Integer> knownEmployees = findExistingEmployees(employeeIds);
+        Set<String> takenDays = employeeIds.isEmpty()
+                ? new HashSet<>()
+                : findAttendanceDays(employeeIds, earliest, latest);
+
+        String query = "INSERT INTO attendance (employee_id, date, log_in, log_out) VALUES (?, ?, ?, ?)";
+
+        try {
+            BatchResult<Attendance> result = BatchStatements.execute(query, records,
+                    attendance -> {
+                        validateAttendanceForInsert(attendance);
+                        if (!knownEmployees.contains(attendance.getEmployeeId())) {
+                            throw new IllegalArgumentException("Employee ID " + attendance.getEmployeeId() +
+                                    " does not exist in the system. Please verify the employee ID.");
+                        }
+                        // add() also rejects a second record for the same day within this list
+                        if (!takenDays.add(attendanceDayKey(attendance.getEmployeeId(), attendance.getDate()))) {
+                            throw new IllegalArgumentException("Attendance record already exists for employee " +
+                                    attendance.getEmployeeId() + " on date " + attendance.getDate());
+                        }
+                    },
+                    (stmt, attendance) -> {
+                        stmt.setInt(1, attendance.getEmployeeId());
+                        stmt.setDate(2, attendance.getDate());
+                        stmt.setTime(3, attendance.getLogIn());
+                        stmt.setTime(4, attendance.getLogOut());
+                    },
+                    Attendance::setId);
+            logger.info("Batch attendance insert: " + result);
+            return result;
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting attendance batch", ex);
+            throw new RuntimeException("Failed to insert attendance records", ex);
+        }
+    }
+
+
+    /**
+     * Updates many attendance records with JDBC batching
+     * @return updated rows and per-row failures, including IDs that matched no record
+     */
+    public BatchResult<Attendance> updateAttendanceRecords(List<Attendance> records) {
+        String query = "UPDATE attendance SET employee_id = ?, date = ?, log_in = ?, log_out = ? WHERE id = ?";
+
+        try {
+            BatchResult<Attendance> result = BatchStatements.execute(query, records,
+                    attendance -> {
+                        if (attendance.getId() <= 0) {
+                            throw new IllegalArgumentException("Attendance ID must be positive");
+                        }
+                    },
+                    (stmt, attendance) -> {
+                        stmt.setInt(1, attendance.getEmployeeId());
+                        stmt.setDate(2, attendance.getDate());
+                        stmt.setTime(3, attendance.getLogIn());
+                        stmt.setTime(4, attendance.getLogOut());
+                        stmt.setInt(5, attendance.getId());
+                    },
+                    null);
+            logger.info("Batch attendance update: " + result);
+            return result;
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error updating attendance batch", ex);
+            throw new RuntimeException("Failed to update attendance records", ex);
+        }
+    }
+
+
+    private Set<Integer> findExistingEmployees(Set<Integer> employeeIds) {
+        Set<Integer> existing = new HashSet<>();
+        if (employeeIds.isEmpty()) {
+            return existing;
+        }
+
+        String query = "SELECT employee_id FROM employees WHERE employee_id IN "
+                + BulkQueries.placeholders(employeeIds.size());
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            BulkQueries.bindIds(stmt, 1, employeeIds);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Error validating employee existence for " + employeeIds.size() + " employees", e);
+            throw new RuntimeException("Error validating employees: " + e.getMessage(), e);
+        }
+
+        return existing;
+    }
+
+
+    private Set<String> findAttendanceDays(Set<Integer> employeeIds, LocalDate periodStart, LocalDate periodEnd) {
+        Set<String> days = new HashSet<>();
+        String query = "SELECT employee_id, date FROM attendance WHERE date >= ? AND date <= ?"
+                + BulkQueries.employeeIdFilter(employeeIds.size());
+
+        try (Connection conn = DataSourceManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            BulkQueries.bindIds(stmt, 3, employeeIds);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    days.add(attendanceDayKey(rs.getInt("employee_id"), rs.getDate("date")));
+                }
+            }
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Error checking for duplicate attendance", e);
+            throw new RuntimeException("Error checking duplicate attendance: " + e.getMessage(), e);
+        }
+
+        return days;
+    }
+
+
+    private static String attendanceDayKey(int employeeId, java.sql.Date date) {
+        return employeeId + "|" + date;
+    }
+
+
     public boolean updateAttendance(Attendance attendance) {
         if (attendance == null) {
             throw new IllegalArgumentException("Attendance cannot be null");
@@ -230,7 +501,7 @@ public class AttendanceDAO {
 
         String query = "UPDATE attendance SET employee_id = ?, date = ?, log_in = ?, log_out = ? WHERE id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, attendance.getEmployeeId());
@@ -243,6 +514,10 @@ public class AttendanceDAO {
             return affectedRows > 0;
 
         } catch (SQLException ex) {
+            IllegalArgumentException violation = mapConstraintViolation(ex, attendance);
+            if (violation != null) {
+                throw violation;
+            }
             logger.log(Level.SEVERE, "Error updating attendance record", ex);
             throw new RuntimeException("Failed to update attendance record", ex);
         }
@@ -255,7 +530,7 @@ public class AttendanceDAO {
 
         String query = "DELETE FROM attendance WHERE id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, attendanceId);
@@ -275,7 +550,7 @@ public class AttendanceDAO {
 
         String query = "SELECT * FROM attendance WHERE id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, attendanceId);
@@ -303,7 +578,7 @@ public class AttendanceDAO {
 
         String query = "SELECT COUNT(*) FROM attendance WHERE employee_id = ? AND date = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -337,7 +612,7 @@ public class AttendanceDAO {
 
         String query = "SELECT COUNT(*) FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -370,7 +645,7 @@ public class AttendanceDAO {
 
         String query = "SELECT * FROM attendance WHERE employee_id = ? AND date = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -391,6 +666,75 @@ public class AttendanceDAO {
     }
 
 
+    private void validateAttendanceForInsert(Attendance attendance) {
+        // ENHANCED: Comprehensive input validation
+        if (attendance == null) {
+            throw new IllegalArgumentException("Attendance cannot be null");
+        }
+        if (attendance.getEmployeeId() <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive, got: " + attendance.getEmployeeId());
+        }
+        if (attendance.getDate() == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (attendance.getLogIn() == null) {
+            throw new IllegalArgumentException("Log in time cannot be null");
+        }
+
+        // ENHANCED: Validate date is not in the future
+        LocalDate today = LocalDate.now();
+        LocalDate attendanceDate = attendance.getDate().toLocalDate();
+        if (attendanceDate.isAfter(today)) {
+            throw new IllegalArgumentException("Attendance date cannot be in the future: " + attendanceDate);
+        }
+
+        // ENHANCED: Validate date is not too far in the past (optional business rule)
+        LocalDate maxPastDate = today.minusDays(30); // Allow up to 30 days past
+        if (attendanceDate.isBefore(maxPastDate)) {
+            throw new IllegalArgumentException("Attendance date is too far in the past: " + attendanceDate +
+                    ". Maximum allowed past date is: " + maxPastDate);
+        }
+
+        // ENHANCED: Validate log times
+        if (attendance.getLogOut() != null) {
+            LocalTime logIn = attendance.getLogIn().toLocalTime();
+            LocalTime logOut = attendance.getLogOut().toLocalTime();
+
+            if (logOut.isBefore(logIn)) {
+                throw new IllegalArgumentException("Log out time (" + logOut +
+                        ") cannot be before log in time (" + logIn + ")");
+            }
+
+            // Check for reasonable working hours (24 hours max)
+            long workingMinutes = java.time.Duration.between(logIn, logOut).toMinutes();
+            if (workingMinutes > 24 * 60) { // More than 24 hours
+                throw new IllegalArgumentException("Working hours cannot exceed 24 hours. " +
+                        "Log in: " + logIn + ", Log out: " + logOut);
+            }
+        }
+    }
+
+
+    /**
+     * Turns a duplicate-day or unknown-employee constraint error into the
+     * IllegalArgumentException callers get for invalid input
+     * @return the exception to throw, or null if the error is not one of these
+     */
+    private IllegalArgumentException mapConstraintViolation(SQLException ex, Attendance attendance) {
+        switch (ex.getErrorCode()) {
+            case MYSQL_DUPLICATE_ENTRY:
+                return new IllegalArgumentException("Attendance record already exists for employee " +
+                        attendance.getEmployeeId() + " on date " + attendance.getDate());
+            case MYSQL_NO_REFERENCED_ROW:
+            case MYSQL_NO_REFERENCED_ROW_2:
+                return new IllegalArgumentException("Employee ID " + attendance.getEmployeeId() +
+                        " does not exist in the system. Please verify the employee ID.");
+            default:
+                return null;
+        }
+    }
+
+
     private Attendance mapResultSetToAttendance(ResultSet rs) throws SQLException {
         Attendance attendance = new Attendance();
         attendance.setId(rs.getInt("id")); // Using 'id' from database instead of 'attendance_id'
@@ -0,0 +1,91 @@
+package dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch insert or update: the rows that were written and, for
+ * each row that was not, its position in the input list and the reason.
+ * @param <T> model type of the rows
+ */
+public class BatchResult<T> {
+
+    private final List<T> saved = new ArrayList<>();
+    private final List<Failure<T>> failures = new ArrayList<>();
+
+    void addSaved(T row) {
+        saved.add(row);
+    }
+
+    void addFailure(int index, T row, String reason) {
+        failures.add(new Failure<>(index, row, reason));
+    }
+
+    /**
+     * @return rows written, in input order; inserted rows carry their generated IDs
+     *         unless the driver returned none for a partly failed batch
+     */
+    public List<T> getSaved() {
+        return Collections.unmodifiableList(saved);
+    }
+
+    /**
+     * @return rows that were not written, in input order
+     */
+    public List<Failure<T>> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    public int getSavedCount() {
+        return saved.size();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{saved=" + saved.size() + ", failed=" + failures.size() + "}";
+    }
+
+    /**
+     * A row that could not be written
+     */
+    public static final class Failure<T> {
+        private final int index;
+        private final T row;
+        private final String reason;
+
+        Failure(int index, T row, String reason) {
+            this.index = index;
+            this.row = row;
+            this.reason = reason;
+        }
+
+        /**
+         * @return position of the row in the list passed to the batch method
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public T getRow() {
+            return row;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "row " + index + ": " + reason;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package dao;
+
+import util.DataSourceManager;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs one INSERT or UPDATE for many rows with addBatch/executeBatch.
+ *
+ * Rows are sent in chunks of {@link #BATCH_SIZE}; with the "performance" URL
+ * profile (rewriteBatchedStatements=true) MySQL Connector/J turns each chunk
+ * into a single multi-row statement, so one bad row fails the whole chunk.
+ * The rows the driver reports as failed are then split in halves and each
+ * half re-run as a batch, narrowing down to the bad rows without re-running
+ * the whole chunk one row at a time. One bad row does not lose the rest and
+ * each failure is reported against its own row.
+ *
+ * The batch runs on {@link DataSourceManager#getConnection()}, so inside a
+ * {@link util.UnitOfWork} it joins the open transaction.
+ */
+final class BatchStatements {
+    private static final Logger logger = Logger.getLogger(BatchStatements.class.getName());
+
+    static final int BATCH_SIZE = 500;
+
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement stmt, T row) throws SQLException;
+    }
+
+    private BatchStatements() {
+    }
+
+    /**
+     * @param validator throws IllegalArgumentException for rows that must not be written
+     * @param keySetter receives each inserted row's generated key, or null for updates
+     * @throws SQLException if no connection or statement can be obtained
+     */
+    static <T> BatchResult<T> execute(String sql, List<T> rows, Consumer<T> validator,
+                                      Binder<T> binder, ObjIntConsumer<T> keySetter) throws SQLException {
+        if (rows == null) {
+            throw new IllegalArgumentException("Rows cannot be null");
+        }
+
+        BatchResult<T> result = new BatchResult<>();
+        if (rows.isEmpty()) {
+            return result;
+        }
+
+        int keyMode = keySetter != null ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS;
+        try (Connection conn = DataSourceManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, keyMode)) {
+
+            for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                executeChunk(stmt, rows, from, Math.min(from + BATCH_SIZE, rows.size()),
+                        validator, binder, keySetter, result);
+            }
+        }
+        return result;
+    }
+
+    private static <T> void executeChunk(PreparedStatement stmt, List<T> rows, int from, int to,
+                                         Consumer<T> validator, Binder<T> binder, ObjIntConsumer<T> keySetter,
+                                         BatchResult<T> result) throws SQLException {
+        int size = to - from;
+        String[] failures = new String[size];
+        boolean[] written = new boolean[size];
+        List<Integer> batched = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            T row = rows.get(from + i);
+            try {
+                if (row == null) {
+                    throw new IllegalArgumentException("Row cannot be null");
+                }
+                validator.accept(row);
+            } catch (IllegalArgumentException e) {
+                failures[i] = e.getMessage();
+                continue;
+            }
+            binder.bind(stmt, row);
+            stmt.addBatch();
+            batched.add(i);
+        }
+
+        if (batched.isEmpty()) {
+            record(rows, from, failures, written, result);
+            return;
+        }
+
+        runBatch(stmt, rows, from, batched, binder, keySetter, failures, written, true);
+        record(rows, from, failures, written, result);
+    }
+
+    /**
+     * Executes one batch of rows, bound and added already unless bound is false. Rows the
+     * driver reports as failed are split in halves and each half is re-run as
+     * its own batch, down to single rows, so the rows that cannot be written
+     * are found in about log2(n) round trips per bad row and each gets its
+     * own error message.
+     * @param bound false if the rows still have to be bound and added
+     */
+    private static <T> void runBatch(PreparedStatement stmt, List<T> rows, int from, List<Integer> indexes,
+                                     Binder<T> binder, ObjIntConsumer<T> keySetter,
+                                     String[] failures, boolean[] written, boolean bound) throws SQLException {
+        if (!bound) {
+            for (int i : indexes) {
+                binder.bind(stmt, rows.get(from + i));
+                stmt.addBatch();
+            }
+        }
+
+        int[] counts;
+        String error = null;
+        try {
+            counts = stmt.executeBatch();
+        } catch (BatchUpdateException e) {
+            if (bound) {
+                logger.warning("Batch of " + indexes.size() + " rows failed, retrying failed rows in smaller batches: "
+                        + e.getMessage());
+            }
+            counts = e.getUpdateCounts();
+            error = e.getMessage();
+        }
+        stmt.clearBatch();
+
+        List<Integer> succeeded = new ArrayList<>(indexes.size());
+        List<Integer> failed = new ArrayList<>();
+        for (int b = 0; b < indexes.size(); b++) {
+            int i = indexes.get(b);
+            // A driver that stops at the first error returns fewer counts than rows;
+            // with rewriteBatchedStatements every row of the failed statement is reported
+            int count = counts != null && b < counts.length ? counts[b] : Statement.EXECUTE_FAILED;
+            if (count == Statement.EXECUTE_FAILED) {
+                failed.add(i);
+            } else if (count == 0) {
+                failures[i] = "No rows affected";
+            } else {
+                succeeded.add(i);
+                written[i] = true;
+            }
+        }
+        if (keySetter != null && !succeeded.isEmpty()) {
+            assignKeys(stmt, rows, from, succeeded, keySetter);
+        }
+
+        if (failed.size() == 1 && indexes.size() == 1) {
+            failures[failed.get(0)] = error;
+        } else if (!failed.isEmpty()) {
+            int half = (failed.size() + 1) / 2;
+            runBatch(stmt, rows, from, failed.subList(0, half), binder, keySetter, failures, written, false);
+            if (half < failed.size()) {
+                runBatch(stmt, rows, from, failed.subList(half, failed.size()), binder, keySetter,
+                        failures, written, false);
+            }
+        }
+    }
+
+    private static <T> void assignKeys(PreparedStatement stmt, List<T> rows, int from, List<Integer> indexes,
+                                       ObjIntConsumer<T> keySetter) throws SQLException {
+        List<Integer> keys = new ArrayList<>(indexes.size());
+        try (ResultSet rs = stmt.getGeneratedKeys()) {
+            while (rs != null && rs.next()) {
+                keys.add(rs.getInt(1));
+            }
+        }
+        if (keys.size() != indexes.size()) {
+            logger.log(Level.WARNING, "Expected {0} generated keys but got {1}; IDs left unset",
+                    new Object[] { indexes.size(), keys.size() });
+            return;
+        }
+        for (int k = 0; k < keys.size(); k++) {
+            keySetter.accept(rows.get(from + indexes.get(k)), keys.get(k));
+        }
+    }
+
+    private static <T> void record(List<T> rows, int from, String[] failures, boolean[] written,
+                                   BatchResult<T> result) {
+        for (int i = 0; i < failures.length; i++) {
+            T row = rows.get(from + i);
+            if (written[i]) {
+                result.addSaved(row);
+            } else {
+                result.addFailure(from + i, row, failures[i] != null ? failures[i] : "Not written");
+            }
+        }
+    }
+}
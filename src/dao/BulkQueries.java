@@ -0,0 +1,83 @@
+package dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helpers for DAO queries that load rows for many employees at once
+ */
+final class BulkQueries {
+
+    private BulkQueries() {
+    }
+
+    /**
+     * @return " AND employee_id IN (?, ?, ...)" for the given number of IDs, or "" for none
+     */
+    static String employeeIdFilter(int count) {
+        return count == 0 ? "" : " AND employee_id IN " + placeholders(count);
+    }
+
+    /**
+     * @return "(?, ?, ...)" with one placeholder per value
+     */
+    static String placeholders(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("At least one placeholder is required");
+        }
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ", ?");
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Binds the IDs starting at the given parameter index
+     * @return the next free parameter index
+     */
+    static int bindIds(PreparedStatement stmt, int index, Collection<Integer> ids) throws SQLException {
+        for (Integer id : ids) {
+            stmt.setInt(index++, id);
+        }
+        return index;
+    }
+
+    /**
+     * Adds a row to its employee's list
+     */
+    static <T> void addToGroup(Map<Integer, List<T>> groups, int employeeId, T row) {
+        groups.computeIfAbsent(employeeId, id -> new ArrayList<>()).add(row);
+    }
+
+    /**
+     * @return a short description of the ID filter for log messages
+     */
+    static String describe(Set<Integer> ids) {
+        return ids.isEmpty() ? "all employees" : ids.size() + " employees";
+    }
+
+    /**
+     * @return the IDs without duplicates, in their original order
+     * @throws IllegalArgumentException if the collection is null or contains a non-positive ID
+     */
+    static Set<Integer> distinctEmployeeIds(Collection<Integer> employeeIds) {
+        if (employeeIds == null) {
+            throw new IllegalArgumentException("Employee IDs cannot be null");
+        }
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Integer id : employeeIds) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("Employee ID must be positive, got: " + id);
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+}
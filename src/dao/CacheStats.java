@@ -0,0 +1,71 @@
+package dao;
+
+/**
+ * Point-in-time counters for one of the application's caches.
+ */
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long invalidations;
+    private final int size;
+    private final int maxSize;
+
+    public CacheStats(long hits, long misses, long evictions, long expirations, long invalidations, int size, int maxSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.invalidations = invalidations;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /** Lookups that went to the database, including expired entries */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** Entries dropped because the cache was full */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** Entries dropped because they were older than the time to live */
+    public long getExpirations() {
+        return expirations;
+    }
+
+    /** Entries dropped because the rows they were built from changed */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return hits as a fraction of all lookups, 0 before the first lookup
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, expirations=%d, " +
+                        "invalidations=%d, size=%d/%d}",
+                hits, misses, getHitRate() * 100, evictions, expirations, invalidations, size, maxSize);
+    }
+}
@@ -0,0 +1,333 @@
+package dao;
+
+import util.ConfigurationManager;
+import util.DataSourceManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Polls the tables the application reads for rows changed since the last
+ * poll and passes the changes to the caches and open screens, so they can
+ * refresh just those rows instead of reloading everything.
+ *
+ * Each {@link Source} keeps a watermark: the latest updated_at seen. Every
+ * change.feed.interval.seconds it asks for rows with updated_at at or after
+ * the watermark, which the updated_at indexes answer without a scan. A row
+ * updated in a transaction that commits after a later row is still found,
+ * because every poll looks back OVERLAP_MILLIS before the watermark. Rows
+ * already reported with the same updated_at are not reported again.
+ *
+ * Limits: updated_at has one-second precision, so a second update to a row
+ * within the same second as one already reported is not seen; deleted rows
+ * leave nothing to find. EmployeeDAO handles both for its own writes, and
+ * its cache's time to live covers changes made elsewhere.
+ *
+ * Listeners run on the polling thread; Swing screens must hand the delta to
+ * the event dispatch thread themselves.
+ */
+public final class ChangeFeed {
+    private static final Logger LOGGER = Logger.getLogger(ChangeFeed.class.getName());
+
+    // How far before the watermark each poll looks, for transactions that commit late
+    private static final long OVERLAP_MILLIS = 10_000;
+
+    // More changes than this in one poll are reported as a full reload
+    private static final int MAX_ROWS_PER_POLL = 1000;
+
+    private static final int MYSQL_BAD_FIELD = 1054;
+    private static final int MYSQL_NO_SUCH_TABLE = 1146;
+
+    /**
+     * Tables the feed polls, each with an indexed updated_at column
+     */
+    public enum Source {
+        EMPLOYEES("employees", "employee_id"),
+        ATTENDANCE("attendance", "id"),
+        LEAVE_REQUESTS("leave_request", "leave_id"),
+        PAYROLL("payroll", "payroll_id");
+
+        private final String table;
+        private final String keyColumn;
+
+        Source(String table, String keyColumn) {
+            this.table = table;
+            this.keyColumn = keyColumn;
+        }
+
+        public String getTable() {
+            return table;
+        }
+    }
+
+    /**
+     * Rows of one source changed since the previous poll
+     */
+    public static final class Delta {
+        private final Source source;
+        private final Set<Integer> rowIds;
+        private final Set<Integer> employeeIds;
+        private final boolean fullReload;
+
+        Delta(Source source, Set<Integer> rowIds, Set<Integer> employeeIds, boolean fullReload) {
+            this.source = source;
+            this.rowIds = Collections.unmodifiableSet(rowIds);
+            this.employeeIds = Collections.unmodifiableSet(employeeIds);
+            this.fullReload = fullReload;
+        }
+
+        public Source getSource() {
+            return source;
+        }
+
+        /** Primary keys of the changed rows */
+        public Set<Integer> getRowIds() {
+            return rowIds;
+        }
+
+        /** Employees the changed rows belong to */
+        public Set<Integer> getEmployeeIds() {
+            return employeeIds;
+        }
+
+        /**
+         * @return true if too many rows changed to list them; the ID sets are
+         *         empty and everything from this source should be reloaded
+         */
+        public boolean isFullReload() {
+            return fullReload;
+        }
+
+        @Override
+        public String toString() {
+            return "Delta{" + source + (fullReload ? ", full reload" : ", rows=" + rowIds.size()) + '}';
+        }
+    }
+
+    private static final ChangeFeed INSTANCE = new ChangeFeed();
+
+    private final Map<Source, SourceState> states = new EnumMap<>(Source.class);
+    private final Map<Source, List<Consumer<Delta>>> listeners = new EnumMap<>(Source.class);
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder rowsPublished = new LongAdder();
+    private volatile long lastPollMillis;
+    private volatile ScheduledExecutorService scheduler; // set under pollLock
+
+    private ChangeFeed() {
+        for (Source source : Source.values()) {
+            states.put(source, new SourceState());
+            listeners.put(source, new CopyOnWriteArrayList<>());
+        }
+        EmployeeDAO employeeDAO = new EmployeeDAO();
+        addListener(Source.EMPLOYEES, employeeDAO::applyExternalChanges);
+    }
+
+    public static ChangeFeed getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts polling every change.feed.interval.seconds; does nothing if
+     * already started or if the interval is 0
+     */
+    public void start() {
+        int seconds = ConfigurationManager.getInstance().getChangeFeedIntervalSeconds();
+        if (seconds <= 0) {
+            return;
+        }
+        pollLock.lock();
+        try {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "change-feed");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::poll, 0, seconds, TimeUnit.SECONDS);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * @return true once {@link #start()} has scheduled polling
+     */
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Registers a listener for changes to one source; it runs on the polling thread
+     */
+    public void addListener(Source source, Consumer<Delta> listener) {
+        listeners.get(source).add(listener);
+    }
+
+    public void removeListener(Source source, Consumer<Delta> listener) {
+        listeners.get(source).remove(listener);
+    }
+
+    /**
+     * Polls every source now and publishes what changed. The first poll of a
+     * source only records its current watermark.
+     * @return number of changed rows published
+     */
+    public int poll() {
+        int published = 0;
+        pollLock.lock();
+        try {
+            for (Source source : Source.values()) {
+                Delta delta = poll(source, states.get(source));
+                if (delta != null) {
+                    published += delta.fullReload ? 1 : delta.rowIds.size();
+                    publish(delta);
+                }
+            }
+            polls.increment();
+            rowsPublished.add(published);
+            lastPollMillis = System.currentTimeMillis();
+        } finally {
+            pollLock.unlock();
+        }
+        return published;
+    }
+
+    /**
+     * @return one line describing polling, for the admin screens
+     */
+    public String getStatus() {
+        if (!isRunning()) {
+            return "Change feed: not running";
+        }
+        long sinceLastPoll = lastPollMillis == 0 ? -1 : (System.currentTimeMillis() - lastPollMillis) / 1000;
+        return String.format("Change feed: %d polls, %d changes published, last poll %s",
+                polls.sum(), rowsPublished.sum(), sinceLastPoll < 0 ? "pending" : sinceLastPoll + "s ago");
+    }
+
+    private Delta poll(Source source, SourceState state) {
+        if (state.disabled) {
+            return null;
+        }
+        try (Connection conn = DataSourceManager.getReadConnection()) {
+            if (state.watermark == null) {
+                state.watermark = loadLatestUpdate(conn, source);
+                return null;
+            }
+            return loadChanges(conn, source, state);
+        } catch (SQLException ex) {
+            if (ex.getErrorCode() == MYSQL_BAD_FIELD || ex.getErrorCode() == MYSQL_NO_SUCH_TABLE) {
+                state.disabled = true;
+                LOGGER.warning("⚠️ " + source.table + " has no updated_at column; change feed stops polling it");
+            } else {
+                LOGGER.log(Level.WARNING, "⚠️ Change feed could not poll " + source.table + ", retrying next time", ex);
+            }
+            return null;
+        }
+    }
+
+    private Delta loadChanges(Connection conn, Source source, SourceState state) throws SQLException {
+        Timestamp from = new Timestamp(state.watermark.getTime() - OVERLAP_MILLIS);
+        String query = "SELECT " + source.keyColumn + ", employee_id, updated_at FROM " + source.table
+                + " WHERE updated_at >= ? ORDER BY updated_at LIMIT " + (MAX_ROWS_PER_POLL + 1);
+
+        Map<Integer, Timestamp> rowUpdates = new LinkedHashMap<>();
+        Map<Integer, Integer> rowEmployees = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setTimestamp(1, from);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int rowId = rs.getInt(1);
+                    rowEmployees.put(rowId, rs.getInt(2));
+                    rowUpdates.put(rowId, rs.getTimestamp(3));
+                }
+            }
+        }
+
+        if (rowUpdates.size() > MAX_ROWS_PER_POLL) {
+            state.watermark = loadLatestUpdate(conn, source);
+            state.reported.clear();
+            return new Delta(source, Collections.emptySet(), Collections.emptySet(), true);
+        }
+
+        Set<Integer> rowIds = new LinkedHashSet<>();
+        Set<Integer> employeeIds = new LinkedHashSet<>();
+        for (Map.Entry<Integer, Timestamp> row : rowUpdates.entrySet()) {
+            Timestamp updatedAt = row.getValue();
+            if (updatedAt == null) {
+                continue;
+            }
+            if (!updatedAt.equals(state.reported.put(row.getKey(), updatedAt))) {
+                rowIds.add(row.getKey());
+                employeeIds.add(rowEmployees.get(row.getKey()));
+            }
+            if (updatedAt.after(state.watermark)) {
+                state.watermark = updatedAt;
+            }
+        }
+
+        // Rows before the look-back window will not be returned again
+        long windowStart = state.watermark.getTime() - OVERLAP_MILLIS;
+        for (Iterator<Timestamp> it = state.reported.values().iterator(); it.hasNext(); ) {
+            if (it.next().getTime() < windowStart) {
+                it.remove();
+            }
+        }
+
+        return rowIds.isEmpty() ? null : new Delta(source, rowIds, employeeIds, false);
+    }
+
+    private Timestamp loadLatestUpdate(Connection conn, Source source) throws SQLException {
+        // The server's clock for an empty table, so no client clock skew creeps in
+        String query = "SELECT COALESCE(MAX(updated_at), CURRENT_TIMESTAMP) FROM " + source.table;
+        try (PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+            Timestamp latest = rs.next() ? rs.getTimestamp(1) : null;
+            return latest != null ? latest : new Timestamp(System.currentTimeMillis());
+        }
+    }
+
+    private void publish(Delta delta) {
+        LOGGER.fine("Change feed: " + delta);
+        for (Consumer<Delta> listener : listeners.get(delta.source)) {
+            try {
+                listener.accept(delta);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Change feed listener failed for " + delta, ex);
+            }
+        }
+    }
+
+    /**
+     * Polling position for one source; only touched while holding pollLock
+     */
+    private static final class SourceState {
+        Timestamp watermark;
+        // Rows reported within the look-back window, with the updated_at reported
+        final Map<Integer, Timestamp> reported = new HashMap<>();
+        boolean disabled;
+    }
+}
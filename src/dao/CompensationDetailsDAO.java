@@ -1,7 +1,7 @@
 
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.CompensationDetails;
 import java.sql.*;
 import java.util.logging.Level;
@@ -13,7 +13,7 @@ public class CompensationDetailsDAO {
     public CompensationDetails getById(int id) {
         String query = "SELECT * FROM compensation_details WHERE compensation_details_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, id);
@@ -34,7 +34,7 @@ public class CompensationDetailsDAO {
     public CompensationDetails getCompensationDetailsByEmployeeId(int employeeId) {
         String query = "SELECT * FROM compensation_details WHERE employee_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -55,7 +55,7 @@ public class CompensationDetailsDAO {
     public boolean insertCompensationDetails(CompensationDetails compensationDetails) {
         String sql = "INSERT INTO compensation_details (employee_id, rice_subsidy, phone_allowance, clothing_allowance) VALUES (?, ?, ?, ?)";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setInt(1, compensationDetails.getEmployeeId());
@@ -84,7 +84,7 @@ public class CompensationDetailsDAO {
     public boolean updateCompensationDetails(CompensationDetails compensationDetails) {
         String sql = "UPDATE compensation_details SET employee_id=?, rice_subsidy=?, phone_allowance=?, clothing_allowance=? WHERE compensation_details_id=?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, compensationDetails.getEmployeeId());
@@ -104,7 +104,7 @@ public class CompensationDetailsDAO {
     public boolean deleteCompensationDetails(int compId) {
         String sql = "DELETE FROM compensation_details WHERE compensation_details_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, compId);
@@ -1,6 +1,6 @@
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import java.sql.*;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -11,7 +11,7 @@ public class CredentialsDAO {
     public boolean authenticateUser(int employeeId, String password) {
         String query = "SELECT employee_id FROM credentials WHERE employee_id = ? AND password = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -30,7 +30,7 @@ public class CredentialsDAO {
     public boolean updatePassword(int employeeId, String newPassword) {
         String query = "UPDATE credentials SET password = ? WHERE employee_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, newPassword);
@@ -47,7 +47,7 @@ public class CredentialsDAO {
     public boolean createCredentials(int employeeId, String password) {
         String query = "INSERT INTO credentials (employee_id, password) VALUES (?, ?)";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -1,11 +1,18 @@
 package dao;
 
 import model.Deduction;
-import util.DBConnection;
+import model.DeductionTotals;
+import model.DeductionType;
+import util.DataSourceManager;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -26,7 +33,7 @@ public class DeductionDAO {
 
         String sql = "INSERT INTO deductions (employee_id, type, amount, description) VALUES (?, ?, ?, ?)";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setInt(1, deduction.getEmployeeId());
@@ -50,6 +57,60 @@ public class DeductionDAO {
         }
     }
 
+    /**
+     * Adds many deduction records with JDBC batching; each saved deduction gets its generated ID
+     * @return saved rows and per-row failures
+     */
+    public BatchResult<Deduction> addDeductions(List<Deduction> deductions) throws SQLException {
+        String sql = "INSERT INTO deductions (employee_id, type, amount, description) VALUES (?, ?, ?, ?)";
+
+        try {
+            BatchResult<Deduction> result = BatchStatements.execute(sql, deductions,
+                    deduction -> { },
+                    this::setDeductionParameters,
+                    Deduction::setDeductionId);
+            LOGGER.info("Batch deduction insert: " + result);
+            return result;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error adding deduction batch", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates many deduction records with JDBC batching
+     * @return updated rows and per-row failures, including IDs that matched no record
+     */
+    public BatchResult<Deduction> updateDeductions(List<Deduction> deductions) throws SQLException {
+        String sql = "UPDATE deductions SET employee_id = ?, type = ?, amount = ?, description = ? WHERE deduction_id = ?";
+
+        try {
+            BatchResult<Deduction> result = BatchStatements.execute(sql, deductions,
+                    deduction -> {
+                        if (deduction.getDeductionId() <= 0) {
+                            throw new IllegalArgumentException("Invalid deduction ID");
+                        }
+                    },
+                    (stmt, deduction) -> {
+                        setDeductionParameters(stmt, deduction);
+                        stmt.setInt(5, deduction.getDeductionId());
+                    },
+                    null);
+            LOGGER.info("Batch deduction update: " + result);
+            return result;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating deduction batch", e);
+            throw e;
+        }
+    }
+
+    private void setDeductionParameters(PreparedStatement stmt, Deduction deduction) throws SQLException {
+        stmt.setInt(1, deduction.getEmployeeId());
+        stmt.setString(2, deduction.getType());
+        stmt.setDouble(3, deduction.getAmount());
+        stmt.setString(4, deduction.getDescription());
+    }
+
     /**
      * Retrieves all deductions for a specific employee
      */
@@ -61,7 +122,7 @@ public class DeductionDAO {
         String sql = "SELECT * FROM deductions WHERE employee_id = ? ORDER BY deduction_date DESC";
         List<Deduction> deductions = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, employeeId);
@@ -103,7 +164,7 @@ public class DeductionDAO {
 
         String sql = "UPDATE deductions SET employee_id = ?, type = ?, amount = ?, description = ? WHERE deduction_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, deduction.getEmployeeId());
@@ -136,7 +197,7 @@ public class DeductionDAO {
 
         String sql = "DELETE FROM deductions WHERE deduction_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, deductionId);
@@ -164,7 +225,7 @@ public class DeductionDAO {
 
         String sql = "SELECT * FROM deductions WHERE deduction_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, deductionId);
@@ -204,7 +265,7 @@ public class DeductionDAO {
 
         String sql = "SELECT COALESCE(SUM(amount), 0) as total FROM deductions WHERE employee_id = ? AND type = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, employeeId);
@@ -222,6 +283,86 @@ public class DeductionDAO {
         return 0.0;
     }
 
+    /**
+     * Gets all of an employee's deduction totals in one grouped query
+     * @return total per type, with every type present (0 where none was recorded)
+     */
+    public EnumMap<DeductionType, Double> getTotalDeductionsByType(int employeeId) throws SQLException {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        return loadDeductionTotals(Collections.singleton(employeeId), null, null).forEmployee(employeeId);
+    }
+
+    /**
+     * Gets every employee's deduction totals per type for a period (by deduction date) in one grouped query
+     */
+    public DeductionTotals getDeductionTotalsByType(LocalDate periodStart, LocalDate periodEnd) throws SQLException {
+        validatePeriod(periodStart, periodEnd);
+        return loadDeductionTotals(Collections.emptySet(), periodStart, periodEnd);
+    }
+
+    /**
+     * Gets the given employees' deduction totals per type for a period (by deduction date) in one grouped query
+     */
+    public DeductionTotals getDeductionTotalsByType(Collection<Integer> employeeIds,
+                                                    LocalDate periodStart, LocalDate periodEnd) throws SQLException {
+        validatePeriod(periodStart, periodEnd);
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        if (ids.isEmpty()) {
+            return new DeductionTotals();
+        }
+        return loadDeductionTotals(ids, periodStart, periodEnd);
+    }
+
+    private static void validatePeriod(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+
+    /**
+     * One GROUP BY (employee_id, type) query. A null period means all dates,
+     * in which case ids must not be empty.
+     */
+    private DeductionTotals loadDeductionTotals(Set<Integer> ids, LocalDate periodStart, LocalDate periodEnd)
+            throws SQLException {
+        boolean byPeriod = periodStart != null;
+        String filter = byPeriod
+                ? " WHERE deduction_date >= ? AND deduction_date <= ?" + BulkQueries.employeeIdFilter(ids.size())
+                : " WHERE employee_id IN " + BulkQueries.placeholders(ids.size());
+        String sql = "SELECT employee_id, type, SUM(amount) AS total FROM deductions" + filter
+                + " GROUP BY employee_id, type ORDER BY employee_id";
+        DeductionTotals totals = new DeductionTotals();
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (byPeriod) {
+                stmt.setDate(index++, Date.valueOf(periodStart));
+                stmt.setDate(index++, Date.valueOf(periodEnd));
+            }
+            BulkQueries.bindIds(stmt, index, ids);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    totals.add(rs.getInt("employee_id"), DeductionType.fromCode(rs.getString("type")),
+                            rs.getDouble("total"));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error calculating deduction totals for " + BulkQueries.describe(ids)
+                    + (byPeriod ? " between " + periodStart + " and " + periodEnd : ""), e);
+            throw e;
+        }
+
+        return totals;
+    }
+
     /**
      * Concrete implementation of the abstract Deduction class
      * This is used internally by the DAO to create Deduction instances from database records
@@ -0,0 +1,169 @@
+package dao;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded read-through cache of employee rows for EmployeeDAO, keyed by
+ * employee ID. The least recently used entry is dropped when the cache is
+ * full, and entries older than the time to live are reloaded so changes made
+ * outside this application show up.
+ *
+ * EmployeeDAO invalidates an entry whenever it writes that employee. Every
+ * invalidation also bumps a generation counter: a lookup that started before
+ * the invalidation does not store its (possibly stale) row, so a read racing
+ * a write cannot put the old values back.
+ *
+ * Guarded by a ReentrantLock because an access-ordered LinkedHashMap is
+ * modified by every get.
+ */
+final class EmployeeCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private volatile int maxSize;
+    private volatile long ttlMillis;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    EmployeeCache(int maxSize, long ttlMillis) {
+        configure(maxSize, ttlMillis);
+    }
+
+    /**
+     * Applies new limits, dropping least recently used entries if the cache shrank
+     * @param maxSize entries kept; 0 disables caching
+     * @param ttlMillis how long an entry is served; 0 means until evicted or invalidated
+     */
+    void configure(int maxSize, long ttlMillis) {
+        lock.lock();
+        try {
+            this.maxSize = Math.max(0, maxSize);
+            this.ttlMillis = Math.max(0, ttlMillis);
+            trimToSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return the cached row, or null on a miss (counted); expired entries are dropped
+     */
+    EmployeeSnapshot get(int employeeId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(employeeId);
+            if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+                entries.remove(employeeId);
+                expirations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the current generation; pass it to {@link #put} after loading a row
+     */
+    long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a row loaded from the database, unless an invalidation happened
+     * since the load started (loadedAtGeneration is out of date)
+     */
+    void put(EmployeeSnapshot snapshot, long loadedAtGeneration) {
+        lock.lock();
+        try {
+            if (maxSize == 0 || loadedAtGeneration != generation) {
+                return;
+            }
+            entries.put(snapshot.getEmployeeId(), new Entry(snapshot, System.currentTimeMillis()));
+            trimToSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidate(int employeeId) {
+        lock.lock();
+        try {
+            generation++;
+            if (entries.remove(employeeId) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            invalidations.add(entries.size());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                    invalidations.sum(), entries.size(), maxSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        long ttl = ttlMillis;
+        return ttl > 0 && now - entry.loadedAtMillis >= ttl;
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<Integer, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+        final EmployeeSnapshot snapshot;
+        final long loadedAtMillis;
+
+        Entry(EmployeeSnapshot snapshot, long loadedAtMillis) {
+            this.snapshot = snapshot;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+    }
+}
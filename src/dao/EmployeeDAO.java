@@ -1,7 +1,10 @@
 package dao;
 
-import util.DBConnection;
+import util.ConfigurationManager;
+import util.DataSourceManager;
+import util.TransactionManager;
 import model.Employee;
+import model.EmployeeListRow;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -10,18 +13,50 @@ import java.sql.Statement;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class EmployeeDAO {
     private static final Logger LOGGER = Logger.getLogger(EmployeeDAO.class.getName());
 
+    // Columns read by mapResultSetToListRow, in index order
+    private static final String LIST_ROW_COLUMNS =
+            "employee_id, last_name, first_name, position, status, basic_salary";
+
+    // Shared by every EmployeeDAO so all screens see the same index
+    private static final EmployeeSearchIndex SEARCH_INDEX = new EmployeeSearchIndex();
+
+    // Rows looked up by ID, shared like the search index
+    private static final EmployeeCache EMPLOYEE_CACHE = createEmployeeCache();
+
+    // Boolean-mode search over ft_employees_search; an exact employee ID sorts first
+    private static final String FULLTEXT_SEARCH =
+            "SELECT " + LIST_ROW_COLUMNS + " FROM employees " +
+            "WHERE MATCH(first_name, last_name, position) AGAINST (? IN BOOLEAN MODE) OR employee_id = ? " +
+            "ORDER BY employee_id = ? DESC, MATCH(first_name, last_name, position) AGAINST (? IN BOOLEAN MODE) DESC, " +
+            "last_name, first_name";
+
+    private static final int MYSQL_NO_FULLTEXT_INDEX = 1191;
+
+    // Keyset for employee pages: rows sorting after (last_name, first_name, employee_id)
+    private static final String AFTER_EMPLOYEE_KEY =
+            " WHERE (last_name > ? OR (last_name = ? AND (first_name > ? OR (first_name = ? AND employee_id > ?))))";
+
+    private static final String EMPLOYEE_PAGE_ORDER = " ORDER BY last_name, first_name, employee_id LIMIT ?";
+
     public List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
         String query = "SELECT * FROM employees ORDER BY last_name, first_name";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query);
              ResultSet rs = stmt.executeQuery()) {
 
@@ -38,17 +73,59 @@ public class EmployeeDAO {
         return employees;
     }
 
+    /**
+     * Streams all employees in name order without loading them into a list.
+     * The stream holds a database connection until it is closed, so use it in
+     * a try-with-resources block.
+     */
+    public Stream<Employee> streamAllEmployees() {
+        String query = "SELECT * FROM employees ORDER BY last_name, first_name";
+        return RowStreams.stream(query, stmt -> { }, this::mapResultSetToEmployee);
+    }
+
+    /**
+     * Passes each employee, in name order, to the action.
+     * @return number of employees read
+     */
+    public int forEachEmployee(Consumer<Employee> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        String query = "SELECT * FROM employees ORDER BY last_name, first_name";
+        return RowStreams.forEach(query, stmt -> { }, this::mapResultSetToEmployee, action);
+    }
+
+    /**
+     * Looks up one employee, from the employee cache when possible.
+     * Each call returns a new Employee, so callers may modify it freely.
+     * @return the employee, or null if there is none with that ID
+     */
     public Employee getEmployeeById(int employeeId) {
+        // Inside a unit of work the row may hold uncommitted changes; don't share it
+        boolean cacheable = EMPLOYEE_CACHE.isEnabled() && !TransactionManager.isActive();
+        if (cacheable) {
+            EmployeeSnapshot cached = EMPLOYEE_CACHE.get(employeeId);
+            if (cached != null) {
+                return cached.toEmployee();
+            }
+        }
+
         String query = "SELECT * FROM employees WHERE employee_id = ?";
+        long generation = EMPLOYEE_CACHE.generation();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = openLookupConnection(cacheable);
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToEmployee(rs);
+                EmployeeSnapshot snapshot = EmployeeSnapshot.from(rs);
+                if (cacheable) {
+                    EMPLOYEE_CACHE.put(snapshot, generation);
+                }
+                return snapshot.toEmployee();
             }
 
         } catch (SQLException ex) {
@@ -59,6 +136,123 @@ public class EmployeeDAO {
         return null;
     }
 
+    /**
+     * Rows that go into the employee cache are read from the primary: a row
+     * from a lagging replica would be served for the whole time to live.
+     * Uncached lookups can tolerate the lag.
+     */
+    private static Connection openLookupConnection(boolean fillsCache) throws SQLException {
+        return fillsCache ? DataSourceManager.getConnection() : DataSourceManager.getReadConnection();
+    }
+
+    /**
+     * Looks up many employees at once: cached rows are used as they are and
+     * the rest are read in a single query, instead of one lookup per ID.
+     * @return employees keyed by ID, in the order given; IDs with no employee are absent
+     */
+    public Map<Integer, Employee> getEmployeesByIds(Collection<Integer> employeeIds) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        boolean cacheable = EMPLOYEE_CACHE.isEnabled() && !TransactionManager.isActive();
+        Map<Integer, EmployeeSnapshot> found = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : ids) {
+            EmployeeSnapshot cached = cacheable ? EMPLOYEE_CACHE.get(id) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            String query = "SELECT * FROM employees WHERE employee_id IN " + BulkQueries.placeholders(missing.size());
+            long generation = EMPLOYEE_CACHE.generation();
+
+            try (Connection conn = openLookupConnection(cacheable);
+                 PreparedStatement stmt = conn.prepareStatement(query)) {
+
+                BulkQueries.bindIds(stmt, 1, missing);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        EmployeeSnapshot snapshot = EmployeeSnapshot.from(rs);
+                        if (cacheable) {
+                            EMPLOYEE_CACHE.put(snapshot, generation);
+                        }
+                        found.put(snapshot.getEmployeeId(), snapshot);
+                    }
+                }
+
+            } catch (SQLException ex) {
+                LOGGER.log(Level.SEVERE, "Error fetching " + missing.size() + " employees by ID", ex);
+                throw new RuntimeException("Failed to fetch employees", ex);
+            }
+        }
+
+        Map<Integer, Employee> employees = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            EmployeeSnapshot snapshot = found.get(id);
+            if (snapshot != null) {
+                employees.put(id, snapshot.toEmployee());
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Loads the table rows for the given employees in one query
+     * @return rows by employee ID; IDs with no employee are left out
+     */
+    public Map<Integer, EmployeeListRow> getEmployeeListRowsByIds(Collection<Integer> employeeIds) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        Map<Integer, EmployeeListRow> rows = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return rows;
+        }
+
+        String query = "SELECT " + LIST_ROW_COLUMNS + " FROM employees WHERE employee_id IN "
+                + BulkQueries.placeholders(ids.size());
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            BulkQueries.bindIds(stmt, 1, ids);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    EmployeeListRow row = mapResultSetToListRow(rs);
+                    rows.put(row.getEmployeeId(), row);
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee list rows for " + BulkQueries.describe(ids), ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return rows;
+    }
+
+    /**
+     * @return hit, miss and size counters for the cache behind getEmployeeById
+     */
+    public static CacheStats getEmployeeCacheStats() {
+        return EMPLOYEE_CACHE.stats();
+    }
+
+    /**
+     * Drops every cached employee row, e.g. after employees were changed outside EmployeeDAO
+     */
+    public static void clearEmployeeCache() {
+        EMPLOYEE_CACHE.invalidateAll();
+    }
+
+    private static EmployeeCache createEmployeeCache() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        EmployeeCache cache = new EmployeeCache(config.getEmployeeCacheMaxSize(),
+                config.getEmployeeCacheTtlSeconds() * 1000L);
+        config.addReloadListener(() -> cache.configure(config.getEmployeeCacheMaxSize(),
+                config.getEmployeeCacheTtlSeconds() * 1000L));
+        return cache;
+    }
+
     /**
      * Enhanced insertEmployee method with comprehensive validation
      * @param e Employee object to insert
@@ -126,7 +320,7 @@ public class EmployeeDAO {
         }
 
         // Check for duplicate employee ID
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement checkStmt = conn.prepareStatement("SELECT 1 FROM employees WHERE employee_id = ?")) {
 
             checkStmt.setInt(1, e.getEmployeeId());
@@ -147,7 +341,7 @@ public class EmployeeDAO {
                 "phone_allowance, clothing_allowance, gross_semi_monthly_rate, hourly_rate) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, e.getEmployeeId());
@@ -174,6 +368,8 @@ public class EmployeeDAO {
 
             if (result > 0) {
                 LOGGER.info("Successfully inserted employee: " + e.getEmployeeId() + " - " + e.getFullName());
+                syncSearchIndex(e);
+                invalidateCachedEmployee(e.getEmployeeId());
                 return true;
             } else {
                 LOGGER.warning("No rows affected when inserting employee: " + e.getEmployeeId());
@@ -221,7 +417,7 @@ public class EmployeeDAO {
                 "basic_salary=?, rice_subsidy=?, phone_allowance=?, clothing_allowance=?, " +
                 "gross_semi_monthly_rate=?, hourly_rate=? WHERE employee_id=?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, e.getLastName().trim());
@@ -248,6 +444,8 @@ public class EmployeeDAO {
 
             if (result > 0) {
                 LOGGER.info("Successfully updated employee: " + e.getEmployeeId() + " - " + e.getFullName());
+                syncSearchIndex(e);
+                invalidateCachedEmployee(e.getEmployeeId());
                 return true;
             } else {
                 LOGGER.warning("No employee found with ID: " + e.getEmployeeId() + " for update");
@@ -267,7 +465,7 @@ public class EmployeeDAO {
 
         String sql = "DELETE FROM employees WHERE employee_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, employeeId);
@@ -275,6 +473,8 @@ public class EmployeeDAO {
 
             if (result > 0) {
                 LOGGER.info("Successfully deleted employee with ID: " + employeeId);
+                removeFromSearchIndex(employeeId);
+                invalidateCachedEmployee(employeeId);
                 return true;
             } else {
                 LOGGER.warning("No employee found with ID: " + employeeId + " for deletion");
@@ -301,7 +501,7 @@ public class EmployeeDAO {
         List<Employee> employees = new ArrayList<>();
         String query = "SELECT * FROM employees WHERE status = ? ORDER BY last_name, first_name";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, status.trim());
@@ -328,7 +528,7 @@ public class EmployeeDAO {
         List<Employee> employees = new ArrayList<>();
         String query = "SELECT * FROM employees WHERE position = ? ORDER BY last_name, first_name";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, position.trim());
@@ -355,7 +555,7 @@ public class EmployeeDAO {
         List<Employee> employees = new ArrayList<>();
         String query = "SELECT * FROM employees WHERE immediate_supervisor = ? ORDER BY last_name, first_name";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, supervisor.trim());
@@ -374,19 +574,163 @@ public class EmployeeDAO {
         return employees;
     }
 
+    /**
+     * Ranked search over name, ID and position; see searchEmployeeListRows
+     */
     public List<Employee> searchEmployees(String searchTerm) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getAllEmployees();
         }
 
-        List<Employee> employees = new ArrayList<>();
-        String query = "SELECT * FROM employees WHERE " +
+        List<EmployeeListRow> matches = searchEmployeeListRows(searchTerm);
+        if (matches.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> ids = new ArrayList<>(matches.size());
+        for (EmployeeListRow row : matches) {
+            ids.add(row.getEmployeeId());
+        }
+        Map<Integer, Employee> byId = new HashMap<>();
+        String query = "SELECT * FROM employees WHERE employee_id IN " + BulkQueries.placeholders(ids.size());
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            BulkQueries.bindIds(stmt, 1, ids);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Employee e = mapResultSetToEmployee(rs);
+                    byId.put(e.getEmployeeId(), e);
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error searching employees with term: " + searchTerm, ex);
+            throw new RuntimeException("Failed to search employees", ex);
+        }
+
+        // Keep the search ranking; skip anyone deleted since the index was built
+        List<Employee> employees = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Employee e = byId.get(id);
+            if (e != null) {
+                employees.add(e);
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Lightweight list of all employees for tables that show a few columns.
+     * Use getAllEmployees when government IDs, address or allowances are needed.
+     */
+    public List<EmployeeListRow> getEmployeeListRows() {
+        List<EmployeeListRow> rows = new ArrayList<>();
+        String query = "SELECT " + LIST_ROW_COLUMNS + " FROM employees ORDER BY last_name, first_name";
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                rows.add(mapResultSetToListRow(rs));
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee list", ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Searches employees by name, ID and position, best match first.
+     * Answered from the in-memory search index when it is enabled; otherwise,
+     * or if the index cannot be loaded, from the FULLTEXT index, and from a
+     * LIKE scan if the database has no FULLTEXT index.
+     */
+    public List<EmployeeListRow> searchEmployeeListRows(String searchTerm) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return getEmployeeListRows();
+        }
+
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (config.isEmployeeSearchIndexEnabled()) {
+            try {
+                SEARCH_INDEX.refreshIfNeeded(config.getEmployeeSearchIndexMaxAgeMinutes() * 60_000L,
+                        this::getEmployeeListRows);
+                return SEARCH_INDEX.search(searchTerm);
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.WARNING, "Employee search index unavailable, searching the database", ex);
+            }
+        }
+        return searchEmployeeListRowsInDatabase(searchTerm);
+    }
+
+    private List<EmployeeListRow> searchEmployeeListRowsInDatabase(String searchTerm) {
+        String booleanQuery = toFullTextQuery(searchTerm);
+        if (booleanQuery.isEmpty()) {
+            return searchEmployeeListRowsByLike(searchTerm);
+        }
+
+        List<EmployeeListRow> rows = new ArrayList<>();
+        String trimmed = searchTerm.trim();
+        int idMatch = trimmed.matches("\\d{1,9}") ? Integer.parseInt(trimmed) : -1;
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(FULLTEXT_SEARCH)) {
+
+            stmt.setString(1, booleanQuery);
+            stmt.setInt(2, idMatch);
+            stmt.setInt(3, idMatch);
+            stmt.setString(4, booleanQuery);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSetToListRow(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            if (ex.getErrorCode() == MYSQL_NO_FULLTEXT_INDEX) {
+                LOGGER.warning("employees has no FULLTEXT index; apply the employee search migration. Using LIKE search");
+                return searchEmployeeListRowsByLike(searchTerm);
+            }
+            LOGGER.log(Level.SEVERE, "Error searching employee list with term: " + searchTerm, ex);
+            throw new RuntimeException("Failed to search employees", ex);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Turns each word into a required prefix term ("+word*"), dropping
+     * characters that are operators in boolean mode
+     */
+    private static String toFullTextQuery(String searchTerm) {
+        StringBuilder query = new StringBuilder();
+        for (String word : searchTerm.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                if (query.length() > 0) {
+                    query.append(' ');
+                }
+                query.append('+').append(word).append('*');
+            }
+        }
+        return query.toString();
+    }
+
+    private List<EmployeeListRow> searchEmployeeListRowsByLike(String searchTerm) {
+        List<EmployeeListRow> rows = new ArrayList<>();
+        String query = "SELECT " + LIST_ROW_COLUMNS + " FROM employees WHERE " +
                 "CONCAT(first_name, ' ', last_name) LIKE ? OR " +
                 "employee_id LIKE ? OR " +
                 "position LIKE ? " +
                 "ORDER BY last_name, first_name";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             String searchPattern = "%" + searchTerm.trim() + "%";
@@ -394,52 +738,202 @@ public class EmployeeDAO {
             stmt.setString(2, searchPattern);
             stmt.setString(3, searchPattern);
 
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
-                employees.add(e);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSetToListRow(rs));
+                }
             }
 
         } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error searching employees with term: " + searchTerm, ex);
+            LOGGER.log(Level.SEVERE, "Error searching employee list with term: " + searchTerm, ex);
             throw new RuntimeException("Failed to search employees", ex);
         }
 
-        return employees;
+        return rows;
+    }
+
+    /**
+     * Applies a successful insert or update to the search index. Inside a
+     * transaction the change may still roll back, so the index is rebuilt on
+     * the next search instead.
+     */
+    private void syncSearchIndex(Employee e) {
+        if (TransactionManager.isActive()) {
+            invalidateSearchIndexUntilCommit();
+            return;
+        }
+        SEARCH_INDEX.put(new EmployeeListRow(
+                e.getEmployeeId(),
+                e.getLastName().trim(),
+                e.getFirstName().trim(),
+                e.getPosition() != null ? e.getPosition().trim() : null,
+                e.getStatus() != null ? e.getStatus().trim() : "Regular",
+                e.getBasicSalary()));
+    }
+
+    /**
+     * Drops the employee's cached row now, and again once the surrounding
+     * unit of work commits, so no other thread keeps serving the old values
+     */
+    private void invalidateCachedEmployee(int employeeId) {
+        EMPLOYEE_CACHE.invalidate(employeeId);
+        if (TransactionManager.isActive()) {
+            TransactionManager.afterCommit(() -> EMPLOYEE_CACHE.invalidate(employeeId));
+        }
+    }
+
+    /**
+     * Applies employee rows changed outside this DAO, as reported by
+     * ChangeFeed: drops their cached rows and reloads only those entries of
+     * the search index. A full-reload delta clears both.
+     */
+    void applyExternalChanges(ChangeFeed.Delta delta) {
+        if (delta.isFullReload()) {
+            EMPLOYEE_CACHE.invalidateAll();
+            SEARCH_INDEX.invalidate();
+            return;
+        }
+        for (Integer employeeId : delta.getEmployeeIds()) {
+            EMPLOYEE_CACHE.invalidate(employeeId);
+        }
+        if (!SEARCH_INDEX.isLoaded()) {
+            return;
+        }
+        try {
+            Map<Integer, EmployeeListRow> rows = getEmployeeListRowsByIds(delta.getEmployeeIds());
+            for (Integer employeeId : delta.getEmployeeIds()) {
+                EmployeeListRow row = rows.get(employeeId);
+                if (row != null) {
+                    SEARCH_INDEX.put(row);
+                } else {
+                    SEARCH_INDEX.remove(employeeId);
+                }
+            }
+        } catch (RuntimeException ex) {
+            SEARCH_INDEX.invalidate();
+        }
+    }
+
+    private void removeFromSearchIndex(int employeeId) {
+        if (TransactionManager.isActive()) {
+            invalidateSearchIndexUntilCommit();
+            return;
+        }
+        SEARCH_INDEX.remove(employeeId);
+    }
+
+    /**
+     * Drops the search index now, and again once the surrounding unit of work
+     * commits, since a search on another thread may rebuild it from the rows
+     * as they were before the commit
+     */
+    private void invalidateSearchIndexUntilCommit() {
+        SEARCH_INDEX.invalidate();
+        TransactionManager.afterCommit(SEARCH_INDEX::invalidate);
+    }
+
+    /**
+     * Fetches one page of employees in name order, seeking past the previous
+     * page's last row rather than using OFFSET.
+     * @param after last employee of the previous page, or null for the first page
+     * @param pageSize rows per page, at most Page.MAX_PAGE_SIZE
+     */
+    public Page<Employee> getEmployeePage(Employee after, int pageSize) {
+        Page.validatePageSize(pageSize);
+
+        List<Employee> employees = new ArrayList<>();
+        String query = "SELECT * FROM employees" + (after != null ? AFTER_EMPLOYEE_KEY : "") + EMPLOYEE_PAGE_ORDER;
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            if (after != null) {
+                index = bindEmployeeKey(stmt, after.getLastName(), after.getFirstName(), after.getEmployeeId());
+            }
+            stmt.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(mapResultSetToEmployee(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee page", ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return Page.of(employees, pageSize);
+    }
+
+    /**
+     * List-row variant of getEmployeePage for tables that page through employees
+     * @param after last row of the previous page, or null for the first page
+     * @param pageSize rows per page, at most Page.MAX_PAGE_SIZE
+     */
+    public Page<EmployeeListRow> getEmployeeListPage(EmployeeListRow after, int pageSize) {
+        Page.validatePageSize(pageSize);
+
+        List<EmployeeListRow> rows = new ArrayList<>();
+        String query = "SELECT " + LIST_ROW_COLUMNS + " FROM employees"
+                + (after != null ? AFTER_EMPLOYEE_KEY : "") + EMPLOYEE_PAGE_ORDER;
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            if (after != null) {
+                index = bindEmployeeKey(stmt, after.getLastName(), after.getFirstName(), after.getEmployeeId());
+            }
+            stmt.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSetToListRow(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee list page", ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return Page.of(rows, pageSize);
+    }
+
+    /**
+     * Binds AFTER_EMPLOYEE_KEY's parameters
+     * @return index of the next parameter
+     */
+    private int bindEmployeeKey(PreparedStatement stmt, String lastName, String firstName, int employeeId)
+            throws SQLException {
+        stmt.setString(1, lastName);
+        stmt.setString(2, lastName);
+        stmt.setString(3, firstName);
+        stmt.setString(4, firstName);
+        stmt.setInt(5, employeeId);
+        return 6;
+    }
+
+    /**
+     * Reads LIST_ROW_COLUMNS by position, skipping column label lookups
+     */
+    private EmployeeListRow mapResultSetToListRow(ResultSet rs) throws SQLException {
+        return new EmployeeListRow(
+                rs.getInt(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getDouble(6));
     }
 
     /**
      * Enhanced mapResultSetToEmployee with better null handling
      */
     private Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
-        Employee e = new Employee();
-        e.setEmployeeId(rs.getInt("employee_id"));
-        e.setLastName(rs.getString("last_name"));
-        e.setFirstName(rs.getString("first_name"));
-
-        java.sql.Date birthday = rs.getDate("birthday");
-        if (birthday != null) {
-            e.setBirthday(birthday.toLocalDate());
-        }
-
-        e.setAddress(rs.getString("address"));
-        e.setPhoneNumber(rs.getString("phone_number"));
-        e.setSssNumber(rs.getString("sss_number"));
-        e.setPhilhealthNumber(rs.getString("philhealth_number"));
-        e.setTinNumber(rs.getString("tin_number"));
-        e.setPagibigNumber(rs.getString("pagibig_number"));
-        e.setStatus(rs.getString("status"));
-        e.setPosition(rs.getString("position"));
-        e.setImmediateSupervisor(rs.getString("immediate_supervisor"));
-        e.setBasicSalary(rs.getDouble("basic_salary"));
-        e.setRiceSubsidy(rs.getDouble("rice_subsidy"));
-        e.setPhoneAllowance(rs.getDouble("phone_allowance"));
-        e.setClothingAllowance(rs.getDouble("clothing_allowance"));
-        e.setGrossSemiMonthlyRate(rs.getDouble("gross_semi_monthly_rate"));
-        e.setHourlyRate(rs.getDouble("hourly_rate"));
-
-        return e;
+        return EmployeeSnapshot.from(rs).toEmployee();
     }
 
     /**
@@ -454,7 +948,7 @@ public class EmployeeDAO {
 
         String query = "SELECT 1 FROM employees WHERE employee_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -480,7 +974,7 @@ public class EmployeeDAO {
 
         String query = "SELECT COUNT(*) FROM employees WHERE status = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setString(1, status.trim());
@@ -497,4 +991,27 @@ public class EmployeeDAO {
 
         return 0;
     }
+
+    /**
+     * Get the total number of employees
+     * @return number of employee records
+     */
+    public int getEmployeeCount() {
+        String query = "SELECT COUNT(*) FROM employees";
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error getting employee count", ex);
+            throw new RuntimeException("Failed to get employee count", ex);
+        }
+
+        return 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,348 @@
+package dao;
+
+import model.EmployeeListRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory search index over employee name, ID and position.
+ *
+ * Terms of three or more characters are looked up through a trigram index
+ * and match anywhere in a field, like the LIKE '%term%' query they replace.
+ * Shorter terms match the start of a word. A query with several words
+ * returns employees matching all of them, best match first.
+ *
+ * EmployeeDAO keeps the index in step with its own inserts, updates and
+ * deletes, and with rows ChangeFeed reports as changed elsewhere; the index
+ * is also rebuilt once it is older than the configured maximum age.
+ */
+final class EmployeeSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private static final Comparator<Match> BY_RANK = Comparator
+            .comparingInt((Match m) -> m.score).reversed()
+            .thenComparing(m -> m.entry.lastName)
+            .thenComparing(m -> m.entry.firstName)
+            .thenComparingInt(m -> m.entry.row.getEmployeeId());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Integer>> grams = new HashMap<>();
+    private final NavigableMap<String, Set<Integer>> words = new TreeMap<>();
+    private volatile boolean loaded;
+    private volatile long loadedAtMillis;
+    // Bumped by invalidate() so a rebuild that read the rows before it does not count as current
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Rebuilds the index from the loader if it was never loaded, was
+     * invalidated or is older than maxAgeMillis (0 = never expires).
+     */
+    void refreshIfNeeded(long maxAgeMillis, Supplier<? extends Collection<EmployeeListRow>> loader) {
+        if (isCurrent(maxAgeMillis)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (isCurrent(maxAgeMillis)) {
+                return;
+            }
+            long generation = invalidations.get();
+            Collection<EmployeeListRow> rows = loader.get();
+            entries.clear();
+            grams.clear();
+            words.clear();
+            for (EmployeeListRow row : rows) {
+                add(new Entry(row));
+            }
+            loadedAtMillis = System.currentTimeMillis();
+            loaded = invalidations.get() == generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isCurrent(long maxAgeMillis) {
+        return loaded && (maxAgeMillis <= 0 || System.currentTimeMillis() - loadedAtMillis < maxAgeMillis);
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Forces a rebuild on the next search
+     */
+    void invalidate() {
+        invalidations.incrementAndGet();
+        loaded = false;
+    }
+
+    /**
+     * Adds or replaces one employee; ignored until the index has been loaded
+     */
+    void put(EmployeeListRow row) {
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeEntry(row.getEmployeeId());
+            add(new Entry(row));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int employeeId) {
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeEntry(employeeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return employees matching every word of the query, best match first;
+     *         empty for a blank query
+     */
+    List<EmployeeListRow> search(String query) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Integer> candidates = null;
+            for (String term : terms) {
+                Set<Integer> matches = candidatesFor(term);
+                if (candidates == null) {
+                    candidates = matches;
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            String phrase = String.join(" ", terms);
+            List<Match> ranked = new ArrayList<>(candidates.size());
+            for (Integer id : candidates) {
+                Entry entry = entries.get(id);
+                int score = score(entry, terms, phrase);
+                if (score > 0) {
+                    ranked.add(new Match(entry, score));
+                }
+            }
+            ranked.sort(BY_RANK);
+
+            List<EmployeeListRow> results = new ArrayList<>(ranked.size());
+            for (Match match : ranked) {
+                results.add(match.entry.row);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Superset of the employees containing the term; score() confirms each one
+     */
+    private Set<Integer> candidatesFor(String term) {
+        Set<Integer> result = new HashSet<>();
+        if (term.length() < GRAM_LENGTH) {
+            for (Set<Integer> ids : words.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                result.addAll(ids);
+            }
+            return result;
+        }
+
+        // Start from the rarest trigram so the working set stays small
+        List<Set<Integer>> postings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            Set<Integer> ids = grams.get(term.substring(i, i + GRAM_LENGTH));
+            if (ids == null) {
+                return result;
+            }
+            postings.add(ids);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        result.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return 0 if some term does not match the entry, otherwise higher for
+     *         ID and name matches and for matches at the start of a word
+     */
+    private static int score(Entry entry, List<String> terms, String phrase) {
+        int score = 0;
+        for (String term : terms) {
+            int termScore;
+            if (entry.idText.equals(term)) {
+                termScore = 100;
+            } else if (entry.idText.startsWith(term)) {
+                termScore = 60;
+            } else if (equalsAnyWord(entry.nameWords, term)) {
+                termScore = 50;
+            } else if (startsAnyWord(entry.nameWords, term)) {
+                termScore = 40;
+            } else if (term.length() >= GRAM_LENGTH && entry.name.contains(term)) {
+                termScore = 20;
+            } else if (startsAnyWord(entry.positionWords, term)) {
+                termScore = 15;
+            } else if (term.length() >= GRAM_LENGTH && (entry.position.contains(term) || entry.idText.contains(term))) {
+                termScore = 5;
+            } else {
+                return 0;
+            }
+            score += termScore;
+        }
+        // Several words typed in name order, e.g. "andrea vill"
+        if (terms.size() > 1 && entry.name.startsWith(phrase)) {
+            score += 30;
+        }
+        return score;
+    }
+
+    private static boolean equalsAnyWord(String[] fieldWords, String term) {
+        for (String word : fieldWords) {
+            if (word.equals(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsAnyWord(String[] fieldWords, String term) {
+        for (String word : fieldWords) {
+            if (word.startsWith(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(Entry entry) {
+        int id = entry.row.getEmployeeId();
+        entries.put(id, entry);
+        for (String field : entry.fields()) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams.computeIfAbsent(field.substring(i, i + GRAM_LENGTH), k -> new HashSet<>()).add(id);
+            }
+        }
+        for (String word : entry.allWords()) {
+            words.computeIfAbsent(word, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeEntry(int employeeId) {
+        Entry entry = entries.remove(employeeId);
+        if (entry == null) {
+            return;
+        }
+        for (String field : entry.fields()) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                removePosting(grams, field.substring(i, i + GRAM_LENGTH), employeeId);
+            }
+        }
+        for (String word : entry.allWords()) {
+            removePosting(words, word, employeeId);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Integer>> postings, String key, int employeeId) {
+        Set<Integer> ids = postings.get(key);
+        if (ids != null && ids.remove(employeeId) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query != null) {
+            for (String term : normalize(query).split("\\s+")) {
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** One employee's searchable text, lower-cased once at indexing time */
+    private static final class Entry {
+        final EmployeeListRow row;
+        final String idText;
+        final String firstName;
+        final String lastName;
+        final String name;
+        final String position;
+        final String[] nameWords;
+        final String[] positionWords;
+
+        Entry(EmployeeListRow row) {
+            this.row = row;
+            this.idText = String.valueOf(row.getEmployeeId());
+            this.firstName = normalize(row.getFirstName());
+            this.lastName = normalize(row.getLastName());
+            this.name = (firstName + " " + lastName).trim();
+            this.position = normalize(row.getPosition());
+            this.nameWords = name.split("\\s+");
+            this.positionWords = position.split("\\s+");
+        }
+
+        String[] fields() {
+            return new String[] { idText, name, position };
+        }
+
+        List<String> allWords() {
+            List<String> all = new ArrayList<>();
+            all.add(idText);
+            for (String word : nameWords) {
+                if (!word.isEmpty()) all.add(word);
+            }
+            for (String word : positionWords) {
+                if (!word.isEmpty()) all.add(word);
+            }
+            return all;
+        }
+    }
+
+    private static final class Match {
+        final Entry entry;
+        final int score;
+
+        Match(Entry entry, int score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package dao;
+
+import model.Employee;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of one employees row. The employee cache holds these rather
+ * than Employee objects, which callers are free to modify; each lookup gets
+ * a fresh Employee from {@link #toEmployee()}.
+ */
+final class EmployeeSnapshot {
+    private final int employeeId;
+    private final String lastName;
+    private final String firstName;
+    private final LocalDate birthday;
+    private final String address;
+    private final String phoneNumber;
+    private final String sssNumber;
+    private final String philhealthNumber;
+    private final String tinNumber;
+    private final String pagibigNumber;
+    private final String status;
+    private final String position;
+    private final String immediateSupervisor;
+    private final double basicSalary;
+    private final double riceSubsidy;
+    private final double phoneAllowance;
+    private final double clothingAllowance;
+    private final double grossSemiMonthlyRate;
+    private final double hourlyRate;
+
+    private EmployeeSnapshot(ResultSet rs) throws SQLException {
+        this.employeeId = rs.getInt("employee_id");
+        this.lastName = rs.getString("last_name");
+        this.firstName = rs.getString("first_name");
+        java.sql.Date birthdayValue = rs.getDate("birthday");
+        this.birthday = birthdayValue != null ? birthdayValue.toLocalDate() : null;
+        this.address = rs.getString("address");
+        this.phoneNumber = rs.getString("phone_number");
+        this.sssNumber = rs.getString("sss_number");
+        this.philhealthNumber = rs.getString("philhealth_number");
+        this.tinNumber = rs.getString("tin_number");
+        this.pagibigNumber = rs.getString("pagibig_number");
+        this.status = rs.getString("status");
+        this.position = rs.getString("position");
+        this.immediateSupervisor = rs.getString("immediate_supervisor");
+        this.basicSalary = rs.getDouble("basic_salary");
+        this.riceSubsidy = rs.getDouble("rice_subsidy");
+        this.phoneAllowance = rs.getDouble("phone_allowance");
+        this.clothingAllowance = rs.getDouble("clothing_allowance");
+        this.grossSemiMonthlyRate = rs.getDouble("gross_semi_monthly_rate");
+        this.hourlyRate = rs.getDouble("hourly_rate");
+    }
+
+    /**
+     * Reads the current row of a SELECT * FROM employees result
+     */
+    static EmployeeSnapshot from(ResultSet rs) throws SQLException {
+        return new EmployeeSnapshot(rs);
+    }
+
+    int getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * @return a new, independent Employee with this row's values
+     */
+    Employee toEmployee() {
+        Employee e = new Employee();
+        e.setEmployeeId(employeeId);
+        e.setLastName(lastName);
+        e.setFirstName(firstName);
+        if (birthday != null) {
+            e.setBirthday(birthday);
+        }
+        e.setAddress(address);
+        e.setPhoneNumber(phoneNumber);
+        e.setSssNumber(sssNumber);
+        e.setPhilhealthNumber(philhealthNumber);
+        e.setTinNumber(tinNumber);
+        e.setPagibigNumber(pagibigNumber);
+        e.setStatus(status);
+        e.setPosition(position);
+        e.setImmediateSupervisor(immediateSupervisor);
+        e.setBasicSalary(basicSalary);
+        e.setRiceSubsidy(riceSubsidy);
+        e.setPhoneAllowance(phoneAllowance);
+        e.setClothingAllowance(clothingAllowance);
+        e.setGrossSemiMonthlyRate(grossSemiMonthlyRate);
+        e.setHourlyRate(hourlyRate);
+        return e;
+    }
+}
@@ -1,31 +1,68 @@
-
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.EmploymentStatus;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Employment statuses, from the employee_status table added by the 3NF
+ * migration. Lookups are answered by {@link ReferenceDataRegistry}.
+ */
 public class EmploymentStatusDAO {
+    private static final Logger logger = Logger.getLogger(EmploymentStatusDAO.class.getName());
+
+    private static final String SELECT_ALL_STATUSES =
+            "SELECT status_id, status_name, description, benefits_eligible, max_leave_days " +
+            "FROM employee_status ORDER BY status_id";
+
+    /**
+     * @return the status, or null if there is none with that ID
+     */
     public EmploymentStatus getStatusById(int statusId) {
-        String query = "SELECT * FROM employment_status WHERE employment_status_id = ?";
+        return ReferenceDataRegistry.getInstance().getStatus(statusId);
+    }
+
+    /**
+     * @param statusName name as stored on employees.status, in any case
+     * @return the status, or null if there is none with that name
+     */
+    public EmploymentStatus getStatusByName(String statusName) {
+        return ReferenceDataRegistry.getInstance().getStatusByName(statusName);
+    }
+
+    /**
+     * @return every status, ordered by ID
+     */
+    public List<EmploymentStatus> getAllStatuses() {
+        return ReferenceDataRegistry.getInstance().getStatuses();
+    }
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
+    List<EmploymentStatus> loadAllStatuses() throws SQLException {
+        List<EmploymentStatus> statuses = new ArrayList<>();
 
-            stmt.setInt(1, statusId);
-            ResultSet rs = stmt.executeQuery();
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_STATUSES);
+             ResultSet rs = stmt.executeQuery()) {
 
-            if (rs.next()) {
+            while (rs.next()) {
                 EmploymentStatus es = new EmploymentStatus();
-                es.setStatusId(rs.getInt("employment_status_id"));
+                es.setStatusId(rs.getInt("status_id"));
                 es.setStatusName(rs.getString("status_name"));
-                return es;
+                es.setDescription(rs.getString("description"));
+                es.setEligibleForBenefits(rs.getBoolean("benefits_eligible"));
+                es.setMaxLeaveDays(rs.getInt("max_leave_days"));
+                statuses.add(es);
             }
 
         } catch (SQLException ex) {
-            ex.printStackTrace();
+            logger.log(Level.SEVERE, "Error loading employment statuses", ex);
+            throw ex;
         }
 
-        return null;
+        return statuses;
     }
-}
\ No newline at end of file
+}
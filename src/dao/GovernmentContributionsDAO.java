@@ -1,7 +1,7 @@
 
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.GovernmentContributions;
 import java.sql.*;
 import java.util.logging.Level;
@@ -13,7 +13,7 @@ public class GovernmentContributionsDAO {
     public GovernmentContributions getById(int id) {
         String query = "SELECT * FROM government_contributions WHERE contribution_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, id);
@@ -34,7 +34,7 @@ public class GovernmentContributionsDAO {
     public GovernmentContributions getByEmployeeId(int employeeId) {
         String query = "SELECT * FROM government_contributions WHERE employee_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
@@ -55,7 +55,7 @@ public class GovernmentContributionsDAO {
     public boolean insertGovernmentContributions(GovernmentContributions contributions) {
         String sql = "INSERT INTO government_contributions (employee_id, sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?)";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setInt(1, contributions.getEmployeeId());
@@ -85,7 +85,7 @@ public class GovernmentContributionsDAO {
     public boolean updateGovernmentContributions(GovernmentContributions contributions) {
         String sql = "UPDATE government_contributions SET employee_id=?, sss=?, philhealth=?, pagibig=?, tax=? WHERE contribution_id=?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, contributions.getEmployeeId());
@@ -106,7 +106,7 @@ public class GovernmentContributionsDAO {
     public boolean deleteGovernmentContributions(int contributionId) {
         String sql = "DELETE FROM government_contributions WHERE contribution_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, contributionId);
@@ -1,7 +1,8 @@
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.LeaveRequest;
+import model.LeaveRequestListRow;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.*;
@@ -27,9 +28,24 @@ public class LeaveRequestDAO {
         ORDER BY start_date DESC
         """;
 
+    // Same overlap test as above, written as the equivalent start <= periodEnd AND end >= periodStart
+    private static final String SELECT_APPROVED_BY_DATE_RANGE =
+            "SELECT * FROM leave_request WHERE status = ? AND start_date <= ? AND end_date >= ?";
+
+    private static final String ORDER_BY_EMPLOYEE_AND_START_DATE = " ORDER BY employee_id, start_date DESC";
+
     private static final String SELECT_BY_STATUS =
             "SELECT * FROM leave_request WHERE status = ? ORDER BY start_date DESC";
 
+    // Columns read by mapResultSetToListRow, in index order; LEFT JOIN keeps requests of removed employees
+    private static final String SELECT_LIST_ROWS =
+            "SELECT lr.leave_id, lr.employee_id, e.first_name, e.last_name, lr.leave_type, " +
+            "lr.start_date, lr.end_date, lr.status, lr.created_at " +
+            "FROM leave_request lr LEFT JOIN employees e ON e.employee_id = lr.employee_id";
+
+    // Leave pages sort latest start date first; MySQL puts requests without a start date last
+    private static final String LEAVE_PAGE_ORDER = " ORDER BY %1$sstart_date DESC, %1$sleave_id DESC LIMIT ?";
+
     private static final String INSERT_LEAVE_REQUEST =
             "INSERT INTO leave_request (employee_id, leave_type, start_date, end_date, status) VALUES (?, ?, ?, ?, ?)";
 
@@ -70,7 +86,7 @@ public class LeaveRequestDAO {
 
         List<LeaveRequest> leaveRequests = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID)) {
 
             stmt.setInt(1, empId);
@@ -101,7 +117,7 @@ public class LeaveRequestDAO {
 
         List<LeaveRequest> approvedLeaves = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_APPROVED_BY_EMPLOYEE_ID)) {
 
             stmt.setInt(1, empId);
@@ -136,7 +152,7 @@ public class LeaveRequestDAO {
 
         List<LeaveRequest> approvedLeaves = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_APPROVED_BY_EMPLOYEE_AND_DATE_RANGE)) {
 
             // Convert LocalDate to java.sql.Date for database operations
@@ -168,6 +184,69 @@ public class LeaveRequestDAO {
         return approvedLeaves;
     }
 
+    /**
+     * Retrieves every employee's approved leave overlapping a period in a single query
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Approved leave requests keyed by employee ID; employees without leave are absent
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public Map<Integer, List<LeaveRequest>> getApprovedLeavesByPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return loadApprovedLeavesByPeriod(Collections.emptySet(), periodStart, periodEnd);
+    }
+
+    /**
+     * Retrieves the given employees' approved leave overlapping a period in a single query
+     * @param employeeIds Employee IDs; an empty collection returns an empty map without querying
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Approved leave requests keyed by employee ID; employees without leave are absent
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public Map<Integer, List<LeaveRequest>> getApprovedLeavesByPeriod(Collection<Integer> employeeIds,
+                                                                      LocalDate periodStart, LocalDate periodEnd) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        if (ids.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return loadApprovedLeavesByPeriod(ids, periodStart, periodEnd);
+    }
+
+    private Map<Integer, List<LeaveRequest>> loadApprovedLeavesByPeriod(Set<Integer> ids,
+                                                                        LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+
+        Map<Integer, List<LeaveRequest>> leavesByEmployee = new LinkedHashMap<>();
+        String query = SELECT_APPROVED_BY_DATE_RANGE + BulkQueries.employeeIdFilter(ids.size())
+                + ORDER_BY_EMPLOYEE_AND_START_DATE;
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setString(1, STATUS_APPROVED);
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            stmt.setDate(3, java.sql.Date.valueOf(periodStart));
+            BulkQueries.bindIds(stmt, 4, ids);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    LeaveRequest leave = mapResultSetToLeaveRequest(rs);
+                    BulkQueries.addToGroup(leavesByEmployee, leave.getEmployeeId(), leave);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format(
+                    "Error retrieving approved leaves for %s between dates: %s and %s",
+                    BulkQueries.describe(ids), periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to retrieve approved leave requests for date range", ex);
+        }
+
+        return leavesByEmployee;
+    }
+
     /**
      * Retrieves leave requests by status
      * @param status Leave request status
@@ -180,7 +259,7 @@ public class LeaveRequestDAO {
 
         List<LeaveRequest> leaveRequests = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_STATUS)) {
 
             stmt.setString(1, status.trim());
@@ -199,6 +278,166 @@ public class LeaveRequestDAO {
         return leaveRequests;
     }
 
+    /**
+     * Retrieves leave requests with the employee's name for list views, in one query
+     * @param status Leave request status, or null for all statuses
+     * @return Leave request rows, latest start date first
+     * @throws RuntimeException if database error occurs
+     */
+    public List<LeaveRequestListRow> getLeaveRequestListRows(String status) {
+        if (status != null) {
+            validateStatus(status);
+        }
+
+        List<LeaveRequestListRow> rows = new ArrayList<>();
+        String query = SELECT_LIST_ROWS + (status != null ? " WHERE lr.status = ?" : "") + " ORDER BY lr.start_date DESC";
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            if (status != null) {
+                stmt.setString(1, status.trim());
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSetToListRow(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format("Error retrieving leave request list for status: %s", status), ex);
+            throw new RuntimeException("Failed to retrieve leave requests", ex);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Retrieves one page of leave requests by status, seeking past the previous
+     * page's last request rather than using OFFSET
+     * @param status Leave request status
+     * @param after Last request of the previous page, or null for the first page
+     * @param pageSize Rows per page, at most Page.MAX_PAGE_SIZE
+     * @return Page of leave requests, latest start date first
+     * @throws IllegalArgumentException if status or page size is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public Page<LeaveRequest> getLeaveRequestsByStatusPage(String status, LeaveRequest after, int pageSize) {
+        validateStatus(status);
+        Page.validatePageSize(pageSize);
+
+        List<LeaveRequest> leaveRequests = new ArrayList<>();
+        java.sql.Date afterStart = after != null ? after.getStartDate() : null;
+        String query = "SELECT * FROM leave_request WHERE status = ?"
+                + (after != null ? " AND " + afterLeaveKey("", afterStart) : "")
+                + String.format(LEAVE_PAGE_ORDER, "");
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setString(1, status.trim());
+            int index = 2;
+            if (after != null) {
+                index = bindLeaveKey(stmt, index, afterStart, after.getLeaveId());
+            }
+            stmt.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    leaveRequests.add(mapResultSetToLeaveRequest(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format("Error retrieving leave request page for status: %s", status), ex);
+            throw new RuntimeException("Failed to retrieve leave requests by status: " + status, ex);
+        }
+
+        return Page.of(leaveRequests, pageSize);
+    }
+
+    /**
+     * List-row variant of getLeaveRequestsByStatusPage
+     * @param status Leave request status, or null for all statuses
+     * @param after Last row of the previous page, or null for the first page
+     * @param pageSize Rows per page, at most Page.MAX_PAGE_SIZE
+     * @return Page of leave request rows, latest start date first
+     * @throws RuntimeException if database error occurs
+     */
+    public Page<LeaveRequestListRow> getLeaveRequestListPage(String status, LeaveRequestListRow after, int pageSize) {
+        if (status != null) {
+            validateStatus(status);
+        }
+        Page.validatePageSize(pageSize);
+
+        List<LeaveRequestListRow> rows = new ArrayList<>();
+        java.sql.Date afterStart = after != null && after.getStartDate() != null
+                ? java.sql.Date.valueOf(after.getStartDate())
+                : null;
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("lr.status = ?");
+        }
+        if (after != null) {
+            conditions.add(afterLeaveKey("lr.", afterStart));
+        }
+        String query = SELECT_LIST_ROWS
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + String.format(LEAVE_PAGE_ORDER, "lr.");
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            if (status != null) {
+                stmt.setString(index++, status.trim());
+            }
+            if (after != null) {
+                index = bindLeaveKey(stmt, index, afterStart, after.getLeaveId());
+            }
+            stmt.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSetToListRow(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format("Error retrieving leave request list page for status: %s", status), ex);
+            throw new RuntimeException("Failed to retrieve leave requests", ex);
+        }
+
+        return Page.of(rows, pageSize);
+    }
+
+    /**
+     * Keyset condition for rows sorting after (afterStart, leaveId) in LEAVE_PAGE_ORDER
+     */
+    private static String afterLeaveKey(String alias, java.sql.Date afterStart) {
+        if (afterStart == null) {
+            // Already in the trailing block of requests without a start date
+            return "(" + alias + "start_date IS NULL AND " + alias + "leave_id < ?)";
+        }
+        return "(" + alias + "start_date < ? OR (" + alias + "start_date = ? AND " + alias + "leave_id < ?) OR "
+                + alias + "start_date IS NULL)";
+    }
+
+    /**
+     * Binds afterLeaveKey's parameters starting at index
+     * @return index of the next parameter
+     */
+    private static int bindLeaveKey(PreparedStatement stmt, int index, java.sql.Date afterStart, int leaveId)
+            throws SQLException {
+        if (afterStart != null) {
+            stmt.setDate(index++, afterStart);
+            stmt.setDate(index++, afterStart);
+        }
+        stmt.setInt(index++, leaveId);
+        return index;
+    }
+
     /**
      * ENHANCED: Inserts a new leave request with comprehensive error handling
      * @param leaveRequest Leave request to insert
@@ -210,7 +449,7 @@ public class LeaveRequestDAO {
         validateLeaveRequestForInsert(leaveRequest);
 
         // ENHANCED: Check if leave_request table exists before attempting insert
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              Statement stmt = conn.createStatement()) {
 
             stmt.executeQuery("SELECT 1 FROM leave_request LIMIT 1");
@@ -241,7 +480,7 @@ public class LeaveRequestDAO {
         }
 
         // ENHANCED: Insert leave request with better error handling
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_LEAVE_REQUEST, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setInt(1, leaveRequest.getEmployeeId());
@@ -307,7 +546,7 @@ public class LeaveRequestDAO {
         validateLeaveId(leaveId);
         validateStatus(status);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_STATUS)) {
 
             stmt.setString(1, status.trim());
@@ -340,7 +579,7 @@ public class LeaveRequestDAO {
     public boolean updateLeaveRequest(LeaveRequest leaveRequest) {
         validateLeaveRequestForUpdate(leaveRequest);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_LEAVE_REQUEST)) {
 
             stmt.setInt(1, leaveRequest.getEmployeeId());
@@ -377,7 +616,7 @@ public class LeaveRequestDAO {
     public boolean deleteLeaveRequest(int leaveId) {
         validateLeaveId(leaveId);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_LEAVE_REQUEST)) {
 
             stmt.setInt(1, leaveId);
@@ -408,7 +647,7 @@ public class LeaveRequestDAO {
     public Optional<LeaveRequest> getLeaveRequestById(int leaveId) {
         validateLeaveId(leaveId);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
 
             stmt.setInt(1, leaveId);
@@ -443,7 +682,7 @@ public class LeaveRequestDAO {
 
         String query = CHECK_OVERLAPPING_LEAVE + (excludeLeaveId != null ? " AND leave_id != ?" : "");
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             // Convert LocalDate to java.sql.Date for database operations
@@ -495,6 +734,26 @@ public class LeaveRequestDAO {
         return lr;
     }
 
+    private LeaveRequestListRow mapResultSetToListRow(ResultSet rs) throws SQLException {
+        String firstName = rs.getString(3);
+        String lastName = rs.getString(4);
+        String employeeName = firstName != null && lastName != null
+                ? firstName.trim() + " " + lastName.trim()
+                : "Unknown";
+        java.sql.Date startDate = rs.getDate(6);
+        java.sql.Date endDate = rs.getDate(7);
+        Timestamp createdAt = rs.getTimestamp(9);
+        return new LeaveRequestListRow(
+                rs.getInt(1),
+                rs.getInt(2),
+                employeeName,
+                rs.getString(5),
+                startDate != null ? startDate.toLocalDate() : null,
+                endDate != null ? endDate.toLocalDate() : null,
+                rs.getString(8),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+
     // Validation helper methods
     private void validateEmployeeId(int empId) {
         if (empId <= 0) {
@@ -1,6 +1,6 @@
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.Overtime;
 import java.sql.*;
 import java.time.LocalDate;
@@ -40,6 +40,12 @@ public class OvertimeDAO {
     private static final String SELECT_BY_ID = 
         "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime WHERE overtime_id = ?";
     
+    private static final String SELECT_BY_DATE_RANGE = 
+        "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime " +
+        "WHERE date >= ? AND date <= ?";
+    
+    private static final String ORDER_BY_EMPLOYEE_AND_DATE = " ORDER BY employee_id, date DESC";
+    
     /**
      * Retrieves all overtime records for a specific employee
      * @param empId Employee ID
@@ -52,7 +58,7 @@ public class OvertimeDAO {
         
         List<Overtime> overtimeList = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID)) {
 
             stmt.setInt(1, empId);
@@ -87,7 +93,7 @@ public class OvertimeDAO {
         
         List<Overtime> overtimeList = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID_AND_DATE_RANGE)) {
 
             stmt.setInt(1, employeeId);
@@ -111,6 +117,66 @@ public class OvertimeDAO {
         return overtimeList;
     }
     
+    /**
+     * Retrieves every employee's overtime records for a period in a single query
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Overtime records keyed by employee ID, newest first; employees without records are absent
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public Map<Integer, List<Overtime>> getOvertimeByPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return loadOvertimeByPeriod(Collections.emptySet(), periodStart, periodEnd);
+    }
+    
+    /**
+     * Retrieves the given employees' overtime records for a period in a single query
+     * @param employeeIds Employee IDs; an empty collection returns an empty map without querying
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Overtime records keyed by employee ID, newest first; employees without records are absent
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public Map<Integer, List<Overtime>> getOvertimeByPeriod(Collection<Integer> employeeIds,
+                                                            LocalDate periodStart, LocalDate periodEnd) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        if (ids.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        return loadOvertimeByPeriod(ids, periodStart, periodEnd);
+    }
+    
+    private Map<Integer, List<Overtime>> loadOvertimeByPeriod(Set<Integer> ids, LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+        
+        Map<Integer, List<Overtime>> overtimeByEmployee = new LinkedHashMap<>();
+        String query = SELECT_BY_DATE_RANGE + BulkQueries.employeeIdFilter(ids.size()) + ORDER_BY_EMPLOYEE_AND_DATE;
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            BulkQueries.bindIds(stmt, 3, ids);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Overtime overtime = mapResultSetToOvertime(rs);
+                    BulkQueries.addToGroup(overtimeByEmployee, overtime.getEmployeeId(), overtime);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, 
+                String.format("Error retrieving overtime for %s between dates: %s and %s", 
+                    BulkQueries.describe(ids), periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to retrieve overtime records for date range", ex);
+        }
+
+        return overtimeByEmployee;
+    }
+    
     /**
      * Retrieves a single overtime record by ID
      * @param overtimeId Overtime record ID
@@ -123,7 +189,7 @@ public class OvertimeDAO {
             throw new IllegalArgumentException("Overtime ID must be positive");
         }
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
             
             stmt.setInt(1, overtimeId);
@@ -152,7 +218,7 @@ public class OvertimeDAO {
     public int insertOvertime(Overtime overtime) {
         validateOvertimeForInsert(overtime);
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_OVERTIME, Statement.RETURN_GENERATED_KEYS)) {
             
             stmt.setInt(1, overtime.getEmployeeId());
@@ -193,7 +259,7 @@ public class OvertimeDAO {
     public boolean updateOvertime(Overtime overtime) {
         validateOvertimeForUpdate(overtime);
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_OVERTIME)) {
             
             stmt.setInt(1, overtime.getEmployeeId());
@@ -232,7 +298,7 @@ public class OvertimeDAO {
             throw new IllegalArgumentException("Overtime ID must be positive");
         }
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_OVERTIME)) {
             
             stmt.setInt(1, overtimeId);
@@ -267,7 +333,7 @@ public class OvertimeDAO {
         validateEmployeeId(employeeId);
         validateDateRange(periodStart, periodEnd);
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_TOTAL_HOURS)) {
             
             stmt.setInt(1, employeeId);
@@ -303,7 +369,7 @@ public class OvertimeDAO {
         
         String query = "SELECT COUNT(*) as count FROM overtime WHERE employee_id = ? AND date >= ? AND date <= ?";
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
             stmt.setInt(1, employeeId);
@@ -0,0 +1,74 @@
+package dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query. Pass {@link #getLast()} back to the
+ * same page method to fetch the next page; the database seeks past that
+ * row's sort key instead of skipping rows with OFFSET.
+ * @param <T> model type of the rows
+ */
+public class Page<T> {
+
+    /** Largest page size the page methods accept */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final List<T> items;
+    private final boolean hasMore;
+
+    private Page(List<T> items, boolean hasMore) {
+        this.items = Collections.unmodifiableList(items);
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Builds a page from rows fetched with LIMIT pageSize + 1; the extra row
+     * only signals that another page exists and is dropped.
+     */
+    static <T> Page<T> of(List<T> fetched, int pageSize) {
+        if (fetched.size() > pageSize) {
+            return new Page<>(fetched.subList(0, pageSize), true);
+        }
+        return new Page<>(fetched, false);
+    }
+
+    /**
+     * @throws IllegalArgumentException if pageSize is not between 1 and MAX_PAGE_SIZE
+     */
+    static void validatePageSize(int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ", got: " + pageSize);
+        }
+    }
+
+    /**
+     * @return rows on this page, in query order
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return true if at least one more row follows this page
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    /**
+     * @return the last row on this page, to pass as the "after" key for the next page,
+     *         or null if the page is empty
+     */
+    public T getLast() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
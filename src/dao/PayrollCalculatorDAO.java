@@ -1,69 +1,86 @@
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
+import util.TransactionManager;
+import util.UnitOfWork;
 import model.Payroll;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 public class PayrollCalculatorDAO {
     private static final Logger logger = Logger.getLogger(PayrollCalculatorDAO.class.getName());
 
+    private final PayrollDAO payrollDAO = new PayrollDAO();
+
+    /**
+     * Saves a calculated payroll in one round trip. Saving the same employee
+     * and period again replaces the stored figures instead of adding a row.
+     */
     public boolean saveCalculatedPayroll(Payroll payroll) {
-        String query = "INSERT INTO payroll (employee_id, period_start, period_end, monthly_rate, " +
-                "days_worked, overtime_hours, gross_pay, total_deductions, net_pay, " +
-                "gross_earnings, late_deduction, undertime_deduction, unpaid_leave_deduction, " +
-                "overtime_pay, rice_subsidy, phone_allowance, clothing_allowance, " +
-                "sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
-
-            stmt.setInt(1, payroll.getEmployeeId());
-            stmt.setDate(2, payroll.getPeriodStart());
-            stmt.setDate(3, payroll.getPeriodEnd());
-            stmt.setDouble(4, payroll.getMonthlyRate());
-            stmt.setInt(5, payroll.getDaysWorked());
-            stmt.setDouble(6, payroll.getOvertimeHours());
-            stmt.setDouble(7, payroll.getGrossPay());
-            stmt.setDouble(8, payroll.getTotalDeductions());
-            stmt.setDouble(9, payroll.getNetPay());
-            stmt.setDouble(10, payroll.getGrossEarnings());
-            stmt.setDouble(11, payroll.getLateDeduction());
-            stmt.setDouble(12, payroll.getUndertimeDeduction());
-            stmt.setDouble(13, payroll.getUnpaidLeaveDeduction());
-            stmt.setDouble(14, payroll.getOvertimePay());
-            stmt.setDouble(15, payroll.getRiceSubsidy());
-            stmt.setDouble(16, payroll.getPhoneAllowance());
-            stmt.setDouble(17, payroll.getClothingAllowance());
-            stmt.setDouble(18, payroll.getSss());
-            stmt.setDouble(19, payroll.getPhilhealth());
-            stmt.setDouble(20, payroll.getPagibig());
-            stmt.setDouble(21, payroll.getTax());
-
-            int result = stmt.executeUpdate();
-
-            if (result > 0) {
-                try (ResultSet keys = stmt.getGeneratedKeys()) {
-                    if (keys.next()) {
-                        payroll.setPayrollId(keys.getInt(1));
-                    }
+        try {
+            payrollDAO.upsertPayroll(payroll);
+            return true;
+        } catch (RuntimeException ex) {
+            logger.log(Level.SEVERE, "Error saving calculated payroll", ex);
+        }
+
+        return false;
+    }
+
+    /**
+     * Saves a payroll run on one connection, sending each commit batch as one
+     * JDBC batch upsert. Re-running a period updates its rows in place.
+     * @param payrolls calculated payrolls to save
+     * @param commitEvery rows per commit; 0 or less saves the whole run atomically
+     * @return number of payrolls committed. In atomic mode any failure rolls
+     *         back the whole run; otherwise it rolls back the open batch and stops.
+     */
+    public int saveCalculatedPayrolls(List<Payroll> payrolls, int commitEvery) {
+        int batchSize = commitEvery > 0 ? commitEvery : Math.max(1, payrolls.size());
+        List<Payroll> uncommitted = new ArrayList<>();
+        int committed = 0;
+
+        try (UnitOfWork work = TransactionManager.begin()) {
+            for (int from = 0; from < payrolls.size(); from += batchSize) {
+                List<Payroll> batch = payrolls.subList(from, Math.min(from + batchSize, payrolls.size()));
+                uncommitted.addAll(batch);
+
+                BatchResult<Payroll> result = payrollDAO.upsertPayrolls(batch);
+                if (result.hasFailures()) {
+                    BatchResult.Failure<Payroll> failure = result.getFailures().get(0);
+                    logger.warning("Payroll run stopped at employee " + failure.getRow().getEmployeeId()
+                            + " (" + failure.getReason() + "); rolling back uncommitted rows");
+                    break;
                 }
-                return true;
+
+                work.commit();
+                committed += batch.size();
+                uncommitted.clear();
             }
+            // Closing the unit of work rolls back anything still uncommitted
 
-        } catch (SQLException ex) {
-            logger.log(Level.SEVERE, "Error saving calculated payroll", ex);
+        } catch (SQLException | RuntimeException ex) {
+            logger.log(Level.SEVERE, "Error saving payroll run", ex);
+        } finally {
+            // Rolled-back rows were not saved by this run
+            for (Payroll payroll : uncommitted) {
+                if (payroll != null) {
+                    payroll.setPayrollId(0);
+                }
+            }
         }
 
-        return false;
+        return committed;
     }
 
     public double calculateTotalEarnings(int employeeId, Date startDate, Date endDate) {
         String query = "SELECT COALESCE(SUM(gross_pay), 0) FROM payroll " +
                 "WHERE employee_id = ? AND period_start >= ? AND period_end <= ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
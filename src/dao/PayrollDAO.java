@@ -1,10 +1,13 @@
 package dao;
 
-import util.DBConnection;
+import util.DataSourceManager;
 import model.Payroll;
+import model.PayrollInputVersion;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -22,6 +25,17 @@ public class PayrollDAO {
         "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
         "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll WHERE employee_id = ? ORDER BY period_start DESC";
     
+    // Keyset page of SELECT_BY_EMPLOYEE_ID: latest period first, payroll_id breaks ties
+    private static final String SELECT_PAGE_BY_EMPLOYEE_ID =
+        "SELECT payroll_id, employee_id, period_start, period_end, monthly_rate, days_worked, " +
+        "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
+        "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
+        "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll WHERE employee_id = ?%s " +
+        "ORDER BY period_start DESC, payroll_id DESC LIMIT ?";
+
+    private static final String AFTER_PAYROLL_KEY =
+        " AND (period_start < ? OR (period_start = ? AND payroll_id < ?))";
+    
     private static final String SELECT_BY_DATE_RANGE = 
         "SELECT payroll_id, employee_id, period_start, period_end, monthly_rate, days_worked, " +
         "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
@@ -35,6 +49,32 @@ public class PayrollDAO {
         "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
         "clothing_allowance, sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
     
+    // Values refreshed when a row for the same employee and period already
+    // exists, read through the "new" row alias (VALUES() is deprecated in MySQL 8)
+    private static final String UPSERT_UPDATE_COLUMNS = 
+        "monthly_rate = new.monthly_rate, days_worked = new.days_worked, " +
+        "overtime_hours = new.overtime_hours, gross_pay = new.gross_pay, " +
+        "total_deductions = new.total_deductions, net_pay = new.net_pay, " +
+        "gross_earnings = new.gross_earnings, late_deduction = new.late_deduction, " +
+        "undertime_deduction = new.undertime_deduction, unpaid_leave_deduction = new.unpaid_leave_deduction, " +
+        "overtime_pay = new.overtime_pay, rice_subsidy = new.rice_subsidy, " +
+        "phone_allowance = new.phone_allowance, clothing_allowance = new.clothing_allowance, " +
+        "sss = new.sss, philhealth = new.philhealth, " +
+        "pagibig = new.pagibig, tax = new.tax";
+    
+    private static final String UPSERT_PAYROLL_BATCH = 
+        INSERT_PAYROLL + " AS new ON DUPLICATE KEY UPDATE " + UPSERT_UPDATE_COLUMNS;
+    
+    // LAST_INSERT_ID(payroll_id) makes getGeneratedKeys() return the existing row's ID on
+    // update. Connector/J cannot rewrite a batch containing it into one multi-row
+    // statement, so batches use UPSERT_PAYROLL_BATCH and look their IDs up afterwards
+    private static final String UPSERT_PAYROLL = 
+        INSERT_PAYROLL + " AS new ON DUPLICATE KEY UPDATE payroll_id = LAST_INSERT_ID(payroll_id), " +
+        UPSERT_UPDATE_COLUMNS;
+    
+    private static final String SELECT_IDS_BY_PERIOD = 
+        "SELECT payroll_id, employee_id FROM payroll WHERE period_start = ? AND period_end = ?";
+    
     private static final String UPDATE_PAYROLL = 
         "UPDATE payroll SET employee_id = ?, period_start = ?, period_end = ?, monthly_rate = ?, " +
         "days_worked = ?, overtime_hours = ?, gross_pay = ?, total_deductions = ?, net_pay = ?, " +
@@ -50,6 +90,26 @@ public class PayrollDAO {
         "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
         "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll WHERE payroll_id = ?";
 
+    // Counts and updated_at stamps of every table a payroll is calculated from, one row
+    // per employee; see PayrollInputVersion. The IN list is appended to each part.
+    private static final String SELECT_INPUT_VERSIONS_FORMAT =
+        "SELECT e.employee_id, e.basic_salary, e.rice_subsidy, e.phone_allowance, e.clothing_allowance, " +
+        "a.row_count AS attendance_rows, a.stamp AS attendance_stamp, a.newest AS attendance_newest, " +
+        "l.row_count AS leave_rows, l.stamp AS leave_stamp, l.newest AS leave_newest, " +
+        "o.row_count AS overtime_rows, o.approved_hours, CURRENT_TIMESTAMP AS db_now " +
+        "FROM employees e " +
+        "LEFT JOIN (SELECT employee_id, COUNT(*) AS row_count, SUM(UNIX_TIMESTAMP(updated_at)) AS stamp, " +
+        "MAX(updated_at) AS newest FROM attendance WHERE date >= ? AND date <= ?%1$s GROUP BY employee_id) a " +
+        "ON a.employee_id = e.employee_id " +
+        "LEFT JOIN (SELECT employee_id, COUNT(*) AS row_count, SUM(UNIX_TIMESTAMP(updated_at)) AS stamp, " +
+        "MAX(updated_at) AS newest FROM leave_request WHERE start_date <= ? AND end_date >= ?%1$s " +
+        "GROUP BY employee_id) l ON l.employee_id = e.employee_id " +
+        "LEFT JOIN (SELECT employee_id, COUNT(*) AS row_count, " +
+        "SUM(CASE WHEN approved THEN hours ELSE 0 END) AS approved_hours " +
+        "FROM overtime WHERE date >= ? AND date <= ?%1$s GROUP BY employee_id) o " +
+        "ON o.employee_id = e.employee_id " +
+        "WHERE e.employee_id IN %2$s";
+
     /**
      * Retrieves all payroll records for a specific employee
      * @param empId Employee ID
@@ -62,7 +122,7 @@ public class PayrollDAO {
         
         List<Payroll> payrollList = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID)) {
 
             stmt.setInt(1, empId);
@@ -82,6 +142,84 @@ public class PayrollDAO {
         return payrollList;
     }
 
+    /**
+     * Retrieves one page of an employee's payroll history, seeking past the
+     * previous page's last record rather than using OFFSET
+     * @param empId Employee ID
+     * @param after Last record of the previous page, or null for the first page
+     * @param pageSize Rows per page, at most Page.MAX_PAGE_SIZE
+     * @return Page of payroll records, latest period first
+     */
+    public Page<Payroll> getPayrollPageByEmployeeId(int empId, Payroll after, int pageSize) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (after != null && after.getPeriodStart() == null) {
+            throw new IllegalArgumentException("Previous page's last payroll must have a period start");
+        }
+        Page.validatePageSize(pageSize);
+
+        List<Payroll> payrollList = new ArrayList<>();
+        String query = String.format(SELECT_PAGE_BY_EMPLOYEE_ID, after != null ? AFTER_PAYROLL_KEY : "");
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            stmt.setInt(index++, empId);
+            if (after != null) {
+                stmt.setDate(index++, after.getPeriodStart());
+                stmt.setDate(index++, after.getPeriodStart());
+                stmt.setInt(index++, after.getPayrollId());
+            }
+            stmt.setInt(index, pageSize + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    payrollList.add(mapResultSetToPayroll(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving payroll page for employee ID: " + empId, ex);
+            throw new RuntimeException("Failed to retrieve payroll records", ex);
+        }
+
+        return Page.of(payrollList, pageSize);
+    }
+
+    /**
+     * Streams an employee's full payroll history, latest period first, without
+     * loading it into a list. The stream holds a database connection until it
+     * is closed, so use it in a try-with-resources block.
+     * @param empId Employee ID
+     * @return Stream of payroll records
+     */
+    public Stream<Payroll> streamPayrollByEmployeeId(int empId) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+
+        return RowStreams.stream(SELECT_BY_EMPLOYEE_ID, stmt -> stmt.setInt(1, empId), this::mapResultSetToPayroll);
+    }
+
+    /**
+     * Passes each of an employee's payroll records, latest period first, to the action
+     * @param empId Employee ID
+     * @param action Called once per record
+     * @return Number of records read
+     */
+    public int forEachPayrollByEmployeeId(int empId, Consumer<Payroll> action) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+
+        return RowStreams.forEach(SELECT_BY_EMPLOYEE_ID, stmt -> stmt.setInt(1, empId), this::mapResultSetToPayroll, action);
+    }
+
     /**
      * Retrieves payroll records for an employee within a date range
      * @param employeeId Employee ID
@@ -99,7 +237,7 @@ public class PayrollDAO {
         
         List<Payroll> payrollList = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_DATE_RANGE)) {
 
             stmt.setInt(1, employeeId);
@@ -121,6 +259,76 @@ public class PayrollDAO {
         return payrollList;
     }
 
+    /**
+     * Reads what each employee's payroll for the period would be calculated
+     * from, in one query, so a cached payroll can be checked without loading
+     * the attendance, overtime and leave rows.
+     * @return versions keyed by employee ID; employees that do not exist are absent
+     */
+    public Map<Integer, PayrollInputVersion> getPayrollInputVersions(Collection<Integer> employeeIds,
+                                                                     LocalDate periodStart, LocalDate periodEnd) {
+        Set<Integer> ids = BulkQueries.distinctEmployeeIds(employeeIds);
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        Map<Integer, PayrollInputVersion> versions = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return versions;
+        }
+
+        String query = String.format(SELECT_INPUT_VERSIONS_FORMAT,
+                BulkQueries.employeeIdFilter(ids.size()), BulkQueries.placeholders(ids.size()));
+        java.sql.Date start = java.sql.Date.valueOf(periodStart);
+        java.sql.Date end = java.sql.Date.valueOf(periodEnd);
+
+        // The same read connection the inputs are loaded from, read before them, so
+        // a cached result is never newer data filed under an older version
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            stmt.setDate(index++, start);
+            stmt.setDate(index++, end);
+            index = BulkQueries.bindIds(stmt, index, ids);
+            stmt.setDate(index++, end);
+            stmt.setDate(index++, start);
+            index = BulkQueries.bindIds(stmt, index, ids);
+            stmt.setDate(index++, start);
+            stmt.setDate(index++, end);
+            index = BulkQueries.bindIds(stmt, index, ids);
+            BulkQueries.bindIds(stmt, index, ids);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int employeeId = rs.getInt("employee_id");
+                    Timestamp attendanceNewest = rs.getTimestamp("attendance_newest");
+                    Timestamp leaveNewest = rs.getTimestamp("leave_newest");
+                    Timestamp newest = leaveNewest == null
+                            || (attendanceNewest != null && attendanceNewest.after(leaveNewest))
+                            ? attendanceNewest : leaveNewest;
+                    versions.put(employeeId, new PayrollInputVersion(employeeId,
+                            rs.getDouble("basic_salary"),
+                            rs.getDouble("rice_subsidy"),
+                            rs.getDouble("phone_allowance"),
+                            rs.getDouble("clothing_allowance"),
+                            rs.getLong("attendance_rows"),
+                            rs.getLong("attendance_stamp"),
+                            rs.getLong("leave_rows"),
+                            rs.getLong("leave_stamp"),
+                            rs.getLong("overtime_rows"),
+                            rs.getDouble("approved_hours"),
+                            newest,
+                            rs.getTimestamp("db_now")));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error reading payroll input versions", ex);
+            throw new RuntimeException("Failed to read payroll input versions", ex);
+        }
+        return versions;
+    }
+
     /**
      * Inserts a new payroll record
      * @param payroll Payroll object to insert
@@ -131,7 +339,7 @@ public class PayrollDAO {
             throw new IllegalArgumentException("Payroll cannot be null");
         }
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_PAYROLL, Statement.RETURN_GENERATED_KEYS)) {
             
             setPayrollParameters(stmt, payroll);
@@ -157,6 +365,96 @@ public class PayrollDAO {
         }
     }
 
+    /**
+     * Saves a payroll record, replacing the stored figures if the employee
+     * already has a record for the same period
+     * @param payroll Payroll object to save
+     * @return ID of the inserted or updated payroll record
+     */
+    public int upsertPayroll(Payroll payroll) {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        
+        try (Connection conn = DataSourceManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPSERT_PAYROLL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            setPayrollParameters(stmt, payroll);
+            stmt.executeUpdate();
+            
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    int payrollId = generatedKeys.getInt(1);
+                    payroll.setPayrollId(payrollId);
+                    return payrollId;
+                } else {
+                    throw new SQLException("Saving payroll failed, no ID obtained");
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error saving payroll record", ex);
+            throw new RuntimeException("Failed to save payroll record", ex);
+        }
+    }
+
+    /**
+     * Saves many payroll records with JDBC batching, replacing the stored
+     * figures of any employee and period that already has a record. Running
+     * the same period again updates those rows instead of adding duplicates.
+     * @param payrolls Payroll objects to save; each saved one gets its payroll ID
+     * @return Saved rows and per-row failures
+     */
+    public BatchResult<Payroll> upsertPayrolls(List<Payroll> payrolls) {
+        try {
+            BatchResult<Payroll> result = BatchStatements.execute(UPSERT_PAYROLL_BATCH, payrolls,
+                    payroll -> { },
+                    this::setPayrollParameters,
+                    null);
+            if (!result.getSaved().isEmpty()) {
+                try (Connection conn = DataSourceManager.getConnection()) {
+                    assignPayrollIds(conn, result.getSaved());
+                }
+            }
+            logger.info("Batch payroll upsert: " + result);
+            return result;
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error saving payroll batch", ex);
+            throw new RuntimeException("Failed to save payroll records", ex);
+        }
+    }
+
+    /**
+     * Looks up the IDs of batch-upserted payrolls with one query per pay
+     * period. A batch rewritten into one multi-row statement reports
+     * consecutive generated keys, which are wrong for rows that were updated.
+     * The lookup is answered by the unique_payroll_period key.
+     */
+    private void assignPayrollIds(Connection conn, List<Payroll> saved) throws SQLException {
+        Map<String, Map<Integer, Payroll>> byPeriod = new LinkedHashMap<>();
+        for (Payroll payroll : saved) {
+            byPeriod.computeIfAbsent(payroll.getPeriodStart() + "|" + payroll.getPeriodEnd(), key -> new LinkedHashMap<>())
+                    .put(payroll.getEmployeeId(), payroll);
+        }
+        
+        for (Map<Integer, Payroll> period : byPeriod.values()) {
+            Payroll first = period.values().iterator().next();
+            String query = SELECT_IDS_BY_PERIOD + BulkQueries.employeeIdFilter(period.size());
+            
+            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                stmt.setDate(1, first.getPeriodStart());
+                stmt.setDate(2, first.getPeriodEnd());
+                BulkQueries.bindIds(stmt, 3, period.keySet());
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        period.get(rs.getInt("employee_id")).setPayrollId(rs.getInt("payroll_id"));
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Updates an existing payroll record
      * @param payroll Payroll object with updated information
@@ -170,7 +468,7 @@ public class PayrollDAO {
             throw new IllegalArgumentException("Payroll ID must be positive");
         }
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_PAYROLL)) {
             
             setPayrollParameters(stmt, payroll);
@@ -185,6 +483,51 @@ public class PayrollDAO {
         }
     }
 
+    /**
+     * Inserts many payroll records with JDBC batching
+     * @param payrolls Payroll objects to insert; each saved one gets its generated ID
+     * @return Saved rows and per-row failures
+     */
+    public BatchResult<Payroll> insertPayrolls(List<Payroll> payrolls) {
+        try {
+            BatchResult<Payroll> result = BatchStatements.execute(INSERT_PAYROLL, payrolls,
+                    payroll -> { },
+                    this::setPayrollParameters,
+                    Payroll::setPayrollId);
+            logger.info("Batch payroll insert: " + result);
+            return result;
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting payroll batch", ex);
+            throw new RuntimeException("Failed to insert payroll records", ex);
+        }
+    }
+
+    /**
+     * Updates many payroll records with JDBC batching
+     * @param payrolls Payroll objects with updated information
+     * @return Updated rows and per-row failures, including IDs that matched no record
+     */
+    public BatchResult<Payroll> updatePayrolls(List<Payroll> payrolls) {
+        try {
+            BatchResult<Payroll> result = BatchStatements.execute(UPDATE_PAYROLL, payrolls,
+                    payroll -> {
+                        if (payroll.getPayrollId() <= 0) {
+                            throw new IllegalArgumentException("Payroll ID must be positive");
+                        }
+                    },
+                    (stmt, payroll) -> {
+                        setPayrollParameters(stmt, payroll);
+                        stmt.setInt(22, payroll.getPayrollId());
+                    },
+                    null);
+            logger.info("Batch payroll update: " + result);
+            return result;
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error updating payroll batch", ex);
+            throw new RuntimeException("Failed to update payroll records", ex);
+        }
+    }
+
     /**
      * Deletes a payroll record
      * @param payrollId Payroll ID to delete
@@ -195,7 +538,7 @@ public class PayrollDAO {
             throw new IllegalArgumentException("Payroll ID must be positive");
         }
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_PAYROLL)) {
             
             stmt.setInt(1, payrollId);
@@ -219,7 +562,7 @@ public class PayrollDAO {
             throw new IllegalArgumentException("Payroll ID must be positive");
         }
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
             
             stmt.setInt(1, payrollId);
@@ -1,32 +1,91 @@
-
 package dao;
  
-import util.DBConnection;
+import util.DataSourceManager;
 import model.Position;
 import java.sql.*;
 import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Positions and departments, from the positions and departments tables added
+ * by the 3NF migration. Lookups are answered by {@link ReferenceDataRegistry};
+ * the load methods here are what the registry reads on each refresh.
+ */
 public class PositionDAO {
+    private static final Logger logger = Logger.getLogger(PositionDAO.class.getName());
+
+    private static final String SELECT_ALL_POSITIONS =
+            "SELECT p.position_id, p.position_title, d.department_name, p.min_salary, p.max_salary, p.job_description " +
+            "FROM positions p LEFT JOIN departments d ON d.department_id = p.department_id ORDER BY p.position_id";
+
+    private static final String SELECT_DEPARTMENT_NAMES =
+            "SELECT department_name FROM departments ORDER BY department_name";
+
+    /**
+     * @return the position, or null if there is none with that ID
+     */
     public Position getPositionById(int positionId) {
-        String query = "SELECT * FROM position WHERE position_id = ?";
+        return ReferenceDataRegistry.getInstance().getPosition(positionId);
+    }
+
+    /**
+     * @param positionTitle title as stored on employees.position, in any case
+     * @return the position, or null if there is none with that title
+     */
+    public Position getPositionByTitle(String positionTitle) {
+        return ReferenceDataRegistry.getInstance().getPositionByTitle(positionTitle);
+    }
+
+    /**
+     * @return every position, ordered by ID
+     */
+    public List<Position> getAllPositions() {
+        return ReferenceDataRegistry.getInstance().getPositions();
+    }
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
+    List<Position> loadAllPositions() throws SQLException {
+        List<Position> positions = new ArrayList<>();
 
-            stmt.setInt(1, positionId);
-            ResultSet rs = stmt.executeQuery();
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_POSITIONS);
+             ResultSet rs = stmt.executeQuery()) {
 
-            if (rs.next()) {
+            while (rs.next()) {
                 Position p = new Position();
                 p.setPositionId(rs.getInt("position_id"));
-                p.setPositionName(rs.getString("position_name"));
-                return p;
+                p.setPositionName(rs.getString("position_title"));
+                p.setDepartment(rs.getString("department_name"));
+                p.setMinimumSalary(rs.getDouble("min_salary"));
+                p.setMaximumSalary(rs.getDouble("max_salary"));
+                p.setDescription(rs.getString("job_description"));
+                positions.add(p);
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error loading positions", ex);
+            throw ex;
+        }
+
+        return positions;
+    }
+
+    List<String> loadDepartmentNames() throws SQLException {
+        List<String> departments = new ArrayList<>();
+
+        try (Connection conn = DataSourceManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_DEPARTMENT_NAMES);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                departments.add(rs.getString("department_name"));
             }
 
         } catch (SQLException ex) {
-            ex.printStackTrace();
+            logger.log(Level.SEVERE, "Error loading departments", ex);
+            throw ex;
         }
 
-        return null;
+        return departments;
     }
 }
@@ -0,0 +1,263 @@
+package dao;
+
+import model.EmploymentStatus;
+import model.Position;
+import util.ConfigurationManager;
+import util.PositionRoleMapper;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory copy of the reference tables: positions, departments and
+ * employment statuses. Lookups by ID or name are hash lookups on the loaded
+ * copy; nothing goes to the database per call.
+ *
+ * The copy is loaded at startup, reloaded every reference.data.refresh.minutes
+ * and on {@link #refresh()}, so positions added to the database are picked up
+ * without a redeploy. Each load builds a new immutable snapshot and swaps it
+ * in whole, so readers never see a half-loaded table. If a load fails the
+ * previous snapshot stays in use.
+ *
+ * Lookups return copies, so callers may modify what they get back.
+ */
+public final class ReferenceDataRegistry {
+    private static final Logger LOGGER = Logger.getLogger(ReferenceDataRegistry.class.getName());
+
+    // Before the first successful load, a lookup retries at most this often
+    private static final long LOAD_RETRY_MILLIS = 60_000;
+
+    private static final ReferenceDataRegistry INSTANCE =
+            new ReferenceDataRegistry(new PositionDAO(), new EmploymentStatusDAO());
+
+    private final PositionDAO positionDAO;
+    private final EmploymentStatusDAO statusDAO;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final List<Runnable> refreshListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long lastAttemptMillis;
+    private ScheduledExecutorService scheduler; // guarded by refreshLock
+
+    private ReferenceDataRegistry(PositionDAO positionDAO, EmploymentStatusDAO statusDAO) {
+        this.positionDAO = positionDAO;
+        this.statusDAO = statusDAO;
+    }
+
+    public static ReferenceDataRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Reloads every reference table now
+     * @return true if the new data is in use, false if loading failed and the previous data was kept
+     */
+    public boolean refresh() {
+        refreshLock.lock();
+        try {
+            lastAttemptMillis = System.currentTimeMillis();
+            Snapshot loaded;
+            try {
+                loaded = new Snapshot(positionDAO.loadAllPositions(), statusDAO.loadAllStatuses(),
+                        positionDAO.loadDepartmentNames(), lastAttemptMillis);
+            } catch (SQLException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "⚠️ Reference data could not be loaded, keeping "
+                        + (snapshot.isLoaded() ? "the previous copy" : "no reference data"), e);
+                return false;
+            }
+            snapshot = loaded;
+            PositionRoleMapper.registerPositions(loaded.positionTitles());
+            LOGGER.info("✅ Reference data loaded: " + loaded.positions.size() + " positions, "
+                    + loaded.statuses.size() + " statuses, " + loaded.departments.size() + " departments");
+        } finally {
+            refreshLock.unlock();
+        }
+
+        for (Runnable listener : refreshListeners) {
+            listener.run();
+        }
+        return true;
+    }
+
+    /**
+     * Starts reloading on the configured schedule; does nothing if already
+     * started or if reference.data.refresh.minutes is 0
+     */
+    public void startScheduledRefresh() {
+        int minutes = ConfigurationManager.getInstance().getReferenceDataRefreshMinutes();
+        if (minutes <= 0) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "reference-data-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refresh, minutes, minutes, TimeUnit.MINUTES);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Registers a callback run after every successful refresh
+     */
+    public void addRefreshListener(Runnable listener) {
+        refreshListeners.add(listener);
+    }
+
+    /**
+     * @return true once reference data has been loaded successfully
+     */
+    public boolean isLoaded() {
+        return snapshot.isLoaded();
+    }
+
+    /**
+     * @return when the data in use was loaded (epoch millis), 0 if never
+     */
+    public long getLoadedAtMillis() {
+        return snapshot.loadedAtMillis;
+    }
+
+    public Position getPosition(int positionId) {
+        return copyOf(current().positionsById.get(positionId));
+    }
+
+    public Position getPositionByTitle(String positionTitle) {
+        return copyOf(current().positionsByTitle.get(normalize(positionTitle)));
+    }
+
+    public List<Position> getPositions() {
+        List<Position> copies = new ArrayList<>();
+        for (Position position : current().positions) {
+            copies.add(copyOf(position));
+        }
+        return copies;
+    }
+
+    public EmploymentStatus getStatus(int statusId) {
+        return copyOf(current().statusesById.get(statusId));
+    }
+
+    public EmploymentStatus getStatusByName(String statusName) {
+        return copyOf(current().statusesByName.get(normalize(statusName)));
+    }
+
+    public List<EmploymentStatus> getStatuses() {
+        List<EmploymentStatus> copies = new ArrayList<>();
+        for (EmploymentStatus status : current().statuses) {
+            copies.add(copyOf(status));
+        }
+        return copies;
+    }
+
+    /**
+     * @return department names in alphabetical order
+     */
+    public List<String> getDepartmentNames() {
+        return current().departments;
+    }
+
+    /**
+     * The loaded snapshot; before the first successful load, tries to load
+     * it (at most once per LOAD_RETRY_MILLIS so an unreachable database is
+     * not hit on every lookup)
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (!current.isLoaded() && System.currentTimeMillis() - lastAttemptMillis >= LOAD_RETRY_MILLIS) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Position copyOf(Position p) {
+        if (p == null) {
+            return null;
+        }
+        Position copy = new Position(p.getPositionId(), p.getPositionName(), p.getDepartment());
+        copy.setMinimumSalary(p.getMinimumSalary());
+        copy.setMaximumSalary(p.getMaximumSalary());
+        copy.setDescription(p.getDescription());
+        return copy;
+    }
+
+    private static EmploymentStatus copyOf(EmploymentStatus s) {
+        if (s == null) {
+            return null;
+        }
+        EmploymentStatus copy = new EmploymentStatus(s.getStatusId(), s.getStatusName(), s.getDescription());
+        copy.setActive(s.isActive());
+        copy.setEligibleForBenefits(s.isEligibleForBenefits());
+        copy.setMaxLeaveDays(s.getMaxLeaveDays());
+        return copy;
+    }
+
+    /**
+     * One complete load of the reference tables, never modified after construction
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), 0);
+
+        final List<Position> positions;
+        final List<EmploymentStatus> statuses;
+        final List<String> departments;
+        final Map<Integer, Position> positionsById = new HashMap<>();
+        final Map<String, Position> positionsByTitle = new HashMap<>();
+        final Map<Integer, EmploymentStatus> statusesById = new HashMap<>();
+        final Map<String, EmploymentStatus> statusesByName = new HashMap<>();
+        final long loadedAtMillis;
+
+        Snapshot(List<Position> positions, List<EmploymentStatus> statuses, List<String> departments,
+                 long loadedAtMillis) {
+            this.positions = Collections.unmodifiableList(new ArrayList<>(positions));
+            this.statuses = Collections.unmodifiableList(new ArrayList<>(statuses));
+            this.departments = Collections.unmodifiableList(new ArrayList<>(departments));
+            this.loadedAtMillis = loadedAtMillis;
+            for (Position position : positions) {
+                positionsById.put(position.getPositionId(), position);
+                positionsByTitle.put(normalize(position.getPositionName()), position);
+            }
+            for (EmploymentStatus status : statuses) {
+                statusesById.put(status.getStatusId(), status);
+                statusesByName.put(normalize(status.getStatusName()), status);
+            }
+        }
+
+        boolean isLoaded() {
+            return loadedAtMillis > 0;
+        }
+
+        List<String> positionTitles() {
+            List<String> titles = new ArrayList<>();
+            for (Position position : positions) {
+                titles.add(position.getPositionName());
+            }
+            return titles;
+        }
+    }
+}
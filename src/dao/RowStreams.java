@@ -0,0 +1,118 @@
+package dao;
+
+import util.ConfigurationManager;
+import util.DataSourceManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams query results row by row instead of collecting them into a list,
+ * so reads over years of history run in constant heap.
+ *
+ * With the "performance" URL profile (useCursorFetch=true) rows come from a
+ * server-side cursor, db.stream.fetch.size rows per round trip. Otherwise
+ * Connector/J's row-by-row streaming mode is used, which keeps the
+ * connection busy until the stream is closed.
+ *
+ * The stream holds a pooled read connection until it is closed, so callers
+ * must use try-with-resources.
+ */
+final class RowStreams {
+    private static final Logger logger = Logger.getLogger(RowStreams.class.getName());
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface Binder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private RowStreams() {
+    }
+
+    /**
+     * @return an ordered stream of mapped rows; closing it releases the connection
+     * @throws RuntimeException if the query cannot be started
+     */
+    static <T> Stream<T> stream(String sql, Binder binder, RowMapper<T> mapper) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            conn = DataSourceManager.getReadConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ConfigurationManager config = ConfigurationManager.getInstance();
+            // Integer.MIN_VALUE is Connector/J's signal for row-by-row streaming without a cursor
+            stmt.setFetchSize(config.isCursorFetchEnabled() ? config.getStreamFetchSize() : Integer.MIN_VALUE);
+            binder.bind(stmt);
+            rs = stmt.executeQuery();
+        } catch (SQLException ex) {
+            closeQuietly(rs, stmt, conn);
+            logger.log(Level.SEVERE, "Error starting streaming query", ex);
+            throw new RuntimeException("Failed to start streaming query", ex);
+        }
+
+        ResultSet resultSet = rs;
+        PreparedStatement statement = stmt;
+        Connection connection = conn;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(resultSet));
+                    return true;
+                } catch (SQLException ex) {
+                    logger.log(Level.SEVERE, "Error reading streamed row", ex);
+                    throw new RuntimeException("Failed to read streamed row", ex);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false)
+                .onClose(() -> closeQuietly(resultSet, statement, connection));
+    }
+
+    /**
+     * Runs the action for each row
+     * @return number of rows read
+     */
+    static <T> int forEach(String sql, Binder binder, RowMapper<T> mapper, Consumer<? super T> action) {
+        int[] count = { 0 };
+        try (Stream<T> rows = stream(sql, binder, mapper)) {
+            rows.forEach(row -> {
+                action.accept(row);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Error closing streaming query resource", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package model;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+
+/**
+ * One employee's attendance totals for a period: days present, hours worked,
+ * and minutes late and short. Built either by AttendanceDAO's grouped query
+ * or from attendance records with {@link #fromRecords}; both give the same totals.
+ */
+public final class AttendanceSummary {
+    /** Start of the working day; lateness is measured from here */
+    public static final LocalTime SHIFT_START = LocalTime.of(8, 0);
+    /** Log-ins after this time count as late */
+    public static final LocalTime LATE_THRESHOLD = LocalTime.of(8, 15);
+    /** End of the working day; undertime is measured up to here */
+    public static final LocalTime SHIFT_END = LocalTime.of(17, 0);
+
+    private final int employeeId;
+    private final int daysPresent;
+    private final long workMinutes;
+    private final int lateCount;
+    private final long lateMinutes;
+    private final int undertimeCount;
+    private final long undertimeMinutes;
+
+    public AttendanceSummary(int employeeId, int daysPresent, long workMinutes,
+                             int lateCount, long lateMinutes, int undertimeCount, long undertimeMinutes) {
+        this.employeeId = employeeId;
+        this.daysPresent = daysPresent;
+        this.workMinutes = workMinutes;
+        this.lateCount = lateCount;
+        this.lateMinutes = lateMinutes;
+        this.undertimeCount = undertimeCount;
+        this.undertimeMinutes = undertimeMinutes;
+    }
+
+    /**
+     * Summary for an employee with no attendance in the period
+     */
+    public static AttendanceSummary empty(int employeeId) {
+        return new AttendanceSummary(employeeId, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Totals the records in Java the same way AttendanceDAO's grouped query does in SQL.
+     * Null records and records without a log-in are skipped.
+     */
+    public static AttendanceSummary fromRecords(int employeeId, Collection<Attendance> records) {
+        int daysPresent = 0;
+        long workMinutes = 0;
+        int lateCount = 0;
+        long lateMinutes = 0;
+        int undertimeCount = 0;
+        long undertimeMinutes = 0;
+
+        if (records != null) {
+            for (Attendance attendance : records) {
+                if (attendance == null || attendance.getLogIn() == null) {
+                    continue;
+                }
+                daysPresent++;
+                workMinutes += attendance.getWorkDuration().toMinutes();
+
+                LocalTime logIn = attendance.getLogIn().toLocalTime();
+                if (logIn.isAfter(LATE_THRESHOLD)) {
+                    lateCount++;
+                    lateMinutes += ChronoUnit.MINUTES.between(SHIFT_START, logIn);
+                }
+
+                if (attendance.getLogOut() != null) {
+                    LocalTime logOut = attendance.getLogOut().toLocalTime();
+                    if (logOut.isBefore(SHIFT_END)) {
+                        undertimeCount++;
+                        undertimeMinutes += ChronoUnit.MINUTES.between(logOut, SHIFT_END);
+                    }
+                }
+            }
+        }
+
+        return new AttendanceSummary(employeeId, daysPresent, workMinutes,
+                lateCount, lateMinutes, undertimeCount, undertimeMinutes);
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public int getDaysPresent() {
+        return daysPresent;
+    }
+
+    public long getWorkMinutes() {
+        return workMinutes;
+    }
+
+    public double getTotalWorkHours() {
+        return workMinutes / 60.0;
+    }
+
+    public double getAverageHoursPerDay() {
+        return daysPresent > 0 ? getTotalWorkHours() / daysPresent : 0.0;
+    }
+
+    public int getLateCount() {
+        return lateCount;
+    }
+
+    public long getLateMinutes() {
+        return lateMinutes;
+    }
+
+    public int getUndertimeCount() {
+        return undertimeCount;
+    }
+
+    public long getUndertimeMinutes() {
+        return undertimeMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return "AttendanceSummary{" +
+                "employeeId=" + employeeId +
+                ", daysPresent=" + daysPresent +
+                ", workHours=" + String.format("%.2f", getTotalWorkHours()) +
+                ", lateMinutes=" + lateMinutes +
+                ", undertimeMinutes=" + undertimeMinutes +
+                '}';
+    }
+}
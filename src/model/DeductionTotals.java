@@ -0,0 +1,98 @@
+package model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deduction totals per employee and {@link DeductionType}, as loaded by
+ * DeductionDAO's grouped query. Each employee's totals are held in a
+ * double[] indexed by type ordinal, so a workforce-wide table costs one
+ * small array per employee rather than a map of boxed values.
+ */
+public final class DeductionTotals {
+    private static final DeductionType[] TYPES = DeductionType.values();
+
+    private final Map<Integer, double[]> totalsByEmployee = new LinkedHashMap<>();
+
+    /**
+     * Adds an amount to the employee's total for the type
+     */
+    public void add(int employeeId, DeductionType type, double amount) {
+        totalsByEmployee.computeIfAbsent(employeeId, id -> new double[TYPES.length])[type.ordinal()] += amount;
+    }
+
+    /**
+     * @return the employee's total for the type; 0 if none was recorded
+     */
+    public double get(int employeeId, DeductionType type) {
+        double[] totals = totalsByEmployee.get(employeeId);
+        return totals != null ? totals[type.ordinal()] : 0.0;
+    }
+
+    /**
+     * @return the employee's total across all types
+     */
+    public double getEmployeeTotal(int employeeId) {
+        double[] totals = totalsByEmployee.get(employeeId);
+        double sum = 0.0;
+        if (totals != null) {
+            for (double total : totals) {
+                sum += total;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return the type's total across all employees
+     */
+    public double getTypeTotal(DeductionType type) {
+        double sum = 0.0;
+        for (double[] totals : totalsByEmployee.values()) {
+            sum += totals[type.ordinal()];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the employee's totals with every type present, 0 where none was recorded
+     */
+    public EnumMap<DeductionType, Double> forEmployee(int employeeId) {
+        double[] totals = totalsByEmployee.get(employeeId);
+        EnumMap<DeductionType, Double> byType = new EnumMap<>(DeductionType.class);
+        for (DeductionType type : TYPES) {
+            byType.put(type, totals != null ? totals[type.ordinal()] : 0.0);
+        }
+        return byType;
+    }
+
+    /**
+     * @return totals across all employees with every type present
+     */
+    public EnumMap<DeductionType, Double> byType() {
+        EnumMap<DeductionType, Double> byType = new EnumMap<>(DeductionType.class);
+        for (DeductionType type : TYPES) {
+            byType.put(type, getTypeTotal(type));
+        }
+        return byType;
+    }
+
+    /**
+     * @return IDs of employees with at least one deduction, in query order
+     */
+    public Set<Integer> getEmployeeIds() {
+        return Collections.unmodifiableSet(totalsByEmployee.keySet());
+    }
+
+    public boolean isEmpty() {
+        return totalsByEmployee.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "DeductionTotals{employees=" + totalsByEmployee.size() + ", byType=" + byType() + '}';
+    }
+}
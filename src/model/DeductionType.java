@@ -0,0 +1,48 @@
+package model;
+
+import java.util.Locale;
+
+/**
+ * Kinds of deduction recorded in the deductions table. The codes are the
+ * values stored in its type column (see the TYPE_ constants on {@link Deduction});
+ * any other stored value is counted as OTHER.
+ */
+public enum DeductionType {
+    LATE(Deduction.TYPE_LATE),
+    UNDERTIME(Deduction.TYPE_UNDERTIME),
+    UNPAID_LEAVE(Deduction.TYPE_UNPAID_LEAVE),
+    SSS(Deduction.TYPE_SSS),
+    PHILHEALTH(Deduction.TYPE_PHILHEALTH),
+    PAGIBIG(Deduction.TYPE_PAGIBIG),
+    TAX(Deduction.TYPE_TAX),
+    OTHER("Other");
+
+    private final String code;
+
+    DeductionType(String code) {
+        this.code = code;
+    }
+
+    /**
+     * @return the value stored in deductions.type
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return the type with the given code, ignoring case and surrounding
+     *         spaces as the column's collation does; OTHER if none matches
+     */
+    public static DeductionType fromCode(String code) {
+        if (code != null) {
+            String trimmed = code.trim().toLowerCase(Locale.ROOT);
+            for (DeductionType type : values()) {
+                if (type.code.toLowerCase(Locale.ROOT).equals(trimmed)) {
+                    return type;
+                }
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,60 @@
+package model;
+
+/**
+ * Read-only summary of an employee for list and table views.
+ * Carries only the columns those screens display; load the full
+ * {@link Employee} with EmployeeDAO.getEmployeeById when a row is opened.
+ */
+public final class EmployeeListRow {
+    private final int employeeId;
+    private final String lastName;
+    private final String firstName;
+    private final String position;
+    private final String status;
+    private final double basicSalary;
+
+    public EmployeeListRow(int employeeId, String lastName, String firstName,
+                           String position, String status, double basicSalary) {
+        this.employeeId = employeeId;
+        this.lastName = lastName;
+        this.firstName = firstName;
+        this.position = position;
+        this.status = status;
+        this.basicSalary = basicSalary;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public double getBasicSalary() {
+        return basicSalary;
+    }
+
+    public String getFullName() {
+        if (firstName == null || lastName == null) return "Unknown";
+        return firstName.trim() + " " + lastName.trim();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EmployeeListRow{id=%d, name='%s', position='%s', status='%s'}",
+                employeeId, getFullName(), position, status);
+    }
+}
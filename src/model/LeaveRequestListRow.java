@@ -0,0 +1,85 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Read-only leave request joined with the requesting employee's name,
+ * for the leave management table.
+ */
+public final class LeaveRequestListRow {
+    private final int leaveId;
+    private final int employeeId;
+    private final String employeeName;
+    private final String leaveType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String status;
+    private final LocalDateTime createdAt;
+
+    public LeaveRequestListRow(int leaveId, int employeeId, String employeeName, String leaveType,
+                               LocalDate startDate, LocalDate endDate, String status, LocalDateTime createdAt) {
+        this.leaveId = leaveId;
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.leaveType = leaveType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public int getLeaveId() {
+        return leaveId;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    /** @return "First Last", or "Unknown" if the employee no longer exists */
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public String getLeaveType() {
+        return leaveType;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /** @return when the request was filed, or null if not recorded */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getLeaveDays() {
+        if (startDate == null || endDate == null) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(startDate, endDate) + 1; // +1 to include both start and end dates
+    }
+
+    @Override
+    public String toString() {
+        return "LeaveRequestListRow{" +
+                "leaveId=" + leaveId +
+                ", employee='" + employeeName + '\'' +
+                ", type='" + leaveType + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
@@ -48,6 +48,37 @@ public class Payroll {
         this.periodEnd = periodEnd;
     }
 
+    /**
+     * Copy constructor; the copy shares nothing with the original
+     */
+    public Payroll(Payroll other) {
+        this.payrollId = other.payrollId;
+        this.employeeId = other.employeeId;
+        this.periodStart = other.periodStart != null ? new Date(other.periodStart.getTime()) : null;
+        this.periodEnd = other.periodEnd != null ? new Date(other.periodEnd.getTime()) : null;
+        this.monthlyRate = other.monthlyRate;
+        this.daysWorked = other.daysWorked;
+        this.overtimeHours = other.overtimeHours;
+        this.grossPay = other.grossPay;
+        this.totalDeductions = other.totalDeductions;
+        this.netPay = other.netPay;
+        this.grossEarnings = other.grossEarnings;
+        this.dailyRate = other.dailyRate;
+        this.lateDeduction = other.lateDeduction;
+        this.undertimeDeduction = other.undertimeDeduction;
+        this.unpaidLeaveDeduction = other.unpaidLeaveDeduction;
+        this.overtimePay = other.overtimePay;
+        this.riceSubsidy = other.riceSubsidy;
+        this.phoneAllowance = other.phoneAllowance;
+        this.clothingAllowance = other.clothingAllowance;
+        this.sss = other.sss;
+        this.philhealth = other.philhealth;
+        this.pagibig = other.pagibig;
+        this.tax = other.tax;
+        this.unpaidLeaveCount = other.unpaidLeaveCount;
+        this.totalOvertimeHours = other.totalOvertimeHours;
+    }
+
     // Basic Getters and Setters
     public int getPayrollId() {
         return payrollId;
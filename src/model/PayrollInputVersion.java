@@ -0,0 +1,120 @@
+package model;
+
+import java.sql.Timestamp;
+
+/**
+ * What an employee's payroll for one period is calculated from, read with
+ * one cheap query instead of loading the inputs themselves: the salary and
+ * allowance columns, the number of attendance and leave rows in the period
+ * with their updated_at stamps, and the approved overtime hours (the
+ * overtime table has no updated_at). Two equal versions give the same payroll.
+ *
+ * Inserting or deleting a row changes its count; updating one moves its
+ * updated_at forward and so changes the stamp sum. updated_at has
+ * one-second precision, so a version is only {@link #isSettled() settled}
+ * once its newest row is older than the database clock's current second; a
+ * later update of any counted row then always gets a newer stamp.
+ */
+public final class PayrollInputVersion {
+    private final int employeeId;
+    private final double basicSalary;
+    private final double riceSubsidy;
+    private final double phoneAllowance;
+    private final double clothingAllowance;
+    private final long attendanceRows;
+    private final long attendanceStamp;
+    private final long leaveRows;
+    private final long leaveStamp;
+    private final long overtimeRows;
+    private final double approvedOvertimeHours;
+    private final boolean settled;
+
+    public PayrollInputVersion(int employeeId, double basicSalary, double riceSubsidy, double phoneAllowance,
+                               double clothingAllowance, long attendanceRows, long attendanceStamp,
+                               long leaveRows, long leaveStamp, long overtimeRows, double approvedOvertimeHours,
+                               Timestamp newestUpdate, Timestamp databaseNow) {
+        this.employeeId = employeeId;
+        this.basicSalary = basicSalary;
+        this.riceSubsidy = riceSubsidy;
+        this.phoneAllowance = phoneAllowance;
+        this.clothingAllowance = clothingAllowance;
+        this.attendanceRows = attendanceRows;
+        this.attendanceStamp = attendanceStamp;
+        this.leaveRows = leaveRows;
+        this.leaveStamp = leaveStamp;
+        this.overtimeRows = overtimeRows;
+        this.approvedOvertimeHours = approvedOvertimeHours;
+        this.settled = newestUpdate == null || databaseNow == null || newestUpdate.before(databaseNow);
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * @return false while a counted row was updated within the database's
+     *         current second, when a result must not be cached under this version
+     */
+    public boolean isSettled() {
+        return settled;
+    }
+
+    /**
+     * @return true if the employee object carries the pay columns this
+     *         version was read with, so a result cached under it applies
+     */
+    public boolean matches(Employee employee) {
+        return employee != null
+                && employee.getEmployeeId() == employeeId
+                && Double.compare(employee.getBasicSalary(), basicSalary) == 0
+                && Double.compare(employee.getRiceSubsidy(), riceSubsidy) == 0
+                && Double.compare(employee.getPhoneAllowance(), phoneAllowance) == 0
+                && Double.compare(employee.getClothingAllowance(), clothingAllowance) == 0;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PayrollInputVersion)) return false;
+        PayrollInputVersion other = (PayrollInputVersion) obj;
+        return employeeId == other.employeeId
+                && Double.compare(basicSalary, other.basicSalary) == 0
+                && Double.compare(riceSubsidy, other.riceSubsidy) == 0
+                && Double.compare(phoneAllowance, other.phoneAllowance) == 0
+                && Double.compare(clothingAllowance, other.clothingAllowance) == 0
+                && attendanceRows == other.attendanceRows
+                && attendanceStamp == other.attendanceStamp
+                && leaveRows == other.leaveRows
+                && leaveStamp == other.leaveStamp
+                && overtimeRows == other.overtimeRows
+                && Double.compare(approvedOvertimeHours, other.approvedOvertimeHours) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = employeeId;
+        result = 31 * result + Double.hashCode(basicSalary);
+        result = 31 * result + Double.hashCode(riceSubsidy);
+        result = 31 * result + Double.hashCode(phoneAllowance);
+        result = 31 * result + Double.hashCode(clothingAllowance);
+        result = 31 * result + Long.hashCode(attendanceRows);
+        result = 31 * result + Long.hashCode(attendanceStamp);
+        result = 31 * result + Long.hashCode(leaveRows);
+        result = 31 * result + Long.hashCode(leaveStamp);
+        result = 31 * result + Long.hashCode(overtimeRows);
+        result = 31 * result + Double.hashCode(approvedOvertimeHours);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollInputVersion{" +
+                "employeeId=" + employeeId +
+                ", basicSalary=" + basicSalary +
+                ", attendanceRows=" + attendanceRows +
+                ", leaveRows=" + leaveRows +
+                ", overtimeRows=" + overtimeRows +
+                ", settled=" + settled +
+                '}';
+    }
+}
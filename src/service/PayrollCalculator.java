@@ -5,11 +5,15 @@ import dao.EmployeeDAO;
 import dao.LeaveRequestDAO;
 import dao.OvertimeDAO;
 import dao.DeductionDAO;
+import dao.PayrollDAO;
+import dao.CacheStats;
 import model.Attendance;
+import model.AttendanceSummary;
 import model.Employee;
 import model.LeaveRequest;
 import model.Overtime;
 import model.Payroll;
+import model.PayrollInputVersion;
 import model.Deduction;
 
 import java.sql.Date;
@@ -17,11 +21,17 @@ import java.sql.Time;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import util.ConfigurationManager;
+
 /**
  * Enhanced PayrollCalculator with better error handling and AOOP compliance
  * Addresses mentor feedback about functionality bugs and proper OOP implementation
@@ -35,14 +45,28 @@ public class PayrollCalculator {
         int STANDARD_WORKING_DAYS_PER_MONTH = 22;
         int STANDARD_WORKING_HOURS_PER_DAY = 8;
         double OVERTIME_RATE_MULTIPLIER = 1.25;
-        LocalTime STANDARD_LOGIN_TIME = LocalTime.of(8, 0);
-        LocalTime LATE_THRESHOLD_TIME = LocalTime.of(8, 15);
-        LocalTime STANDARD_LOGOUT_TIME = LocalTime.of(17, 0);
+        LocalTime STANDARD_LOGIN_TIME = AttendanceSummary.SHIFT_START;
+        LocalTime LATE_THRESHOLD_TIME = AttendanceSummary.LATE_THRESHOLD;
+        LocalTime STANDARD_LOGOUT_TIME = AttendanceSummary.SHIFT_END;
+    }
+
+    /**
+     * Where attendance totals come from. Both give the same payroll.
+     * RECORDS loads each attendance row and totals it in Java;
+     * SUMMARY has the database total it with one grouped query.
+     */
+    public enum AttendanceInput {
+        RECORDS,
+        SUMMARY
     }
 
+    // Shared by every calculator so a report previewed and then exported is calculated once
+    private static final PayrollResultCache RESULT_CACHE = createResultCache();
+
     // DAO instances with proper initialization
     private final EmployeeDAO employeeDAO;
     private final AttendanceDAO attendanceDAO;
+    private final PayrollDAO payrollDAO;
     private LeaveRequestDAO leaveDAO;
     private OvertimeDAO overtimeDAO;
     private DeductionDAO deductionDAO;
@@ -51,6 +75,7 @@ public class PayrollCalculator {
     public PayrollCalculator() {
         this.employeeDAO = new EmployeeDAO();
         this.attendanceDAO = new AttendanceDAO();
+        this.payrollDAO = new PayrollDAO();
         
         // Initialize optional DAOs with proper error handling
         initializeOptionalDAOs();
@@ -88,26 +113,36 @@ public class PayrollCalculator {
      */
     public Payroll calculatePayroll(int employeeId, LocalDate periodStart, LocalDate periodEnd)
             throws PayrollCalculationException {
+        return calculatePayroll(employeeId, periodStart, periodEnd, configuredAttendanceInput());
+    }
+
+    /**
+     * Calculates one employee's payroll with attendance totals from the given source
+     */
+    public Payroll calculatePayroll(int employeeId, LocalDate periodStart, LocalDate periodEnd, AttendanceInput input)
+            throws PayrollCalculationException {
 
         try {
             // Enhanced input validation
             validateCalculationInputs(employeeId, periodStart, periodEnd);
 
+            // A re-request with unchanged inputs is answered after one query
+            PayrollInputVersion version = loadInputVersions(Collections.singletonList(employeeId),
+                    periodStart, periodEnd).get(employeeId);
+            Payroll cached = cachedPayroll(employeeId, periodStart, periodEnd, version);
+            if (cached != null) {
+                return cached;
+            }
+
             // Get employee with better error handling
             Employee employee = getEmployeeWithValidation(employeeId);
 
-            // Initialize payroll object
-            Payroll payroll = createPayrollObject(employeeId, periodStart, periodEnd, employee);
-
-            // Calculate all payroll components with error handling
-            calculateAllPayrollComponents(payroll, employee, periodStart, periodEnd);
-
-            // Final calculations and validation
-            finalizePayrollCalculation(payroll);
+            // Load the period's records for this employee
+            AttendanceSummary attendance = loadAttendanceSummary(employeeId, periodStart, periodEnd, input);
+            List<Overtime> overtimeList = loadOvertime(employeeId, periodStart, periodEnd);
+            List<LeaveRequest> approvedLeaves = loadApprovedLeaves(employeeId, periodStart, periodEnd);
 
-            logPayrollSummary(payroll, employee, periodStart, periodEnd);
-
-            return payroll;
+            return calculatePayroll(employee, periodStart, periodEnd, attendance, overtimeList, approvedLeaves, version);
 
         } catch (PayrollCalculationException e) {
             throw e; // Re-throw custom exceptions
@@ -117,11 +152,267 @@ public class PayrollCalculator {
         }
     }
 
+    /**
+     * Calculates payroll for many employees using one attendance, one overtime
+     * and one leave query for the whole period instead of three per employee.
+     * Employees whose payroll cannot be calculated are logged and left out.
+     * @return payroll by employee ID, in the order the employees were given
+     * @throws PayrollCalculationException if the period is invalid or attendance cannot be loaded
+     */
+    public Map<Integer, Payroll> calculatePayrollForEmployees(List<Employee> employees,
+                                                              LocalDate periodStart, LocalDate periodEnd)
+            throws PayrollCalculationException {
+        return calculatePayrollForEmployees(employees, periodStart, periodEnd, configuredAttendanceInput());
+    }
+
+    /**
+     * Batch calculation with attendance totals from the given source; with
+     * SUMMARY the database returns one row per employee instead of one per day
+     */
+    public Map<Integer, Payroll> calculatePayrollForEmployees(List<Employee> employees,
+                                                              LocalDate periodStart, LocalDate periodEnd,
+                                                              AttendanceInput input)
+            throws PayrollCalculationException {
+        validatePeriod(periodStart, periodEnd);
+
+        Map<Integer, Payroll> payrolls = new LinkedHashMap<>();
+        if (employees == null || employees.isEmpty()) {
+            return payrolls;
+        }
+
+        // Inputs are only loaded for employees whose cached payroll is out of date
+        Map<Integer, PayrollInputVersion> versions = loadInputVersions(employees.stream()
+                .map(Employee::getEmployeeId)
+                .collect(Collectors.toList()), periodStart, periodEnd);
+        Map<Integer, Payroll> cachedPayrolls = new HashMap<>();
+        for (Employee employee : employees) {
+            PayrollInputVersion version = versions.get(employee.getEmployeeId());
+            Payroll cached = version != null && version.matches(employee)
+                    ? cachedPayroll(employee.getEmployeeId(), periodStart, periodEnd, version) : null;
+            if (cached != null) {
+                cachedPayrolls.put(employee.getEmployeeId(), cached);
+            }
+        }
+        List<Integer> employeeIds = employees.stream()
+                .map(Employee::getEmployeeId)
+                .filter(employeeId -> !cachedPayrolls.containsKey(employeeId))
+                .collect(Collectors.toList());
+
+        Map<Integer, AttendanceSummary> attendanceByEmployee = new LinkedHashMap<>();
+        Map<Integer, List<Overtime>> overtimeByEmployee = Collections.emptyMap();
+        Map<Integer, List<LeaveRequest>> leavesByEmployee = Collections.emptyMap();
+        try {
+            if (employeeIds.isEmpty()) {
+                LOGGER.fine("All payrolls unchanged since last calculated; no inputs loaded");
+            } else if (input == AttendanceInput.SUMMARY) {
+                attendanceByEmployee = attendanceDAO.getAttendanceSummariesByPeriod(employeeIds, periodStart, periodEnd);
+            } else {
+                for (Map.Entry<Integer, List<Attendance>> records
+                        : attendanceDAO.getAttendanceByPeriod(employeeIds, periodStart, periodEnd).entrySet()) {
+                    attendanceByEmployee.put(records.getKey(),
+                            AttendanceSummary.fromRecords(records.getKey(), records.getValue()));
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "❌ Error loading attendance for payroll run", e);
+            throw new PayrollCalculationException("Failed to load attendance for payroll run: " + e.getMessage(), e);
+        }
+        if (!employeeIds.isEmpty()) {
+            overtimeByEmployee = loadOvertime(employeeIds, periodStart, periodEnd);
+            leavesByEmployee = loadApprovedLeaves(employeeIds, periodStart, periodEnd);
+        }
+
+        for (Employee employee : employees) {
+            int employeeId = employee.getEmployeeId();
+            Payroll cached = cachedPayrolls.get(employeeId);
+            if (cached != null) {
+                payrolls.put(employeeId, cached);
+                continue;
+            }
+            try {
+                validateEmployee(employee);
+                Payroll payroll = calculatePayroll(employee, periodStart, periodEnd,
+                        attendanceByEmployee.getOrDefault(employeeId, AttendanceSummary.empty(employeeId)),
+                        overtimeByEmployee.getOrDefault(employeeId, Collections.emptyList()),
+                        leavesByEmployee.getOrDefault(employeeId, Collections.emptyList()),
+                        versions.get(employeeId));
+                payrolls.put(employeeId, payroll);
+            } catch (Exception e) {
+                LOGGER.warning("⚠️ Skipping payroll for employee " + employeeId + ": " + e.getMessage());
+            }
+        }
+
+        LOGGER.info(String.format("✅ Calculated payroll for %d of %d employees (period: %s to %s, attendance from %s)",
+                payrolls.size(), employees.size(), periodStart, periodEnd, input));
+        return payrolls;
+    }
+
+    /**
+     * @return counters for the payroll result cache, for monitoring
+     */
+    public static CacheStats getResultCacheStats() {
+        return RESULT_CACHE.stats();
+    }
+
+    /**
+     * Drops every cached payroll result, e.g. after the contribution or tax tables change
+     */
+    public static void clearResultCache() {
+        RESULT_CACHE.invalidateAll();
+    }
+
+    private static PayrollResultCache createResultCache() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        PayrollResultCache cache = new PayrollResultCache(config.getPayrollCacheMaxSize());
+        config.addReloadListener(() -> cache.configure(config.getPayrollCacheMaxSize()));
+        return cache;
+    }
+
+    /**
+     * Reads the input versions of the employees' payrolls for the period
+     * @return versions by employee ID; empty if caching is off or the read failed
+     */
+    private Map<Integer, PayrollInputVersion> loadInputVersions(List<Integer> employeeIds,
+                                                                LocalDate periodStart, LocalDate periodEnd) {
+        if (!RESULT_CACHE.isEnabled()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return payrollDAO.getPayrollInputVersions(employeeIds, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Payroll cache check failed, calculating without it: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return the cached payroll if it was calculated from inputs of the same version, otherwise null
+     */
+    private Payroll cachedPayroll(int employeeId, LocalDate periodStart, LocalDate periodEnd,
+                                  PayrollInputVersion version) {
+        if (version == null) {
+            return null;
+        }
+        return RESULT_CACHE.get(employeeId, periodStart, periodEnd, version);
+    }
+
+    /**
+     * Calculates from loaded inputs and caches the result under the version
+     * read before them, unless the employee row changed in between
+     */
+    private Payroll calculatePayroll(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                     AttendanceSummary attendance, List<Overtime> overtimeList,
+                                     List<LeaveRequest> approvedLeaves, PayrollInputVersion version)
+            throws PayrollCalculationException {
+        Payroll payroll = calculateUncached(employee, periodStart, periodEnd, attendance, overtimeList, approvedLeaves);
+        if (version != null && version.matches(employee)) {
+            RESULT_CACHE.put(employee.getEmployeeId(), periodStart, periodEnd, version, payroll);
+        }
+        return payroll;
+    }
+
+    private Payroll calculateUncached(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                      AttendanceSummary attendance, List<Overtime> overtimeList,
+                                      List<LeaveRequest> approvedLeaves) throws PayrollCalculationException {
+        // Initialize payroll object
+        Payroll payroll = createPayrollObject(employee.getEmployeeId(), periodStart, periodEnd, employee);
+
+        // Calculate all payroll components with error handling
+        calculateAllPayrollComponents(payroll, employee, periodStart, periodEnd,
+                attendance, overtimeList, approvedLeaves);
+
+        // Final calculations and validation
+        finalizePayrollCalculation(payroll);
+
+        logPayrollSummary(payroll, employee, periodStart, periodEnd);
+
+        return payroll;
+    }
+
+    private AttendanceSummary loadAttendanceSummary(int employeeId, LocalDate periodStart, LocalDate periodEnd,
+                                                    AttendanceInput input) throws PayrollCalculationException {
+        try {
+            if (input == AttendanceInput.SUMMARY) {
+                return attendanceDAO.getAttendanceSummary(employeeId, periodStart, periodEnd);
+            }
+            return AttendanceSummary.fromRecords(employeeId,
+                    attendanceDAO.getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "❌ Error calculating attendance-based earnings", e);
+            throw new PayrollCalculationException("Failed to calculate attendance-based earnings: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Overtime> loadOvertime(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (overtimeDAO == null) {
+            LOGGER.info("ℹ️ Overtime calculation skipped - OvertimeDAO not available");
+            return Collections.emptyList();
+        }
+        try {
+            return overtimeDAO.getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error calculating overtime, setting to 0: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private Map<Integer, List<Overtime>> loadOvertime(List<Integer> employeeIds, LocalDate periodStart, LocalDate periodEnd) {
+        if (overtimeDAO == null) {
+            LOGGER.info("ℹ️ Overtime calculation skipped - OvertimeDAO not available");
+            return Collections.emptyMap();
+        }
+        try {
+            return overtimeDAO.getOvertimeByPeriod(employeeIds, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error loading overtime for payroll run, setting to 0: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private List<LeaveRequest> loadApprovedLeaves(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (leaveDAO == null) {
+            LOGGER.info("ℹ️ Unpaid leave calculation skipped - LeaveRequestDAO not available");
+            return Collections.emptyList();
+        }
+        try {
+            return leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error calculating unpaid leave deduction: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private Map<Integer, List<LeaveRequest>> loadApprovedLeaves(List<Integer> employeeIds,
+                                                                LocalDate periodStart, LocalDate periodEnd) {
+        if (leaveDAO == null) {
+            LOGGER.info("ℹ️ Unpaid leave calculation skipped - LeaveRequestDAO not available");
+            return Collections.emptyMap();
+        }
+        try {
+            return leaveDAO.getApprovedLeavesByPeriod(employeeIds, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error loading approved leave for payroll run, setting to 0: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return the payroll.attendance.input setting, SUMMARY unless set to "records"
+     */
+    private AttendanceInput configuredAttendanceInput() {
+        String setting = ConfigurationManager.getInstance().getPayrollAttendanceInput();
+        return "records".equalsIgnoreCase(setting) ? AttendanceInput.RECORDS : AttendanceInput.SUMMARY;
+    }
+
     private void validateCalculationInputs(int employeeId, LocalDate periodStart, LocalDate periodEnd) 
             throws PayrollCalculationException {
         if (employeeId <= 0) {
             throw new PayrollCalculationException("Invalid employee ID: " + employeeId + ". Employee ID must be positive.");
         }
+        validatePeriod(periodStart, periodEnd);
+    }
+
+    private void validatePeriod(LocalDate periodStart, LocalDate periodEnd) throws PayrollCalculationException {
         if (periodStart == null || periodEnd == null) {
             throw new PayrollCalculationException("Period dates cannot be null. Please provide valid start and end dates.");
         }
@@ -140,9 +431,7 @@ public class PayrollCalculator {
                 throw new PayrollCalculationException("Employee not found with ID: " + employeeId + ". Please verify the employee exists in the system.");
             }
 
-            if (employee.getBasicSalary() <= 0) {
-                throw new PayrollCalculationException("Invalid employee data: Employee " + employeeId + " has invalid basic salary (" + employee.getBasicSalary() + ")");
-            }
+            validateEmployee(employee);
 
             return employee;
         } catch (Exception e) {
@@ -153,6 +442,12 @@ public class PayrollCalculator {
         }
     }
 
+    private void validateEmployee(Employee employee) throws PayrollCalculationException {
+        if (employee.getBasicSalary() <= 0) {
+            throw new PayrollCalculationException("Invalid employee data: Employee " + employee.getEmployeeId() + " has invalid basic salary (" + employee.getBasicSalary() + ")");
+        }
+    }
+
     private Payroll createPayrollObject(int employeeId, LocalDate periodStart, LocalDate periodEnd, Employee employee) {
         Payroll payroll = new Payroll(employeeId, Date.valueOf(periodStart), Date.valueOf(periodEnd));
         
@@ -165,22 +460,24 @@ public class PayrollCalculator {
         return payroll;
     }
 
-    private void calculateAllPayrollComponents(Payroll payroll, Employee employee, LocalDate periodStart, LocalDate periodEnd) 
+    private void calculateAllPayrollComponents(Payroll payroll, Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                               AttendanceSummary attendance, List<Overtime> overtimeList,
+                                               List<LeaveRequest> approvedLeaves)
             throws PayrollCalculationException {
         try {
             double dailyRate = payroll.getDailyRate();
             
             // Calculate attendance-based earnings
-            calculateAttendanceBasedEarnings(payroll, employee.getEmployeeId(), periodStart, periodEnd, dailyRate);
+            calculateAttendanceBasedEarnings(payroll, employee.getEmployeeId(), attendance, periodStart, periodEnd, dailyRate);
 
             // Calculate overtime earnings
-            calculateOvertimeEarnings(payroll, employee.getEmployeeId(), periodStart, periodEnd, dailyRate);
+            calculateOvertimeEarnings(payroll, employee.getEmployeeId(), overtimeList, dailyRate);
 
             // Calculate allowances and benefits
             calculateAllowancesAndBenefits(payroll, employee);
 
             // Calculate time-based deductions
-            calculateTimeBasedDeductions(payroll, employee.getEmployeeId(), periodStart, periodEnd, dailyRate);
+            calculateTimeBasedDeductions(payroll, employee.getEmployeeId(), attendance, approvedLeaves, dailyRate);
 
             // Calculate government contributions and tax
             calculateGovernmentContributionsAndTax(payroll, employee.getBasicSalary());
@@ -206,7 +503,7 @@ public class PayrollCalculator {
     /**
      * FIXED: Better attendance calculation with proper error handling
      */
-    private void calculateAttendanceBasedEarnings(Payroll payroll, int employeeId,
+    private void calculateAttendanceBasedEarnings(Payroll payroll, int employeeId, AttendanceSummary attendance,
                                                    LocalDate periodStart, LocalDate periodEnd, double dailyRate) 
             throws PayrollCalculationException {
 
@@ -214,47 +511,22 @@ public class PayrollCalculator {
                 employeeId, periodStart, periodEnd));
 
         try {
-            List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                    employeeId, periodStart, periodEnd);
-
-            if (attendanceList == null) {
-                LOGGER.warning("⚠️ Attendance list is null for employee " + employeeId);
+            if (attendance == null) {
+                LOGGER.warning("⚠️ Attendance summary is null for employee " + employeeId);
                 payroll.setDaysWorked(0);
                 payroll.setGrossEarnings(0.0);
                 return;
             }
 
-            LOGGER.info(String.format("📊 Found %d attendance records for employee %d", attendanceList.size(), employeeId));
-
-            int validAttendanceDays = 0;
-            double totalValidHours = 0.0;
-
-            for (Attendance attendance : attendanceList) {
-                if (attendance == null) {
-                    LOGGER.warning("⚠️ Null attendance record found, skipping");
-                    continue;
-                }
-
-                if (attendance.getLogIn() != null) {
-                    validAttendanceDays++;
-                    double workHours = attendance.getWorkHours();
-                    totalValidHours += workHours;
-
-                    LOGGER.fine(String.format("✓ Valid attendance: Date=%s, Hours=%.2f", 
-                            attendance.getDate(), workHours));
-                } else {
-                    LOGGER.warning(String.format("⚠️ Invalid attendance (no log in): Date=%s", 
-                            attendance.getDate()));
-                }
-            }
+            int validAttendanceDays = attendance.getDaysPresent();
 
             // Set calculated values
             payroll.setDaysWorked(validAttendanceDays);
             double basicPay = validAttendanceDays * dailyRate;
             payroll.setGrossEarnings(basicPay);
 
-            LOGGER.info(String.format("✅ Attendance calculation complete: %d days worked, %.2f basic pay", 
-                    validAttendanceDays, basicPay));
+            LOGGER.info(String.format("✅ Attendance calculation complete: %d days worked, %.2f hours, %.2f basic pay", 
+                    validAttendanceDays, attendance.getTotalWorkHours(), basicPay));
 
             // Warn if no valid attendance found
             if (validAttendanceDays == 0) {
@@ -272,18 +544,8 @@ public class PayrollCalculator {
      * FIXED: Better overtime calculation with proper null checks
      */
     private void calculateOvertimeEarnings(Payroll payroll, int employeeId,
-                                           LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
-        if (overtimeDAO == null) {
-            LOGGER.info("ℹ️ Overtime calculation skipped - OvertimeDAO not available");
-            payroll.setTotalOvertimeHours(0.0);
-            payroll.setOvertimePay(0.0);
-            return;
-        }
-
+                                           List<Overtime> overtimeList, double dailyRate) {
         try {
-            List<Overtime> overtimeList = overtimeDAO.getOvertimeByEmployeeIdAndDateRange(
-                    employeeId, periodStart, periodEnd);
-
             if (overtimeList == null) {
                 LOGGER.warning("⚠️ Overtime list is null for employee " + employeeId);
                 payroll.setTotalOvertimeHours(0.0);
@@ -291,10 +553,7 @@ public class PayrollCalculator {
                 return;
             }
 
-            double totalOvertimeHours = overtimeList.stream()
-                    .filter(overtime -> overtime != null && overtime.isApproved())
-                    .mapToDouble(Overtime::getHours)
-                    .sum();
+            double totalOvertimeHours = approvedOvertimeHours(overtimeList);
 
             double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
             double overtimePay = totalOvertimeHours * hourlyRate * PayrollConstants.OVERTIME_RATE_MULTIPLIER;
@@ -339,28 +598,24 @@ public class PayrollCalculator {
     /**
      * FIXED: Enhanced time-based deductions with better error handling
      */
-    private void calculateTimeBasedDeductions(Payroll payroll, int employeeId,
-                                              LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
+    private void calculateTimeBasedDeductions(Payroll payroll, int employeeId, AttendanceSummary attendance,
+                                              List<LeaveRequest> approvedLeaves, double dailyRate) {
         try {
-            // Get attendance records safely
-            List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                    employeeId, periodStart, periodEnd);
-
-            if (attendanceList == null) {
+            if (attendance == null) {
                 LOGGER.warning("⚠️ No attendance data for deduction calculation");
                 setZeroDeductions(payroll);
                 return;
             }
 
             // Calculate time-based deductions
-            double lateDeduction = calculateLateDeduction(attendanceList, dailyRate);
-            double undertimeDeduction = calculateUndertimeDeduction(attendanceList, dailyRate);
+            double lateDeduction = calculateLateDeduction(attendance, dailyRate);
+            double undertimeDeduction = calculateUndertimeDeduction(attendance, dailyRate);
 
             payroll.setLateDeduction(lateDeduction);
             payroll.setUndertimeDeduction(undertimeDeduction);
 
             // Calculate unpaid leave deduction
-            calculateUnpaidLeaveDeduction(payroll, employeeId, periodStart, periodEnd, dailyRate);
+            calculateUnpaidLeaveDeduction(payroll, employeeId, approvedLeaves, dailyRate);
 
             LOGGER.info(String.format("✅ Time deductions for employee %d - Late: ₱%.2f, Undertime: ₱%.2f, Unpaid Leave: ₱%.2f",
                     employeeId, lateDeduction, undertimeDeduction, payroll.getUnpaidLeaveDeduction()));
@@ -379,28 +634,15 @@ public class PayrollCalculator {
     }
 
     private void calculateUnpaidLeaveDeduction(Payroll payroll, int employeeId, 
-                                               LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
-        if (leaveDAO == null) {
-            LOGGER.info("ℹ️ Unpaid leave calculation skipped - LeaveRequestDAO not available");
-            payroll.setUnpaidLeaveDeduction(0.0);
-            payroll.setUnpaidLeaveCount(0);
-            return;
-        }
-
+                                               List<LeaveRequest> approvedLeaves, double dailyRate) {
         try {
-            List<LeaveRequest> approvedLeaves = leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(
-                    employeeId, periodStart, periodEnd);
-
             if (approvedLeaves == null) {
                 payroll.setUnpaidLeaveDeduction(0.0);
                 payroll.setUnpaidLeaveCount(0);
                 return;
             }
 
-            int unpaidLeaveCount = (int) approvedLeaves.stream()
-                    .filter(leave -> leave != null && "Unpaid".equalsIgnoreCase(leave.getLeaveType()))
-                    .mapToLong(LeaveRequest::getLeaveDays)
-                    .sum();
+            int unpaidLeaveCount = (int) unpaidLeaveDays(approvedLeaves);
 
             double unpaidLeaveDeduction = unpaidLeaveCount * dailyRate;
 
@@ -419,68 +661,40 @@ public class PayrollCalculator {
         }
     }
 
-    /**
-     * FIXED: Enhanced late deduction calculation
-     */
-    private double calculateLateDeduction(List<Attendance> attendanceList, double dailyRate) {
-        if (attendanceList == null || attendanceList.isEmpty()) {
+    private static double approvedOvertimeHours(List<Overtime> overtimeList) {
+        if (overtimeList == null) {
             return 0.0;
         }
+        return overtimeList.stream()
+                .filter(overtime -> overtime != null && overtime.isApproved())
+                .mapToDouble(Overtime::getHours)
+                .sum();
+    }
 
-        double totalLateDeduction = 0.0;
-        double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
-
-        for (Attendance attendance : attendanceList) {
-            if (attendance == null || attendance.getLogIn() == null) {
-                continue;
-            }
-
-            try {
-                LocalTime loginTime = attendance.getLogIn().toLocalTime();
-
-                if (loginTime.isAfter(PayrollConstants.LATE_THRESHOLD_TIME)) {
-                    long minutesLate = ChronoUnit.MINUTES.between(PayrollConstants.STANDARD_LOGIN_TIME, loginTime);
-                    double hoursLate = minutesLate / 60.0;
-                    totalLateDeduction += hoursLate * hourlyRate;
-                }
-            } catch (Exception e) {
-                LOGGER.warning("⚠️ Error processing attendance record for late calculation: " + e.getMessage());
-            }
+    private static long unpaidLeaveDays(List<LeaveRequest> approvedLeaves) {
+        if (approvedLeaves == null) {
+            return 0;
         }
-
-        return totalLateDeduction;
+        return approvedLeaves.stream()
+                .filter(leave -> leave != null && "Unpaid".equalsIgnoreCase(leave.getLeaveType()))
+                .mapToLong(LeaveRequest::getLeaveDays)
+                .sum();
     }
 
     /**
-     * FIXED: Enhanced undertime deduction calculation
+     * Late time past the grace period, measured from the standard login time
      */
-    private double calculateUndertimeDeduction(List<Attendance> attendanceList, double dailyRate) {
-        if (attendanceList == null || attendanceList.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalUndertimeDeduction = 0.0;
+    private double calculateLateDeduction(AttendanceSummary attendance, double dailyRate) {
         double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
+        return attendance.getLateMinutes() / 60.0 * hourlyRate;
+    }
 
-        for (Attendance attendance : attendanceList) {
-            if (attendance == null || attendance.getLogOut() == null) {
-                continue;
-            }
-
-            try {
-                LocalTime logoutTime = attendance.getLogOut().toLocalTime();
-
-                if (logoutTime.isBefore(PayrollConstants.STANDARD_LOGOUT_TIME)) {
-                    long minutesShort = ChronoUnit.MINUTES.between(logoutTime, PayrollConstants.STANDARD_LOGOUT_TIME);
-                    double hoursShort = minutesShort / 60.0;
-                    totalUndertimeDeduction += hoursShort * hourlyRate;
-                }
-            } catch (Exception e) {
-                LOGGER.warning("⚠️ Error processing attendance record for undertime calculation: " + e.getMessage());
-            }
-        }
-
-        return totalUndertimeDeduction;
+    /**
+     * Time short of the standard logout time
+     */
+    private double calculateUndertimeDeduction(AttendanceSummary attendance, double dailyRate) {
+        double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
+        return attendance.getUndertimeMinutes() / 60.0 * hourlyRate;
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package service;
 
+import model.DeductionTotals;
 import model.Payroll;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -22,6 +23,7 @@ public class PayrollReport {
     private LocalDate periodEnd;
     private List<Payroll> payrollData;
     private ReportSummary summary;
+    private DeductionTotals deductionTotals;
 
     public enum ReportType {
         MONTHLY_PAYROLL,
@@ -66,6 +68,10 @@ public class PayrollReport {
     public ReportSummary getSummary() { return summary; }
     public void setSummary(ReportSummary summary) { this.summary = summary; }
 
+    // Recorded deductions for the period per employee and type; null if not loaded
+    public DeductionTotals getDeductionTotals() { return deductionTotals; }
+    public void setDeductionTotals(DeductionTotals deductionTotals) { this.deductionTotals = deductionTotals; }
+
     // Utility methods
     public String getFormattedPeriod() {
         if (periodStart != null && periodEnd != null) {
@@ -144,6 +150,7 @@ class AttendanceReport {
     private String generatedBy;
     private LocalDate generatedDate;
     private Map<Integer, List<model.Attendance>> attendanceData;
+    private Map<Integer, model.AttendanceSummary> summaryData;
 
     // Constructors
     public AttendanceReport() {
@@ -169,6 +176,10 @@ class AttendanceReport {
     public Map<Integer, List<model.Attendance>> getAttendanceData() { return attendanceData; }
     public void setAttendanceData(Map<Integer, List<model.Attendance>> attendanceData) { this.attendanceData = attendanceData; }
 
+    // Per-employee totals; set for every report, while attendanceData is only set when records were loaded
+    public Map<Integer, model.AttendanceSummary> getSummaryData() { return summaryData; }
+    public void setSummaryData(Map<Integer, model.AttendanceSummary> summaryData) { this.summaryData = summaryData; }
+
     // Calculate summary statistics
     public void calculateSummaryStatistics() {
         // Implementation for calculating attendance statistics
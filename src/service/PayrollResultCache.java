@@ -0,0 +1,168 @@
+package service;
+
+import dao.CacheStats;
+import model.Payroll;
+import model.PayrollInputVersion;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Calculated payrolls kept by employee and period, each with the
+ * {@link PayrollInputVersion} read before its inputs were loaded. A lookup
+ * only hits when a freshly read version is the same, so any change to the
+ * salary, attendance, overtime or leave rows is a miss and the stale result
+ * is dropped; nothing has to invalidate entries when those rows are written.
+ *
+ * Bounded by entry count with the least recently used entry dropped first.
+ * Payrolls are copied on the way in and out because Payroll is mutable.
+ */
+final class PayrollResultCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private volatile int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    PayrollResultCache(int maxSize) {
+        configure(maxSize);
+    }
+
+    /**
+     * @param maxSize payrolls kept; 0 disables caching
+     */
+    void configure(int maxSize) {
+        lock.lock();
+        try {
+            this.maxSize = Math.max(0, maxSize);
+            trimToSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return a copy of the cached payroll if it was calculated from the same
+     *         inputs, otherwise null (and an entry with other inputs is dropped)
+     */
+    Payroll get(int employeeId, LocalDate periodStart, LocalDate periodEnd, PayrollInputVersion version) {
+        Key key = new Key(employeeId, periodStart, periodEnd);
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.version.equals(version)) {
+                entries.remove(key);
+                invalidations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return new Payroll(entry.payroll);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Keeps the payroll unless its version is not settled yet
+     */
+    void put(int employeeId, LocalDate periodStart, LocalDate periodEnd, PayrollInputVersion version,
+             Payroll payroll) {
+        if (!version.isSettled()) {
+            return;
+        }
+        Entry entry = new Entry(version, new Payroll(payroll));
+        lock.lock();
+        try {
+            if (maxSize == 0) {
+                return;
+            }
+            entries.put(new Key(employeeId, periodStart, periodEnd), entry);
+            trimToSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            invalidations.add(entries.size());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), 0,
+                    invalidations.sum(), entries.size(), maxSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Key {
+        final int employeeId;
+        final LocalDate periodStart;
+        final LocalDate periodEnd;
+
+        Key(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+            this.employeeId = employeeId;
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return employeeId == other.employeeId
+                    && periodStart.equals(other.periodStart)
+                    && periodEnd.equals(other.periodEnd);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(employeeId, periodStart, periodEnd);
+        }
+    }
+
+    private static final class Entry {
+        final PayrollInputVersion version;
+        final Payroll payroll;
+
+        Entry(PayrollInputVersion version, Payroll payroll) {
+            this.version = version;
+            this.payroll = payroll;
+        }
+    }
+}
@@ -21,12 +21,14 @@ public class ReportGenerator {
     private final EmployeeDAO employeeDAO;
     private final PayrollDAO payrollDAO;
     private final AttendanceDAO attendanceDAO;
+    private final DeductionDAO deductionDAO;
     private final PayrollCalculator payrollCalculator;
 
     public ReportGenerator() {
         this.employeeDAO = new EmployeeDAO();
         this.payrollDAO = new PayrollDAO();
         this.attendanceDAO = new AttendanceDAO();
+        this.deductionDAO = new DeductionDAO();
         this.payrollCalculator = new PayrollCalculator();
     }
 
@@ -48,20 +50,12 @@ public class ReportGenerator {
 
         try {
             List<Employee> employees = employeeDAO.getAllEmployees();
-            List<Payroll> payrollData = new ArrayList<>();
-
-            for (Employee emp : employees) {
-                try {
-                    Payroll payroll = payrollCalculator.calculatePayroll(
-                            emp.getEmployeeId(), periodStart, periodEnd);
-                    payrollData.add(payroll);
-                } catch (Exception e) {
-                    logger.log(Level.WARNING, "Error calculating payroll for employee " + emp.getEmployeeId(), e);
-                }
-            }
+            List<Payroll> payrollData = new ArrayList<>(
+                    payrollCalculator.calculatePayrollForEmployees(employees, periodStart, periodEnd).values());
 
             report.setPayrollData(payrollData);
             report.setSummary(generateReportSummary(payrollData));
+            report.setDeductionTotals(deductionDAO.getDeductionTotalsByType(periodStart, periodEnd));
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Error generating monthly payroll report", e);
@@ -90,6 +84,9 @@ public class ReportGenerator {
         report.setPeriodEnd(periodEnd);
 
         try {
+            // Saved payrolls are what was paid, and a range may span several periods,
+            // so they are reported as stored; this reads, it never saves. Only a
+            // range with nothing saved yet is previewed from a fresh calculation.
             List<Payroll> existingPayrolls = payrollDAO.getPayrollByEmployeeIdAndDateRange(
                     employeeId, periodStart, periodEnd);
 
@@ -101,6 +98,8 @@ public class ReportGenerator {
 
             report.setPayrollData(existingPayrolls);
             report.setSummary(generateReportSummary(existingPayrolls));
+            report.setDeductionTotals(deductionDAO.getDeductionTotalsByType(
+                    Collections.singleton(employeeId), periodStart, periodEnd));
 
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Error generating employee payroll report", e);
@@ -114,6 +113,15 @@ public class ReportGenerator {
      * Generate attendance summary report
      */
     public AttendanceReport generateAttendanceSummaryReport(LocalDate periodStart, LocalDate periodEnd, String generatedBy) {
+        return generateAttendanceSummaryReport(periodStart, periodEnd, generatedBy, PayrollCalculator.AttendanceInput.RECORDS);
+    }
+
+    /**
+     * Generate attendance summary report. RECORDS includes every attendance row
+     * along with the totals; SUMMARY loads only the per-employee totals.
+     */
+    public AttendanceReport generateAttendanceSummaryReport(LocalDate periodStart, LocalDate periodEnd, String generatedBy,
+                                                            PayrollCalculator.AttendanceInput input) {
         AttendanceReport report = new AttendanceReport();
         report.setReportTitle("Attendance Summary Report");
         report.setPeriodStart(periodStart);
@@ -122,16 +130,28 @@ public class ReportGenerator {
         report.setGeneratedDate(LocalDate.now());
 
         try {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            Map<Integer, List<Attendance>> attendanceMap = new HashMap<>();
-
-            for (Employee emp : employees) {
-                List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                        emp.getEmployeeId(), periodStart, periodEnd);
-                attendanceMap.put(emp.getEmployeeId(), attendanceList);
+            List<EmployeeListRow> employees = employeeDAO.getEmployeeListRows();
+            Map<Integer, AttendanceSummary> summaryMap = new HashMap<>();
+
+            if (input == PayrollCalculator.AttendanceInput.SUMMARY) {
+                Map<Integer, AttendanceSummary> summaries = attendanceDAO.getAttendanceSummariesByPeriod(periodStart, periodEnd);
+                for (EmployeeListRow emp : employees) {
+                    summaryMap.put(emp.getEmployeeId(), summaries.getOrDefault(emp.getEmployeeId(),
+                            AttendanceSummary.empty(emp.getEmployeeId())));
+                }
+            } else {
+                Map<Integer, List<Attendance>> attendanceByEmployee = attendanceDAO.getAttendanceByPeriod(periodStart, periodEnd);
+                Map<Integer, List<Attendance>> attendanceMap = new HashMap<>();
+
+                for (EmployeeListRow emp : employees) {
+                    List<Attendance> records = attendanceByEmployee.getOrDefault(emp.getEmployeeId(), new ArrayList<>());
+                    attendanceMap.put(emp.getEmployeeId(), records);
+                    summaryMap.put(emp.getEmployeeId(), AttendanceSummary.fromRecords(emp.getEmployeeId(), records));
+                }
+                report.setAttendanceData(attendanceMap);
             }
 
-            report.setAttendanceData(attendanceMap);
+            report.setSummaryData(summaryMap);
             report.calculateSummaryStatistics();
 
         } catch (Exception e) {
@@ -163,8 +183,9 @@ public class ReportGenerator {
             writer.println("Employee ID,Name,Period,Gross Pay,Deductions,Net Pay,SSS,PhilHealth,Pag-IBIG,Tax");
 
             // Write data
+            Map<Integer, Employee> employees = loadReportEmployees(report);
             for (Payroll payroll : report.getPayrollData()) {
-                Employee emp = employeeDAO.getEmployeeById(payroll.getEmployeeId());
+                Employee emp = employees.get(payroll.getEmployeeId());
                 writer.printf("%d,%s,%s,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
                         payroll.getEmployeeId(),
                         emp != null ? emp.getFullName() : "Unknown",
@@ -186,6 +207,33 @@ public class ReportGenerator {
             writer.printf("Total Gross Pay,%.2f%n", report.getTotalGrossPay());
             writer.printf("Total Deductions,%.2f%n", report.getTotalDeductions());
             writer.printf("Total Net Pay,%.2f%n", report.getTotalNetPay());
+
+            DeductionTotals deductionTotals = report.getDeductionTotals();
+            if (deductionTotals != null && !deductionTotals.isEmpty()) {
+                writer.println();
+                writer.println("DEDUCTIONS BY TYPE");
+                StringBuilder header = new StringBuilder("Employee ID");
+                for (DeductionType type : DeductionType.values()) {
+                    header.append(',').append(type.getCode());
+                }
+                writer.println(header.append(",Total"));
+
+                for (int employeeId : deductionTotals.getEmployeeIds()) {
+                    StringBuilder line = new StringBuilder().append(employeeId);
+                    for (DeductionType type : DeductionType.values()) {
+                        line.append(String.format(",%.2f", deductionTotals.get(employeeId, type)));
+                    }
+                    writer.println(line.append(String.format(",%.2f", deductionTotals.getEmployeeTotal(employeeId))));
+                }
+
+                StringBuilder totals = new StringBuilder("Total");
+                double grandTotal = 0.0;
+                for (Map.Entry<DeductionType, Double> entry : deductionTotals.byType().entrySet()) {
+                    totals.append(String.format(",%.2f", entry.getValue()));
+                    grandTotal += entry.getValue();
+                }
+                writer.println(totals.append(String.format(",%.2f", grandTotal)));
+            }
         }
     }
 
@@ -215,8 +263,9 @@ public class ReportGenerator {
         html.append("<table>");
         html.append("<tr><th>Employee ID</th><th>Name</th><th>Gross Pay</th><th>Deductions</th><th>Net Pay</th></tr>");
 
+        Map<Integer, Employee> employees = loadReportEmployees(report);
         for (Payroll payroll : report.getPayrollData()) {
-            Employee emp = employeeDAO.getEmployeeById(payroll.getEmployeeId());
+            Employee emp = employees.get(payroll.getEmployeeId());
             html.append("<tr>");
             html.append("<td>").append(payroll.getEmployeeId()).append("</td>");
             html.append("<td>").append(emp != null ? emp.getFullName() : "Unknown").append("</td>");
@@ -235,6 +284,14 @@ public class ReportGenerator {
         html.append("<p>Total Gross Pay: ₱").append(String.format("%.2f", report.getTotalGrossPay())).append("</p>");
         html.append("<p>Total Deductions: ₱").append(String.format("%.2f", report.getTotalDeductions())).append("</p>");
         html.append("<p>Total Net Pay: ₱").append(String.format("%.2f", report.getTotalNetPay())).append("</p>");
+        if (report.getDeductionTotals() != null) {
+            for (Map.Entry<DeductionType, Double> entry : report.getDeductionTotals().byType().entrySet()) {
+                if (entry.getValue() != 0.0) {
+                    html.append("<p>").append(entry.getKey().getCode()).append(" Deductions: ₱")
+                            .append(String.format("%.2f", entry.getValue())).append("</p>");
+                }
+            }
+        }
         html.append("</div>");
 
         html.append("</body></html>");
@@ -242,6 +299,17 @@ public class ReportGenerator {
         Files.write(Paths.get(filePath), html.toString().getBytes());
     }
 
+    /**
+     * Employees named in the report, loaded together rather than once per payroll row
+     */
+    private Map<Integer, Employee> loadReportEmployees(PayrollReport report) {
+        Set<Integer> employeeIds = new LinkedHashSet<>();
+        for (Payroll payroll : report.getPayrollData()) {
+            employeeIds.add(payroll.getEmployeeId());
+        }
+        return employeeDAO.getEmployeesByIds(employeeIds);
+    }
+
     /**
      * Generate report summary from payroll data
      */
@@ -4,6 +4,7 @@ package ui;
 import dao.AttendanceDAO;
 import dao.EmployeeDAO;
 import model.Employee;
+import model.EmployeeListRow;
 import model.Attendance;
 
 import javax.swing.*;
@@ -16,7 +17,9 @@ import java.sql.Date;
 import java.sql.Time;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dialog for managing employee attendance records
@@ -332,12 +335,13 @@ public class AttendanceManagementDialog extends JDialog {
             LocalDate endDate = LocalDate.now();
             LocalDate startDate = endDate.minusDays(30);
 
-            List<Employee> employees = employeeDAO.getAllEmployees();
+            List<EmployeeListRow> employees = employeeDAO.getEmployeeListRows();
+            Map<Integer, List<Attendance>> attendanceByEmployee = attendanceDAO.getAttendanceByPeriod(startDate, endDate);
             int totalRecords = 0;
 
-            for (Employee emp : employees) {
-                List<Attendance> records = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                        emp.getEmployeeId(), startDate, endDate);
+            for (EmployeeListRow emp : employees) {
+                List<Attendance> records = attendanceByEmployee.getOrDefault(
+                        emp.getEmployeeId(), Collections.emptyList());
 
                 for (Attendance attendance : records) {
                     String status = determineAttendanceStatus(attendance);
@@ -396,15 +400,16 @@ public class AttendanceManagementDialog extends JDialog {
             Time logIn = new Time(((java.util.Date) logInSpinner.getValue()).getTime());
             Time logOut = new Time(((java.util.Date) logOutSpinner.getValue()).getTime());
 
-            // Check if attendance already exists
-            if (attendanceDAO.attendanceExistsForDate(selectedEmployee.getEmployeeId(), date.toLocalDate())) {
-                showWarning("Attendance record already exists for " + selectedEmployee.getFullName() + " on " + date);
+            Attendance attendance = new Attendance(selectedEmployee.getEmployeeId(), date, logIn, logOut);
+            int id;
+            try {
+                // Rejected by the database if the employee already has a record for this date
+                id = attendanceDAO.insertAttendance(attendance);
+            } catch (IllegalArgumentException e) {
+                showWarning(e.getMessage());
                 return;
             }
 
-            Attendance attendance = new Attendance(selectedEmployee.getEmployeeId(), date, logIn, logOut);
-            int id = attendanceDAO.insertAttendance(attendance);
-
             if (id > 0) {
                 showSuccess("Attendance record added successfully for " + selectedEmployee.getFullName());
                 loadAttendanceRecords();
@@ -1,21 +1,23 @@
 package ui;
 
 import dao.LeaveRequestDAO;
-import dao.EmployeeDAO;
 import model.Employee;
 import model.LeaveRequest;
+import model.LeaveRequestListRow;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 public class LeaveManagementDialog extends JDialog {
+    private static final DateTimeFormatter REQUESTED_ON_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private Employee currentUser;
     private LeaveRequestDAO leaveRequestDAO;
-    private EmployeeDAO employeeDAO;
 
     private JTable leaveRequestTable;
     private DefaultTableModel tableModel;
@@ -29,7 +31,6 @@ public class LeaveManagementDialog extends JDialog {
         super(parent, "Leave Request Management", true);
         this.currentUser = currentUser;
         this.leaveRequestDAO = new LeaveRequestDAO();
-        this.employeeDAO = new EmployeeDAO();
 
         initializeComponents();
         setupLayout();
@@ -140,30 +141,20 @@ public class LeaveManagementDialog extends JDialog {
 
         try {
             String selectedStatus = (String) statusFilter.getSelectedItem();
-            List<LeaveRequest> requests;
-
-            if ("All".equals(selectedStatus)) {
-                // Get all leave requests (you might want to implement this in DAO)
-                requests = leaveRequestDAO.getLeaveRequestsByStatus("Pending");
-                requests.addAll(leaveRequestDAO.getLeaveRequestsByStatus("Approved"));
-                requests.addAll(leaveRequestDAO.getLeaveRequestsByStatus("Rejected"));
-            } else {
-                requests = leaveRequestDAO.getLeaveRequestsByStatus(selectedStatus);
-            }
-
-            for (LeaveRequest request : requests) {
-                Employee emp = employeeDAO.getEmployeeById(request.getEmployeeId());
-                String employeeName = emp != null ? emp.getFullName() : "Unknown";
+            // Employee names come from the same query, not one lookup per row
+            List<LeaveRequestListRow> requests = leaveRequestDAO.getLeaveRequestListRows(
+                    "All".equals(selectedStatus) ? null : selectedStatus);
 
+            for (LeaveRequestListRow request : requests) {
                 Object[] row = {
                         request.getLeaveId(),
-                        employeeName,
+                        request.getEmployeeName(),
                         request.getLeaveType(),
                         request.getStartDate(),
                         request.getEndDate(),
                         request.getLeaveDays(),
                         request.getStatus(),
-                        "N/A" // You might want to add created_at to the model
+                        request.getCreatedAt() != null ? request.getCreatedAt().format(REQUESTED_ON_FORMAT) : "N/A"
                 };
                 tableModel.addRow(row);
             }
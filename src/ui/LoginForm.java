@@ -3,6 +3,7 @@ package ui;
 import dao.EmployeeDAO;
 import model.Employee;
 import util.DBConnection;
+import util.DataSourceManager;
 import view.DashboardFactory;
 import util.PositionRoleMapper;
 import model.UserRole;
@@ -399,7 +400,7 @@ public class LoginForm extends JFrame {
      */
     private boolean isValidEmployeeId(int employeeId) {
         String query = "SELECT COUNT(*) FROM employees WHERE employee_id = ?";
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
             
             stmt.setInt(1, employeeId);
@@ -451,7 +452,7 @@ public class LoginForm extends JFrame {
                 "JOIN credentials c ON e.employee_id = c.employee_id " +
                 "WHERE e.employee_id = ? AND c.password = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DataSourceManager.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
             stmt.setInt(1, employeeId);
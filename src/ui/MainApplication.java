@@ -1,18 +1,51 @@
 package ui;
 
+import dao.ChangeFeed;
+import dao.ReferenceDataRegistry;
+import util.ConfigurationManager;
 import util.DBConnection;
+import util.DataSourceManager;
+import util.PositionRoleMapper;
+import util.StartupTimeline;
+import util.VirtualThreads;
 import ui.LoginForm;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class MainApplication {
+    private static final Logger LOGGER = Logger.getLogger(MainApplication.class.getName());
 
     public static void main(String[] args) {
-        // Set Look and Feel
+        // Warm up the database and reference data in the background while Swing starts
+        ExecutorService startupExecutor = VirtualThreads.newExecutor("startup");
+        CompletableFuture<Boolean> database = CompletableFuture
+                .runAsync(() -> StartupTimeline.run("jdbc-driver", MainApplication::loadDriver), startupExecutor)
+                .thenApplyAsync(ignored -> StartupTimeline.call("connection-pool", MainApplication::warmUpDatabase),
+                        startupExecutor);
+        // Report rows changed by other users to caches and open screens once the pool is up
+        database.thenRun(() -> ChangeFeed.getInstance().start());
+        CompletableFuture<Void> referenceData = CompletableFuture.runAsync(
+                () -> StartupTimeline.run("reference-data", MainApplication::loadReferenceData), startupExecutor);
+        CompletableFuture<Void> uiClasses = CompletableFuture.runAsync(
+                () -> StartupTimeline.run("ui-classes", MainApplication::loadLoginClasses), startupExecutor);
+
+        StartupTimeline.run("look-and-feel", MainApplication::setLookAndFeel);
+
+        SwingUtilities.invokeLater(() -> StartupTimeline.run("splash-screen",
+                () -> showSplashScreen(database, CompletableFuture.allOf(referenceData, uiClasses))));
+    }
+
+    private static void setLookAndFeel() {
         try {
-		    System.setProperty("awt.useSystemAAFontSettings", "on");
-    System.setProperty("swing.aatext", "true");
-    
+            System.setProperty("awt.useSystemAAFontSettings", "on");
+            System.setProperty("swing.aatext", "true");
+
             // Try to set system look and feel
             for (UIManager.LookAndFeelInfo info : UIManager.getInstalledLookAndFeels()) {
                 if ("Windows".equals(info.getName())) {
@@ -24,15 +57,46 @@ public class MainApplication {
             // Use default if system L&F fails
             System.out.println("Could not set system look and feel, using default");
         }
+    }
+
+    private static void loadDriver() {
+        try {
+            Class.forName(ConfigurationManager.getInstance().getDatabaseDriver());
+        } catch (ClassNotFoundException e) {
+            LOGGER.log(Level.SEVERE, "❌ JDBC driver not found", e);
+        }
+    }
 
-        // Test database connection first
-        SwingUtilities.invokeLater(() -> {
-            showSplashScreen();
-        });
+    /**
+     * Creates the connection pool (opening its initial connections) and checks
+     * one of them, so the login screen's own check borrows a warm connection.
+     */
+    private static boolean warmUpDatabase() {
+        DataSourceManager.getDataSource();
+        return DBConnection.testConnection();
     }
-    
 
-    private static void showSplashScreen() {
+    private static void loadReferenceData() {
+        ConfigurationManager.getInstance();
+        PositionRoleMapper.getAllMappings();
+        // A failed load is logged and retried on first lookup; startup carries on
+        ReferenceDataRegistry registry = ReferenceDataRegistry.getInstance();
+        registry.refresh();
+        registry.startScheduledRefresh();
+    }
+
+    private static void loadLoginClasses() {
+        try {
+            // Class loading and static initialisation only; components are built on the EDT
+            Class.forName(LoginForm.class.getName());
+            Class.forName("dao.EmployeeDAO");
+            Class.forName("dao.CredentialsDAO");
+        } catch (ClassNotFoundException e) {
+            LOGGER.log(Level.FINE, "Login class preload skipped", e);
+        }
+    }
+
+    private static void showSplashScreen(CompletableFuture<Boolean> database, CompletableFuture<Void> warmUp) {
         JFrame splash = new JFrame();
         splash.setUndecorated(true);
         splash.setSize(400, 300);
@@ -64,24 +128,19 @@ public class MainApplication {
         splash.add(panel);
         splash.setVisible(true);
 
-        // Test database connection in background
+        // Wait for the background warm-up; progress messages follow the actual work
         SwingWorker<Boolean, String> worker = new SwingWorker<Boolean, String>() {
             @Override
             protected Boolean doInBackground() throws Exception {
                 publish("Connecting to database...");
-                Thread.sleep(1000);
-
-                boolean connected = DBConnection.testConnection();
+                boolean connected = database.join();
 
                 if (connected) {
-                    publish("Database connected successfully!");
-                    Thread.sleep(500);
                     publish("Loading application...");
-                    Thread.sleep(1000);
+                    warmUp.join();
                     return true;
                 } else {
                     publish("Database connection failed!");
-                    Thread.sleep(2000);
                     return false;
                 }
             }
@@ -99,7 +158,14 @@ public class MainApplication {
 
                     if (success) {
                         // Show login form
-                        new LoginForm().setVisible(true);
+                        LoginForm loginForm = StartupTimeline.call("login-form", LoginForm::new);
+                        loginForm.addWindowListener(new WindowAdapter() {
+                            @Override
+                            public void windowOpened(WindowEvent e) {
+                                StartupTimeline.markLoginScreenShown();
+                            }
+                        });
+                        loginForm.setVisible(true);
                     } else {
                         // Show error dialog
                         JOptionPane.showMessageDialog(null,
@@ -121,4 +187,4 @@ public class MainApplication {
 
         worker.execute();
     }
-}
\ No newline at end of file
+}
@@ -4,8 +4,10 @@ import dao.EmployeeDAO;
 import dao.PayrollDAO;
 import dao.AttendanceDAO;
 import model.Employee;
+import model.EmployeeListRow;
 import model.Payroll;
 import model.Attendance;
+import model.AttendanceSummary;
 import service.PayrollCalculator;
 
 import javax.swing.*;
@@ -19,6 +21,7 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 
 public class ReportsDialog extends JDialog {
     private Employee currentUser;
@@ -273,10 +276,11 @@ public class ReportsDialog extends JDialog {
             report.append("-".repeat(80)).append("\n");
 
             double totalGross = 0, totalDeductions = 0, totalNet = 0;
+            Map<Integer, Payroll> payrolls = payrollCalculator.calculatePayrollForEmployees(employees, periodStart, periodEnd);
 
             for (Employee emp : employees) {
                 try {
-                    Payroll payroll = payrollCalculator.calculatePayroll(emp.getEmployeeId(), periodStart, periodEnd);
+                    Payroll payroll = requirePayroll(payrolls, emp);
 
                     double grossPay = payroll.getGrossPay();
                     double deductions = payroll.getTotalDeductions();
@@ -314,6 +318,17 @@ public class ReportsDialog extends JDialog {
         }
     }
 
+    /**
+     * @throws IllegalStateException if the employee's payroll could not be calculated
+     */
+    private Payroll requirePayroll(Map<Integer, Payroll> payrolls, Employee emp) {
+        Payroll payroll = payrolls.get(emp.getEmployeeId());
+        if (payroll == null) {
+            throw new IllegalStateException("Payroll not calculated for employee " + emp.getEmployeeId());
+        }
+        return payroll;
+    }
+
     private void generateEmployeeDirectoryReport(String format) {
         try {
             List<Employee> employees = employeeDAO.getAllEmployees();
@@ -355,10 +370,11 @@ public class ReportsDialog extends JDialog {
             report.append("-".repeat(80)).append("\n");
 
             double totalSSS = 0, totalPhilHealth = 0, totalPagIBIG = 0, totalTax = 0;
+            Map<Integer, Payroll> payrolls = payrollCalculator.calculatePayrollForEmployees(employees, periodStart, periodEnd);
 
             for (Employee emp : employees) {
                 try {
-                    Payroll payroll = payrollCalculator.calculatePayroll(emp.getEmployeeId(), periodStart, periodEnd);
+                    Payroll payroll = requirePayroll(payrolls, emp);
 
                     totalSSS += payroll.getSss();
                     totalPhilHealth += payroll.getPhilhealth();
@@ -399,7 +415,7 @@ public class ReportsDialog extends JDialog {
             LocalDate startDate = LocalDate.of(selectedYear, selectedMonth, 1);
             LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
 
-            List<Employee> employees = employeeDAO.getAllEmployees();
+            List<EmployeeListRow> employees = employeeDAO.getEmployeeListRows();
             StringBuilder report = new StringBuilder();
 
             report.append("ATTENDANCE SUMMARY REPORT\n");
@@ -415,20 +431,17 @@ public class ReportsDialog extends JDialog {
             int totalEmployees = 0;
             int totalDaysPresent = 0;
             double totalHours = 0;
+            // Totals per employee come from one grouped query, not every attendance row
+            Map<Integer, AttendanceSummary> summaries = attendanceDAO.getAttendanceSummariesByPeriod(startDate, endDate);
 
-            for (Employee emp : employees) {
+            for (EmployeeListRow emp : employees) {
                 try {
-                    List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                            emp.getEmployeeId(), startDate, endDate);
-
-                    int daysPresent = attendanceList.size();
-                    double empTotalHours = 0;
-
-                    for (Attendance att : attendanceList) {
-                        empTotalHours += att.getWorkHours();
-                    }
+                    AttendanceSummary summary = summaries.getOrDefault(
+                            emp.getEmployeeId(), AttendanceSummary.empty(emp.getEmployeeId()));
 
-                    double avgHours = daysPresent > 0 ? empTotalHours / daysPresent : 0;
+                    int daysPresent = summary.getDaysPresent();
+                    double empTotalHours = summary.getTotalWorkHours();
+                    double avgHours = summary.getAverageHoursPerDay();
 
                     totalEmployees++;
                     totalDaysPresent += daysPresent;
@@ -1,8 +1,13 @@
 package util;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,39 +20,70 @@ import java.util.logging.Logger;
  */
 public class ConfigurationManager {
     private static final Logger LOGGER = Logger.getLogger(ConfigurationManager.class.getName());
-    private static ConfigurationManager instance;
-    private Properties properties;
+    private static volatile ConfigurationManager instance;
+    private static final ReentrantLock INSTANCE_LOCK = new ReentrantLock();
+    private volatile Properties properties;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
     
     private static final String CONFIG_FILE = "application.properties";
+    // Optional external file, checked before the classpath so it can be edited and reloaded at runtime
+    private static final String CONFIG_FILE_PROPERTY = "motorph.config.file";
+    
+    // MySQL Connector/J settings for the "performance" URL profile:
+    // server-side prepared statements with a driver-side cache, cached result set
+    // metadata, multi-row rewriting of JDBC batches, server-side cursors for
+    // statements that set a fetch size, and session state tracked locally so
+    // getAutoCommit()/setAutoCommit() don't hit the server.
+    private static final String PERFORMANCE_PROFILE =
+            "&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048" +
+            "&cacheResultSetMetadata=true&rewriteBatchedStatements=true&useCursorFetch=true" +
+            "&useLocalSessionState=true&elideSetAutoCommits=true";
     
     private ConfigurationManager() {
         loadConfiguration();
     }
     
-    public static synchronized ConfigurationManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigurationManager();
+    public static ConfigurationManager getInstance() {
+        ConfigurationManager current = instance;
+        if (current != null) {
+            return current;
+        }
+        INSTANCE_LOCK.lock();
+        try {
+            if (instance == null) {
+                instance = new ConfigurationManager();
+            }
+            return instance;
+        } finally {
+            INSTANCE_LOCK.unlock();
         }
-        return instance;
     }
     
     private void loadConfiguration() {
-        properties = new Properties();
-        try (InputStream input = getClass().getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+        // Build the new set completely before publishing it to readers
+        Properties loaded = new Properties();
+        File externalFile = new File(System.getProperty(CONFIG_FILE_PROPERTY, CONFIG_FILE));
+        try (InputStream input = externalFile.isFile()
+                ? new FileInputStream(externalFile)
+                : getClass().getClassLoader().getResourceAsStream(CONFIG_FILE)) {
             if (input != null) {
-                properties.load(input);
-                LOGGER.info("✅ Configuration loaded successfully from " + CONFIG_FILE);
+                loadDefaultConfiguration(loaded);
+                loaded.load(input);
+                LOGGER.info("✅ Configuration loaded successfully from "
+                        + (externalFile.isFile() ? externalFile.getAbsolutePath() : CONFIG_FILE));
             } else {
                 LOGGER.warning("⚠️ Configuration file not found, using defaults");
-                loadDefaultConfiguration();
+                loadDefaultConfiguration(loaded);
             }
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "❌ Error loading configuration", e);
-            loadDefaultConfiguration();
+            loaded = new Properties();
+            loadDefaultConfiguration(loaded);
         }
+        properties = loaded;
     }
     
-    private void loadDefaultConfiguration() {
+    private void loadDefaultConfiguration(Properties properties) {
         // Database defaults
         properties.setProperty("db.host", "localhost");
         properties.setProperty("db.port", "3306");
@@ -55,6 +91,20 @@ public class ConfigurationManager {
         properties.setProperty("db.username", "root");
         properties.setProperty("db.password", "admin");
         properties.setProperty("db.driver", "com.mysql.cj.jdbc.Driver");
+        properties.setProperty("db.url.profile", "default");
+        properties.setProperty("db.pool.enabled", "true");
+        properties.setProperty("db.pool.initial.size", "5");
+        properties.setProperty("db.pool.max.size", "20");
+        properties.setProperty("db.pool.connection.timeout.seconds", "30");
+        properties.setProperty("db.pool.max.lifetime.ms", "1800000");
+        properties.setProperty("db.pool.idle.timeout.ms", "600000");
+        properties.setProperty("db.pool.leak.detection.threshold.ms", "60000");
+        properties.setProperty("db.pool.validation.idle.threshold.ms", "500");
+        properties.setProperty("db.pool.keepalive.interval.ms", "120000");
+        properties.setProperty("db.pool.validate.on.return", "false");
+        properties.setProperty("db.pool.statement.cache.size", "50");
+        properties.setProperty("db.replica.enabled", "false");
+        properties.setProperty("db.replica.read.your.writes.ms", "5000");
         
         // Application defaults
         properties.setProperty("app.name", "MotorPH Payroll System");
@@ -89,9 +139,201 @@ public class ConfigurationManager {
         return getProperty("db.driver", "com.mysql.cj.jdbc.Driver");
     }
     
+    /**
+     * Name of the JDBC property profile appended to the URL: "default", or
+     * "performance" to opt in to the driver settings in PERFORMANCE_PROFILE
+     */
+    public String getDatabaseUrlProfile() {
+        return getProperty("db.url.profile", "default");
+    }
+    
+    /**
+     * @return true if the URL enables server-side cursors (useCursorFetch),
+     *         so statements with a fetch size read rows in chunks
+     */
+    public boolean isCursorFetchEnabled() {
+        return "performance".equalsIgnoreCase(getDatabaseUrlProfile());
+    }
+    
+    /**
+     * Rows per round trip for streaming reads that use a server-side cursor
+     */
+    public int getStreamFetchSize() {
+        return getIntProperty("db.stream.fetch.size", 500);
+    }
+    
     public String getDatabaseUrl() {
-        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true",
-                getDatabaseHost(), getDatabasePort(), getDatabaseName());
+        return buildDatabaseUrl(getDatabaseHost(), getDatabasePort(), getDatabaseName());
+    }
+    
+    private String buildDatabaseUrl(String host, int port, String databaseName) {
+        String url = String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true" +
+                "&useUnicode=true&characterEncoding=UTF-8",
+                host, port, databaseName);
+        if ("performance".equalsIgnoreCase(getDatabaseUrlProfile())) {
+            url += PERFORMANCE_PROFILE;
+        }
+        return url;
+    }
+    
+    public boolean isConnectionPoolEnabled() {
+        return getBooleanProperty("db.pool.enabled", true);
+    }
+    
+    // Connection Pool Configuration (re-applied to the live pool on reload)
+    public int getPoolInitialSize() {
+        return getIntProperty("db.pool.initial.size", 5);
+    }
+    
+    public int getPoolMaxSize() {
+        return getIntProperty("db.pool.max.size", 20);
+    }
+    
+    public int getPoolConnectionTimeoutSeconds() {
+        return getIntProperty("db.pool.connection.timeout.seconds", 30);
+    }
+    
+    public int getPoolMaxLifetimeMillis() {
+        return getIntProperty("db.pool.max.lifetime.ms", 1800000);
+    }
+    
+    public int getPoolIdleTimeoutMillis() {
+        return getIntProperty("db.pool.idle.timeout.ms", 600000);
+    }
+    
+    // Connections borrowed longer than this are logged as possible leaks; 0 disables
+    public int getPoolLeakDetectionThresholdMillis() {
+        return getIntProperty("db.pool.leak.detection.threshold.ms", 60000);
+    }
+    
+    // Pooled connections idle for less than this are handed out without a ping
+    public int getPoolValidationIdleThresholdMillis() {
+        return getIntProperty("db.pool.validation.idle.threshold.ms", 500);
+    }
+    
+    // Interval for background pings of idle connections; 0 disables keepalive
+    public int getPoolKeepaliveIntervalMillis() {
+        return getIntProperty("db.pool.keepalive.interval.ms", 120000);
+    }
+    
+    public boolean isPoolValidateOnReturn() {
+        return getBooleanProperty("db.pool.validate.on.return", false);
+    }
+    
+    // Prepared statements cached per pooled connection; 0 disables the cache
+    public int getPoolStatementCacheSize() {
+        return getIntProperty("db.pool.statement.cache.size", 50);
+    }
+    
+    // Read replica (db.replica.*); unset connection settings fall back to the primary's
+    public boolean isReadReplicaEnabled() {
+        return getBooleanProperty("db.replica.enabled", false);
+    }
+    
+    public String getReplicaHost() {
+        return getProperty("db.replica.host", getDatabaseHost());
+    }
+    
+    public int getReplicaPort() {
+        return getIntProperty("db.replica.port", getDatabasePort());
+    }
+    
+    public String getReplicaDatabaseName() {
+        return getProperty("db.replica.name", getDatabaseName());
+    }
+    
+    public String getReplicaUsername() {
+        return getProperty("db.replica.username", getDatabaseUsername());
+    }
+    
+    public String getReplicaPassword() {
+        return getProperty("db.replica.password", getDatabasePassword());
+    }
+    
+    public String getReplicaUrl() {
+        return buildDatabaseUrl(getReplicaHost(), getReplicaPort(), getReplicaDatabaseName());
+    }
+    
+    /**
+     * How long reads stay on the primary after it was last used for a write,
+     * so a user sees their own changes despite replication lag; 0 disables
+     */
+    public int getReadYourWritesWindowMillis() {
+        return getIntProperty("db.replica.read.your.writes.ms", 5000);
+    }
+    
+    // Async Query Configuration
+    /**
+     * Query timeout for one kind of async DAO call (lookup, list, search, report),
+     * read from db.query.timeout.&lt;kind&gt;.seconds; 0 disables the timeout
+     */
+    public int getQueryTimeoutSeconds(String queryKind, int defaultSeconds) {
+        return getIntProperty("db.query.timeout." + queryKind + ".seconds", defaultSeconds);
+    }
+    
+    /**
+     * How many async DAO calls may run at once; further calls wait their turn
+     */
+    public int getAsyncQueryConcurrency() {
+        return getIntProperty("db.async.max.concurrent", getPoolMaxSize());
+    }
+    
+    // Employee Search Configuration
+    /**
+     * @return true to answer employee searches from the in-memory index,
+     *         false to always query the database
+     */
+    public boolean isEmployeeSearchIndexEnabled() {
+        return getBooleanProperty("search.index.enabled", true);
+    }
+    
+    /**
+     * How long the employee search index is used before it is rebuilt, so
+     * changes made outside this application show up; 0 disables rebuilding
+     */
+    public int getEmployeeSearchIndexMaxAgeMinutes() {
+        return getIntProperty("search.index.max.age.minutes", 15);
+    }
+    
+    // Employee Cache Configuration
+    /**
+     * How many employee rows EmployeeDAO keeps for lookups by ID; 0 disables the cache
+     */
+    public int getEmployeeCacheMaxSize() {
+        return getIntProperty("cache.employee.max.size", 2000);
+    }
+    
+    /**
+     * How long a cached employee row is used before it is read again, so
+     * changes made outside this application show up; 0 keeps it until evicted
+     */
+    public int getEmployeeCacheTtlSeconds() {
+        return getIntProperty("cache.employee.ttl.seconds", 300);
+    }
+    
+    // Payroll Cache Configuration
+    /**
+     * How many calculated payrolls (one per employee and period) are kept for
+     * reuse while their inputs are unchanged; 0 disables the cache
+     */
+    public int getPayrollCacheMaxSize() {
+        return getIntProperty("cache.payroll.max.size", 5000);
+    }
+    
+    // Change Feed Configuration
+    /**
+     * @return seconds between change feed polls for updated rows; 0 disables the feed
+     */
+    public int getChangeFeedIntervalSeconds() {
+        return getIntProperty("change.feed.interval.seconds", 30);
+    }
+    
+    // Reference Data Configuration
+    /**
+     * @return minutes between reloads of positions, statuses and departments; 0 loads only at startup
+     */
+    public int getReferenceDataRefreshMinutes() {
+        return getIntProperty("reference.data.refresh.minutes", 30);
     }
     
     // JasperReports Configuration
@@ -128,6 +370,14 @@ public class ConfigurationManager {
         return getIntProperty("payroll.max.leave.days.per.year", 15);
     }
     
+    /**
+     * "summary" to total attendance in SQL for payroll runs, "records" to load
+     * each attendance row and total it in Java
+     */
+    public String getPayrollAttendanceInput() {
+        return getProperty("payroll.attendance.input", "summary");
+    }
+    
     // Security Configuration
     public int getPasswordMinLength() {
         return getIntProperty("security.password.min.length", 8);
@@ -198,6 +448,25 @@ public class ConfigurationManager {
     public void reloadConfiguration() {
         LOGGER.info("🔄 Reloading configuration...");
         loadConfiguration();
+        for (Runnable listener : reloadListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "⚠️ Configuration reload listener failed", e);
+            }
+        }
+    }
+    
+    /**
+     * Registers a callback run after every reloadConfiguration()
+     * @param listener callback that re-reads the settings it cares about
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+    
+    public void removeReloadListener(Runnable listener) {
+        reloadListeners.remove(listener);
     }
     
     // Get all properties for debugging
@@ -0,0 +1,337 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Runtime metrics for {@link DatabaseConnectionPool}, published over JMX.
+ *
+ * Counters are lock-free so recording them on the borrow path costs next to
+ * nothing. Borrow latency is the time a caller spends inside getConnection(),
+ * including any wait for a free slot, so a rising latency with a non-zero
+ * waiting count points at pool starvation rather than slow SQL.
+ */
+public class ConnectionPoolMetrics implements ConnectionPoolMetricsMBean {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPoolMetrics.class.getName());
+
+    public static final String OBJECT_NAME = "motorph:type=ConnectionPool,name=primary";
+    public static final String REPLICA_OBJECT_NAME = "motorph:type=ConnectionPool,name=replica";
+
+    // Upper bounds (inclusive, in milliseconds) of the latency histogram buckets
+    private static final long[] BUCKET_BOUNDS_MS = {1, 5, 10, 50, 100, 500, 1000};
+
+    private final DatabaseConnectionPool pool;
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowTimeouts = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+    private final LongAdder creationFailures = new LongAdder();
+    private final LongAdder connectionsEvicted = new LongAdder();
+    private final LongAdder validationsSkipped = new LongAdder();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final LongAdder[] validations = newAdders(ValidationCheck.values().length);
+    private final LongAdder[] validationFailures = newAdders(ValidationCheck.values().length);
+    private final LongAdder leaksDetected = new LongAdder();
+    private final LongAdder totalBorrowNanos = new LongAdder();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+
+    /**
+     * Points at which the pool pings a connection to check it is still alive
+     */
+    enum ValidationCheck {
+        BORROW, KEEPALIVE, RETURN
+    }
+
+    ConnectionPoolMetrics(DatabaseConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Registers this instance with the platform MBean server.
+     * Failure is logged and otherwise ignored; the pool works without JMX.
+     */
+    void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(getObjectName());
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            LOGGER.info("📈 Connection pool metrics registered as " + name);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "⚠️ Could not register connection pool MBean", e);
+        }
+    }
+
+    /**
+     * @return OBJECT_NAME for the primary pool, REPLICA_OBJECT_NAME for the replica
+     */
+    String getObjectName() {
+        return DatabaseConnectionPool.REPLICA.equals(pool.getName()) ? REPLICA_OBJECT_NAME : OBJECT_NAME;
+    }
+
+    // Recording methods used by the pool
+
+    void recordBorrow(long waitNanos) {
+        borrowCount.increment();
+        totalBorrowNanos.add(waitNanos);
+        maxBorrowNanos.accumulateAndGet(waitNanos, Math::max);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && millis > BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets.incrementAndGet(bucket);
+    }
+
+    void recordTimeout() {
+        borrowTimeouts.increment();
+    }
+
+    void recordCreated() {
+        connectionsCreated.increment();
+    }
+
+    void recordCreationFailure() {
+        creationFailures.increment();
+    }
+
+    void recordEvicted() {
+        connectionsEvicted.increment();
+    }
+
+    void recordValidation(ValidationCheck check, boolean valid) {
+        validations[check.ordinal()].increment();
+        if (!valid) {
+            validationFailures[check.ordinal()].increment();
+        }
+    }
+
+    void recordValidationSkipped() {
+        validationsSkipped.increment();
+    }
+
+    void recordStatementCacheHit() {
+        statementCacheHits.increment();
+    }
+
+    void recordStatementCacheMiss() {
+        statementCacheMisses.increment();
+    }
+
+    void recordLeak() {
+        leaksDetected.increment();
+    }
+
+    // Gauges
+
+    @Override
+    public int getActiveConnections() {
+        return pool.getActiveConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return pool.getAvailableConnections();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return pool.getTotalConnections();
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        return pool.getMaxPoolSize();
+    }
+
+    @Override
+    public int getWaitingThreads() {
+        return pool.getWaitingThreads();
+    }
+
+    // Counters
+
+    @Override
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    @Override
+    public long getBorrowTimeouts() {
+        return borrowTimeouts.sum();
+    }
+
+    @Override
+    public long getConnectionsCreated() {
+        return connectionsCreated.sum();
+    }
+
+    @Override
+    public long getConnectionCreationFailures() {
+        return creationFailures.sum();
+    }
+
+    @Override
+    public long getConnectionsEvicted() {
+        return connectionsEvicted.sum();
+    }
+
+    @Override
+    public long getValidationFailures() {
+        long total = 0;
+        for (LongAdder adder : validationFailures) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getValidationsSkipped() {
+        return validationsSkipped.sum();
+    }
+
+    @Override
+    public long getBorrowValidations() {
+        return validations[ValidationCheck.BORROW.ordinal()].sum();
+    }
+
+    @Override
+    public long getBorrowValidationFailures() {
+        return validationFailures[ValidationCheck.BORROW.ordinal()].sum();
+    }
+
+    @Override
+    public long getKeepaliveValidations() {
+        return validations[ValidationCheck.KEEPALIVE.ordinal()].sum();
+    }
+
+    @Override
+    public long getKeepaliveValidationFailures() {
+        return validationFailures[ValidationCheck.KEEPALIVE.ordinal()].sum();
+    }
+
+    @Override
+    public long getReturnValidations() {
+        return validations[ValidationCheck.RETURN.ordinal()].sum();
+    }
+
+    @Override
+    public long getReturnValidationFailures() {
+        return validationFailures[ValidationCheck.RETURN.ordinal()].sum();
+    }
+
+    @Override
+    public long getLeaksDetected() {
+        return leaksDetected.sum();
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    // Borrow latency
+
+    @Override
+    public double getAverageBorrowMillis() {
+        long count = borrowCount.sum();
+        return count == 0 ? 0.0 : totalBorrowNanos.sum() / (count * 1_000_000.0);
+    }
+
+    @Override
+    public double getMaxBorrowMillis() {
+        return maxBorrowNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String[] getBorrowLatencyBuckets() {
+        String[] labels = new String[BUCKET_BOUNDS_MS.length + 1];
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            labels[i] = "<=" + BUCKET_BOUNDS_MS[i] + "ms";
+        }
+        labels[BUCKET_BOUNDS_MS.length] = ">" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms";
+        return labels;
+    }
+
+    @Override
+    public long[] getBorrowLatencyHistogram() {
+        long[] counts = new long[latencyBuckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = latencyBuckets.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public void resetCounters() {
+        borrowCount.reset();
+        borrowTimeouts.reset();
+        connectionsCreated.reset();
+        creationFailures.reset();
+        connectionsEvicted.reset();
+        validationsSkipped.reset();
+        statementCacheHits.reset();
+        statementCacheMisses.reset();
+        for (int i = 0; i < validations.length; i++) {
+            validations[i].reset();
+            validationFailures[i].reset();
+        }
+        leaksDetected.reset();
+        totalBorrowNanos.reset();
+        maxBorrowNanos.set(0);
+        for (int i = 0; i < latencyBuckets.length(); i++) {
+            latencyBuckets.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Connections: active=%d idle=%d total=%d max=%d waiting=%d%n",
+                getActiveConnections(), getIdleConnections(), getTotalConnections(),
+                getMaxPoolSize(), getWaitingThreads()));
+        sb.append(String.format("Borrows: %d (avg %.2f ms, max %.2f ms), timeouts=%d%n",
+                getBorrowCount(), getAverageBorrowMillis(), getMaxBorrowMillis(), getBorrowTimeouts()));
+        sb.append(String.format("Created=%d, creation failures=%d, evicted=%d, validation failures=%d, leaks=%d%n",
+                getConnectionsCreated(), getConnectionCreationFailures(), getConnectionsEvicted(),
+                getValidationFailures(), getLeaksDetected()));
+        sb.append(String.format("Validation: skipped=%d, borrow=%d/%d failed, keepalive=%d/%d failed, return=%d/%d failed%n",
+                getValidationsSkipped(), getBorrowValidationFailures(), getBorrowValidations(),
+                getKeepaliveValidationFailures(), getKeepaliveValidations(),
+                getReturnValidationFailures(), getReturnValidations()));
+        sb.append(String.format("Statement cache: hits=%d, misses=%d%n",
+                getStatementCacheHits(), getStatementCacheMisses()));
+        String[] labels = getBorrowLatencyBuckets();
+        long[] counts = getBorrowLatencyHistogram();
+        sb.append("Borrow latency:");
+        for (int i = 0; i < labels.length; i++) {
+            sb.append(' ').append(labels[i]).append('=').append(counts[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package util;
+
+/**
+ * JMX management interface for {@link ConnectionPoolMetrics}.
+ * Registered under {@value ConnectionPoolMetrics#OBJECT_NAME}, and under
+ * {@value ConnectionPoolMetrics#REPLICA_OBJECT_NAME} when a read replica is configured.
+ */
+public interface ConnectionPoolMetricsMBean {
+
+    // Pool gauges
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getTotalConnections();
+
+    int getMaxPoolSize();
+
+    int getWaitingThreads();
+
+    // Counters
+    long getBorrowCount();
+
+    long getBorrowTimeouts();
+
+    long getConnectionsCreated();
+
+    long getConnectionCreationFailures();
+
+    long getConnectionsEvicted();
+
+    long getValidationFailures();
+
+    long getLeaksDetected();
+
+    // Validation, broken down by where the check happened
+    long getValidationsSkipped();
+
+    long getBorrowValidations();
+
+    long getBorrowValidationFailures();
+
+    long getKeepaliveValidations();
+
+    long getKeepaliveValidationFailures();
+
+    long getReturnValidations();
+
+    long getReturnValidationFailures();
+
+    // Prepared statement cache
+    long getStatementCacheHits();
+
+    long getStatementCacheMisses();
+
+    // Borrow latency
+    double getAverageBorrowMillis();
+
+    double getMaxBorrowMillis();
+
+    String[] getBorrowLatencyBuckets();
+
+    long[] getBorrowLatencyHistogram();
+
+    void resetCounters();
+}
@@ -9,28 +9,21 @@ import java.util.logging.Level;
 /**
  * Fixed Database Connection Utility Class
  * Provides centralized database connection management
+ * 
+ * Connection settings come from {@link ConfigurationManager} (db.* properties).
+ * This is the direct, non-pooled path; DAOs should use {@link DataSourceManager}.
  */
 public class DBConnection {
     private static final Logger LOGGER = Logger.getLogger(DBConnection.class.getName());
     
-    // Database configuration
-    private static final String DB_HOST = "localhost";
-    private static final String DB_PORT = "3306";
-    private static final String DB_NAME = "aoopdatabase_payroll";
-    private static final String DB_USERNAME = "root";
-    private static final String DB_PASSWORD = "admin";
-    private static final String DB_DRIVER = "com.mysql.cj.jdbc.Driver";
-    
-    // Connection URL
-    private static final String DB_URL = String.format(
-        "jdbc:mysql://%s:%s/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=UTF-8",
-        DB_HOST, DB_PORT, DB_NAME
-    );
+    private static ConfigurationManager config() {
+        return ConfigurationManager.getInstance();
+    }
     
     // Static block to load the driver
     static {
         try {
-            Class.forName(DB_DRIVER);
+            Class.forName(config().getDatabaseDriver());
             LOGGER.info("✅ MySQL JDBC Driver loaded successfully");
         } catch (ClassNotFoundException e) {
             LOGGER.log(Level.SEVERE, "❌ MySQL JDBC Driver not found", e);
@@ -44,26 +37,30 @@ public class DBConnection {
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
+        ConfigurationManager config = config();
         try {
-            Connection connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+            Connection connection = DriverManager.getConnection(config.getDatabaseUrl(),
+                    config.getDatabaseUsername(), config.getDatabasePassword());
             LOGGER.fine("🔗 Database connection established");
             return connection;
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "❌ Failed to establish database connection", e);
             throw new SQLException("Database connection failed. Please check:\n" +
                     "1. MySQL server is running\n" +
-                    "2. Database '" + DB_NAME + "' exists\n" +
+                    "2. Database '" + config.getDatabaseName() + "' exists\n" +
                     "3. Username and password are correct\n" +
-                    "4. MySQL service is accessible on " + DB_HOST + ":" + DB_PORT, e);
+                    "4. MySQL service is accessible on " + config.getDatabaseHost() + ":" + config.getDatabasePort(), e);
         }
     }
     
     /**
      * Test database connection
+     * Borrows from the application DataSource, so with pooling on this checks
+     * a pooled connection instead of opening a new one.
      * @return true if connection is successful, false otherwise
      */
     public static boolean testConnection() {
-        try (Connection connection = getConnection()) {
+        try (Connection connection = DataSourceManager.getConnection()) {
             boolean isValid = connection != null && connection.isValid(5);
             if (isValid) {
                 LOGGER.info("✅ Database connection test successful");
@@ -98,7 +95,7 @@ public class DBConnection {
      */
     public static String getDatabaseInfo() {
         return String.format("Database: %s@%s:%s/%s", 
-                DB_USERNAME, DB_HOST, DB_PORT, DB_NAME);
+                getUsername(), getHost(), getPort(), getDatabaseName());
     }
     
     /**
@@ -124,7 +121,7 @@ public class DBConnection {
             
             LOGGER.info("✅ Database setup validation passed");
             return true;
-            
+        
         } catch (SQLException e) {
             LOGGER.log(Level.WARNING, "❌ Database setup validation failed", e);
             return false;
@@ -132,9 +129,9 @@ public class DBConnection {
     }
     
     // Database configuration getters (for configuration management)
-    public static String getHost() { return DB_HOST; }
-    public static String getPort() { return DB_PORT; }
-    public static String getDatabaseName() { return DB_NAME; }
-    public static String getUsername() { return DB_USERNAME; }
-    public static String getUrl() { return DB_URL; }
+    public static String getHost() { return config().getDatabaseHost(); }
+    public static String getPort() { return String.valueOf(config().getDatabasePort()); }
+    public static String getDatabaseName() { return config().getDatabaseName(); }
+    public static String getUsername() { return config().getDatabaseUsername(); }
+    public static String getUrl() { return config().getDatabaseUrl(); }
 }
\ No newline at end of file
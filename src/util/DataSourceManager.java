@@ -0,0 +1,313 @@
+package util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Single entry point through which all DAOs obtain database connections.
+ * 
+ * By default connections come from {@link DatabaseConnectionPool}; setting
+ * db.pool.enabled=false falls back to a new DriverManager connection per call.
+ * Either way, callers close the connection with try-with-resources.
+ * 
+ * Writes, and reads that must see the latest committed data, use
+ * {@link #getConnection()}. Reads that can tolerate replication lag (lists,
+ * reports, dashboards) use {@link #getReadConnection()}, which goes to the read
+ * replica when db.replica.enabled is set and to the primary otherwise.
+ * 
+ * Read-your-writes: for db.replica.read.your.writes.ms after a thread writes
+ * through a primary connection (an update, a batch or a commit), that
+ * thread's reads stay on the primary so a user sees the change they just
+ * saved. Reads, and writes made by other threads, leave the routing alone. A
+ * {@link QueryScope} created on the writing thread carries the window to the
+ * worker thread it is bound to, so async reads after a save see it too.
+ * 
+ * Inside a {@link UnitOfWork} both methods return the connection bound to the
+ * current thread, so DAO calls join the open transaction.
+ * 
+ * {@link #getConnectionAsync()} and {@link #getReadConnectionAsync()} wait for
+ * a connection on a virtual thread, so thousands of concurrent callers can
+ * queue on a small pool.
+ * 
+ * While a {@link QueryScope} is bound to the calling thread, both methods
+ * return connections whose statements carry the scope's query timeout and
+ * can be cancelled through it.
+ */
+public final class DataSourceManager {
+    private static final Logger LOGGER = Logger.getLogger(DataSourceManager.class.getName());
+
+    private static volatile DataSource dataSource;
+    private static volatile DataSource readDataSource;
+    private static volatile int readYourWritesWindowMillis;
+
+    // When the current thread last wrote through a primary connection
+    private static final ThreadLocal<Long> lastWriteAt = new ThreadLocal<>();
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private DataSourceManager() {
+    }
+
+    /**
+     * Get the application DataSource, creating it on first use
+     * @return pooled or direct DataSource depending on configuration
+     */
+    public static DataSource getDataSource() {
+        DataSource current = dataSource;
+        if (current == null) {
+            LOCK.lock();
+            try {
+                current = dataSource;
+                if (current == null) {
+                    current = createDataSource();
+                    readDataSource = createReadDataSource(current);
+                    dataSource = current;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get the DataSource used for lag-tolerant reads
+     * @return the replica DataSource, or the primary one if no replica is configured
+     */
+    public static DataSource getReadDataSource() {
+        getDataSource();
+        return readDataSource;
+    }
+
+    /**
+     * Get a database connection from the application DataSource
+     * @return Connection that must be closed by the caller
+     * @throws SQLException if no connection can be obtained
+     */
+    public static Connection getConnection() throws SQLException {
+        return QueryScope.track(borrowPrimary());
+    }
+
+    private static Connection borrowPrimary() throws SQLException {
+        Connection bound = TransactionManager.currentConnection();
+        if (bound != null) {
+            return bound;
+        }
+        DataSource primary = getDataSource();
+        Connection connection = primary.getConnection();
+        if (readDataSource == primary) {
+            return connection;
+        }
+        return trackWrites(connection);
+    }
+
+    /**
+     * Get a connection for a read that may be served slightly behind the
+     * primary. Falls back to the primary while a recent write is pending
+     * replication or if the replica cannot be reached.
+     * @return Connection that must be closed by the caller
+     * @throws SQLException if no connection can be obtained
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return QueryScope.track(borrowRead());
+    }
+
+    private static Connection borrowRead() throws SQLException {
+        Connection bound = TransactionManager.currentConnection();
+        if (bound != null) {
+            // Inside a unit of work reads must see its uncommitted writes
+            return bound;
+        }
+        DataSource primary = getDataSource();
+        DataSource replica = readDataSource;
+        if (replica == primary || isReadingOwnWrites()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "⚠️ Read replica unavailable, reading from primary", e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Borrow a primary connection without blocking the caller
+     * @return future completed with a connection the caller must close, or
+     *         completed exceptionally with the SQLException from the borrow
+     */
+    public static CompletableFuture<Connection> getConnectionAsync() {
+        return borrowAsync(true);
+    }
+
+    /**
+     * Borrow a read connection (see {@link #getReadConnection()}) without blocking the caller
+     * @return future completed with a connection the caller must close
+     */
+    public static CompletableFuture<Connection> getReadConnectionAsync() {
+        return borrowAsync(false);
+    }
+
+    private static CompletableFuture<Connection> borrowAsync(boolean primary) {
+        CompletableFuture<Connection> future = new CompletableFuture<>();
+        BorrowExecutor.INSTANCE.execute(() -> {
+            if (future.isDone()) {
+                return; // cancelled while queued
+            }
+            try {
+                Connection connection = primary ? getConnection() : getReadConnection();
+                if (!future.complete(connection)) {
+                    // Cancelled or timed out while waiting; nobody will close it
+                    connection.close();
+                }
+            } catch (SQLException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Discards the current DataSource, shutting down the pool if there is one.
+     * The next call re-reads the configuration and builds a fresh DataSource.
+     */
+    public static void reset() {
+        LOCK.lock();
+        try {
+            if (dataSource instanceof DatabaseConnectionPool) {
+                DatabaseConnectionPool.shutdownInstance();
+            }
+            dataSource = null;
+            readDataSource = null;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * @return true if connections are served from the pool
+     */
+    public static boolean isPoolingEnabled() {
+        return getDataSource() instanceof DatabaseConnectionPool;
+    }
+
+    /**
+     * @return true if lag-tolerant reads go to a separate read replica
+     */
+    public static boolean isReadReplicaEnabled() {
+        return getReadDataSource() != dataSource;
+    }
+
+    private static boolean isReadingOwnWrites() {
+        int window = readYourWritesWindowMillis;
+        if (window <= 0) {
+            return false;
+        }
+        long writtenAt = Math.max(lastWriteOnCurrentThread(), QueryScope.currentCallerWriteAt());
+        return System.currentTimeMillis() - writtenAt < window;
+    }
+
+    /**
+     * @return when the current thread last wrote through a primary connection, 0 if never
+     */
+    static long lastWriteOnCurrentThread() {
+        Long writtenAt = lastWriteAt.get();
+        return writtenAt != null ? writtenAt : 0;
+    }
+
+    private static void recordWrite() {
+        lastWriteAt.set(System.currentTimeMillis());
+    }
+
+    /**
+     * Wraps a primary connection so a commit, or an update or batch run on one
+     * of its statements, starts the calling thread's read-your-writes window
+     */
+    private static Connection trackWrites(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    Object result = invoke(connection, method, args);
+                    if (name.equals("commit")) {
+                        recordWrite();
+                    } else if (name.equals("createStatement") || name.equals("prepareStatement")
+                            || name.equals("prepareCall")) {
+                        return trackWrites((Statement) result, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private static Statement trackWrites(Statement statement, Class<?> type) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    boolean writes = name.equals("executeUpdate") || name.equals("executeLargeUpdate")
+                            || name.equals("executeBatch") || name.equals("executeLargeBatch");
+                    try {
+                        Object result = invoke(statement, method, args);
+                        if (name.equals("execute") && Boolean.FALSE.equals(result)) {
+                            recordWrite();
+                        }
+                        return result;
+                    } finally {
+                        if (writes) {
+                            // Also after a failure: part of a batch may already be applied
+                            recordWrite();
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static DataSource createDataSource() {
+        if (ConfigurationManager.getInstance().isConnectionPoolEnabled()) {
+            LOGGER.info("🔗 Using pooled DataSource");
+            return DatabaseConnectionPool.getInstance();
+        }
+        LOGGER.info("🔗 Connection pooling disabled, using direct DataSource");
+        return new DirectDataSource();
+    }
+
+    /**
+     * Executor for async borrows, created on first use; a borrow waiting for
+     * a connection blocks only its own virtual thread
+     */
+    private static final class BorrowExecutor {
+        static final ExecutorService INSTANCE = VirtualThreads.newExecutor("db-borrow");
+    }
+
+    private static DataSource createReadDataSource(DataSource primary) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (!config.isReadReplicaEnabled()) {
+            return primary;
+        }
+        readYourWritesWindowMillis = config.getReadYourWritesWindowMillis();
+        LOGGER.info("🔗 Routing reads to replica at " + config.getReplicaHost() + ":" + config.getReplicaPort());
+        if (primary instanceof DatabaseConnectionPool) {
+            return DatabaseConnectionPool.getReplicaInstance();
+        }
+        return new DirectDataSource(config.getReplicaUrl(), config.getReplicaUsername(), config.getReplicaPassword());
+    }
+}
@@ -1,184 +1,677 @@
 package util;
 
+import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import javax.sql.DataSource;
 
 /**
  * Enhanced Database Connection Pool for better performance
  * Addresses mentor feedback about database optimization
+ *
+ * Exposed as a {@link DataSource}: connections handed out are proxies whose
+ * close() returns the physical connection to the pool.
+ *
+ * Borrowed and idle connections are tracked separately. A fair semaphore caps
+ * the number of borrowed connections at db.pool.max.size and serves waiting
+ * threads in arrival order. A background housekeeper evicts connections past
+ * their maximum lifetime or idle timeout, tops the pool back up to its
+ * initial size and reports connections held longer than the leak threshold.
+ *
+ * Validation is kept off the hot path: a connection is only pinged on borrow
+ * if it has been idle longer than db.pool.validation.idle.threshold.ms, idle
+ * connections are kept alive by background pings every
+ * db.pool.keepalive.interval.ms (the housekeeper runs at least twice per
+ * interval, and every 30 seconds at most), and returned connections are only checked
+ * with a server round trip when db.pool.validate.on.return is set.
+ *
+ * There is one pool for the primary database and, when db.replica.enabled is
+ * set, a second read-only pool for the replica. Both take their sizing from
+ * the same db.pool.* settings.
+ *
+ * Nothing on the acquisition path holds a Java monitor: waiting is done on the
+ * semaphore and singleton creation and reconfiguration use ReentrantLock, so
+ * virtual threads blocked on a small pool park instead of pinning their
+ * carrier thread.
  */
-public class DatabaseConnectionPool {
+public class DatabaseConnectionPool implements DataSource {
     private static final Logger LOGGER = Logger.getLogger(DatabaseConnectionPool.class.getName());
     
-    private static DatabaseConnectionPool instance;
-    private BlockingQueue<Connection> connectionPool;
-    private final int INITIAL_POOL_SIZE = 5;
-    private final int MAX_POOL_SIZE = 20;
-    private final int CONNECTION_TIMEOUT = 30; // seconds
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
     
+    private static final ReentrantLock INSTANCE_LOCK = new ReentrantLock();
+    private static volatile DatabaseConnectionPool instance;
+    private static volatile DatabaseConnectionPool replicaInstance;
+    private final Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final Set<PooledConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final long MAX_HOUSEKEEPING_INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+    private final long MIN_HOUSEKEEPING_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+    private final int VALIDATION_TIMEOUT = 5; // seconds
+    
+    // Tunable settings (db.pool.*), re-read by applyConfiguration() on reload
+    private volatile int initialPoolSize;
+    private volatile int maxPoolSize;
+    private volatile int connectionTimeoutSeconds;
+    private volatile long maxLifetimeMillis;
+    private volatile long idleTimeoutMillis;
+    private volatile long leakDetectionThresholdMillis;
+    private volatile long validationIdleThresholdMillis;
+    private volatile long keepaliveIntervalMillis;
+    private volatile boolean validateOnReturn;
+    private volatile int statementCacheSize;
+    
+    private final ResizableSemaphore borrowPermits = new ResizableSemaphore();
+    private final ReentrantLock configLock = new ReentrantLock();
+    private final Runnable reloadListener = () -> applyConfiguration(ConfigurationManager.getInstance());
+    private final ScheduledExecutorService housekeeper;
+    private ScheduledFuture<?> housekeeping; // guarded by configLock
+    private long housekeepingIntervalMillis;
+    private final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(this);
+    private volatile boolean shutdown;
+    
+    private final String name;
     private final String DB_URL;
     private final String DB_USERNAME;
     private final String DB_PASSWORD;
+    private final boolean readOnly;
     
-    private DatabaseConnectionPool() {
+    private DatabaseConnectionPool(String name, String url, String username, String password, boolean readOnly) {
         ConfigurationManager config = ConfigurationManager.getInstance();
-        this.DB_URL = config.getDatabaseUrl();
-        this.DB_USERNAME = config.getDatabaseUsername();
-        this.DB_PASSWORD = config.getDatabasePassword();
+        this.name = name;
+        this.DB_URL = url;
+        this.DB_USERNAME = username;
+        this.DB_PASSWORD = password;
+        this.readOnly = readOnly;
         
+        applyConfiguration(config);
         initializePool();
+        metrics.register();
+        config.addReloadListener(reloadListener);
+        
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-housekeeper-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        configLock.lock();
+        try {
+            scheduleHousekeeping();
+        } finally {
+            configLock.unlock();
+        }
+    }
+    
+    public static DatabaseConnectionPool getInstance() {
+        DatabaseConnectionPool current = instance;
+        if (current != null) {
+            return current;
+        }
+        INSTANCE_LOCK.lock();
+        try {
+            if (instance == null) {
+                ConfigurationManager config = ConfigurationManager.getInstance();
+                instance = new DatabaseConnectionPool(PRIMARY, config.getDatabaseUrl(),
+                        config.getDatabaseUsername(), config.getDatabasePassword(), false);
+            }
+            return instance;
+        } finally {
+            INSTANCE_LOCK.unlock();
+        }
     }
     
-    public static synchronized DatabaseConnectionPool getInstance() {
-        if (instance == null) {
-            instance = new DatabaseConnectionPool();
+    /**
+     * Pool of read-only connections to the replica configured under db.replica.*
+     */
+    public static DatabaseConnectionPool getReplicaInstance() {
+        DatabaseConnectionPool current = replicaInstance;
+        if (current != null) {
+            return current;
+        }
+        INSTANCE_LOCK.lock();
+        try {
+            if (replicaInstance == null) {
+                ConfigurationManager config = ConfigurationManager.getInstance();
+                replicaInstance = new DatabaseConnectionPool(REPLICA, config.getReplicaUrl(),
+                        config.getReplicaUsername(), config.getReplicaPassword(), true);
+            }
+            return replicaInstance;
+        } finally {
+            INSTANCE_LOCK.unlock();
+        }
+    }
+    
+    /**
+     * Closes the current pools, if any, so the next getInstance() or
+     * getReplicaInstance() builds a new one from the current configuration.
+     */
+    public static void shutdownInstance() {
+        INSTANCE_LOCK.lock();
+        try {
+            if (instance != null) {
+                instance.closeAllConnections();
+                instance = null;
+            }
+            if (replicaInstance != null) {
+                replicaInstance.closeAllConnections();
+                replicaInstance = null;
+            }
+        } finally {
+            INSTANCE_LOCK.unlock();
         }
-        return instance;
     }
     
     private void initializePool() {
-        connectionPool = new LinkedBlockingQueue<>(MAX_POOL_SIZE);
-        
         try {
             // Load MySQL driver
             Class.forName("com.mysql.cj.jdbc.Driver");
             
             // Create initial connections
-            for (int i = 0; i < INITIAL_POOL_SIZE; i++) {
-                Connection connection = createNewConnection();
-                if (connection != null) {
-                    connectionPool.offer(connection);
-                }
-            }
-            
-            LOGGER.info("✅ Database connection pool initialized with " + connectionPool.size() + " connections");
+            fillToMinimum();
             
+            LOGGER.info("✅ Database connection pool '" + name + "' initialized with "
+                    + idleConnections.size() + " connections");
+        
         } catch (ClassNotFoundException e) {
             LOGGER.log(Level.SEVERE, "❌ MySQL driver not found", e);
             throw new RuntimeException("MySQL driver not found", e);
         }
     }
     
-    private Connection createNewConnection() {
+    /**
+     * Reads the db.pool.* settings and applies them to the running pool.
+     * Growing the pool takes effect immediately; shrinking closes surplus idle
+     * connections now and lets borrowed ones drain as they are returned.
+     * Connection URL and credentials are not reloaded.
+     */
+    void applyConfiguration(ConfigurationManager config) {
+        configLock.lock();
+        try {
+            applyConfigurationLocked(config);
+        } finally {
+            configLock.unlock();
+        }
+    }
+    
+    private void applyConfigurationLocked(ConfigurationManager config) {
+        int newMaxPoolSize = Math.max(1, config.getPoolMaxSize());
+        int newInitialPoolSize = Math.max(0, Math.min(config.getPoolInitialSize(), newMaxPoolSize));
+        
+        connectionTimeoutSeconds = config.getPoolConnectionTimeoutSeconds();
+        maxLifetimeMillis = config.getPoolMaxLifetimeMillis();
+        idleTimeoutMillis = config.getPoolIdleTimeoutMillis();
+        leakDetectionThresholdMillis = config.getPoolLeakDetectionThresholdMillis();
+        validationIdleThresholdMillis = config.getPoolValidationIdleThresholdMillis();
+        keepaliveIntervalMillis = config.getPoolKeepaliveIntervalMillis();
+        validateOnReturn = config.isPoolValidateOnReturn();
+        statementCacheSize = config.getPoolStatementCacheSize(); // applies to new connections
+        
+        int oldMaxPoolSize = maxPoolSize;
+        maxPoolSize = newMaxPoolSize;
+        initialPoolSize = newInitialPoolSize;
+        borrowPermits.resize(newMaxPoolSize - oldMaxPoolSize);
+        
+        if (oldMaxPoolSize != 0 && oldMaxPoolSize != newMaxPoolSize) {
+            LOGGER.info("🔧 Connection pool resized: max " + oldMaxPoolSize + " -> " + newMaxPoolSize
+                    + ", initial " + newInitialPoolSize);
+            drainSurplusIdleConnections();
+            fillToMinimum();
+        }
+        scheduleHousekeeping();
+    }
+    
+    /**
+     * (Re)schedules housekeeping so an idle connection is pinged no later than
+     * 1.5 keepalive intervals after its last check. Housekeeping runs every 30
+     * seconds, or every half keepalive interval if that is shorter, but not
+     * more often than once a second.
+     */
+    private void scheduleHousekeeping() {
+        if (housekeeper == null || shutdown) {
+            return; // still constructing (the constructor schedules it) or shut down
+        }
+        long keepaliveInterval = keepaliveIntervalMillis;
+        long interval = keepaliveInterval > 0
+                ? Math.max(MIN_HOUSEKEEPING_INTERVAL_MS, Math.min(MAX_HOUSEKEEPING_INTERVAL_MS, keepaliveInterval / 2))
+                : MAX_HOUSEKEEPING_INTERVAL_MS;
+        if (housekeeping != null) {
+            if (interval == housekeepingIntervalMillis) {
+                return;
+            }
+            housekeeping.cancel(false);
+        }
+        housekeepingIntervalMillis = interval;
+        housekeeping = housekeeper.scheduleWithFixedDelay(this::housekeep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Closes idle connections while the pool holds more than maxPoolSize.
+     */
+    private void drainSurplusIdleConnections() {
+        PooledConnection connection;
+        while (totalConnections.get() > maxPoolSize && (connection = idleConnections.pollLast()) != null) {
+            destroyConnection(connection);
+            metrics.recordEvicted();
+        }
+    }
+    
+    /**
+     * Opens a physical connection and counts it against the pool.
+     * @return the new connection, or null if the pool is full or the database refused
+     */
+    private PooledConnection createNewConnection() {
+        if (totalConnections.incrementAndGet() > maxPoolSize) {
+            totalConnections.decrementAndGet();
+            return null;
+        }
+        
         try {
             Connection connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
             
             // Configure connection
             connection.setAutoCommit(true);
             connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            connection.setReadOnly(readOnly);
             
-            return connection;
-            
+            metrics.recordCreated();
+            return new PooledConnection(this, connection, statementCacheSize, metrics);
+        
         } catch (SQLException e) {
+            totalConnections.decrementAndGet();
+            metrics.recordCreationFailure();
             LOGGER.log(Level.SEVERE, "❌ Failed to create database connection", e);
             return null;
         }
     }
     
+    private void destroyConnection(PooledConnection connection) {
+        connection.closePhysical();
+        totalConnections.decrementAndGet();
+    }
+    
+    @Override
     public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+        
+        long borrowStart = System.nanoTime();
         try {
-            Connection connection = connectionPool.poll(CONNECTION_TIMEOUT, TimeUnit.SECONDS);
-            
-            if (connection == null) {
-                // Pool is empty, create new connection if under max limit
-                if (getTotalConnections() < MAX_POOL_SIZE) {
-                    connection = createNewConnection();
-                    if (connection == null) {
-                        throw new SQLException("Unable to create new database connection");
-                    }
-                } else {
-                    throw new SQLException("Connection pool exhausted. Maximum connections: " + MAX_POOL_SIZE);
-                }
+            // Fair wait for a borrow slot; this is what enforces maxPoolSize
+            int timeout = connectionTimeoutSeconds;
+            if (!borrowPermits.tryAcquire(timeout, TimeUnit.SECONDS)) {
+                metrics.recordTimeout();
+                throw new SQLException("Timed out after " + timeout
+                        + "s waiting for a database connection. " + getPoolStatus());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for database connection", e);
+        }
+        
+        try {
+            PooledConnection connection = takeIdleConnection();
             
-            // Validate connection
-            if (!isConnectionValid(connection)) {
+            if (connection == null) {
+                // No idle connection, open a new one
                 connection = createNewConnection();
                 if (connection == null) {
-                    throw new SQLException("Unable to create valid database connection");
+                    throw new SQLException("Unable to create new database connection");
                 }
             }
             
-            return connection;
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new SQLException("Interrupted while waiting for database connection", e);
+            connection.markBorrowed(leakDetectionThresholdMillis > 0);
+            borrowedConnections.add(connection);
+            metrics.recordBorrow(System.nanoTime() - borrowStart);
+            return connection.borrow();
+        
+        } catch (SQLException | RuntimeException e) {
+            borrowPermits.release();
+            throw e;
         }
     }
     
+    /**
+     * Takes the most recently used idle connection that is still usable,
+     * discarding expired or broken ones on the way.
+     */
+    private PooledConnection takeIdleConnection() {
+        PooledConnection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            long now = System.currentTimeMillis();
+            if (isExpired(connection, now)) {
+                metrics.recordEvicted();
+            } else if (now - connection.getLastCheckedAt() <= validationIdleThresholdMillis) {
+                // Used or pinged recently enough to trust without a round trip
+                metrics.recordValidationSkipped();
+                return connection;
+            } else if (validate(connection, ConnectionPoolMetrics.ValidationCheck.BORROW)) {
+                return connection;
+            }
+            destroyConnection(connection);
+        }
+        return null;
+    }
+    
+    /**
+     * Returns a borrowed connection to the pool.
+     * Equivalent to calling close() on the connection.
+     */
     public void returnConnection(Connection connection) {
         if (connection != null) {
             try {
-                if (isConnectionValid(connection)) {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "⚠️ Error returning connection to pool", e);
+            }
+        }
+    }
+    
+    /**
+     * Called by {@link PooledConnection} when a borrower closes its proxy.
+     */
+    void release(PooledConnection pooled) {
+        if (!borrowedConnections.remove(pooled)) {
+            return;
+        }
+        
+        try {
+            if (pooled.isLeakReported()) {
+                LOGGER.info("🔁 Previously reported leaked connection was returned after "
+                        + (System.currentTimeMillis() - pooled.getBorrowedAt()) + " ms");
+            }
+            
+            if (shutdown) {
+                destroyConnection(pooled);
+                return;
+            }
+            if (isExpired(pooled, System.currentTimeMillis()) || totalConnections.get() > maxPoolSize) {
+                // Past its lifetime, or the pool was shrunk while it was borrowed
+                metrics.recordEvicted();
+                destroyConnection(pooled);
+                return;
+            }
+            
+            Connection connection = pooled.getPhysicalConnection();
+            try {
+                boolean usable = validateOnReturn
+                        ? validate(pooled, ConnectionPoolMetrics.ValidationCheck.RETURN)
+                        : !connection.isClosed();
+                if (usable) {
                     // Reset connection state
-                    connection.setAutoCommit(true);
+                    if (!connection.getAutoCommit()) {
+                        connection.rollback();
+                        connection.setAutoCommit(true);
+                    }
                     connection.clearWarnings();
+                    pooled.markReturned();
                     
                     // Return to pool
-                    if (!connectionPool.offer(connection)) {
-                        // Pool is full, close the connection
-                        connection.close();
-                    }
+                    idleConnections.offerFirst(pooled);
                 } else {
                     // Connection is invalid, close it
-                    connection.close();
+                    destroyConnection(pooled);
                 }
             } catch (SQLException e) {
                 LOGGER.log(Level.WARNING, "⚠️ Error returning connection to pool", e);
-                try {
-                    connection.close();
-                } catch (SQLException closeException) {
-                    LOGGER.log(Level.WARNING, "⚠️ Error closing invalid connection", closeException);
-                }
+                destroyConnection(pooled);
             }
+        } finally {
+            borrowPermits.release();
         }
     }
     
     private boolean isConnectionValid(Connection connection) {
         try {
-            return connection != null && 
-                   !connection.isClosed() && 
-                   connection.isValid(5);
+            return connection != null &&
+                   !connection.isClosed() &&
+                   connection.isValid(VALIDATION_TIMEOUT);
         } catch (SQLException e) {
             return false;
         }
     }
     
+    /**
+     * Pings the server and records the outcome against the given check.
+     */
+    private boolean validate(PooledConnection connection, ConnectionPoolMetrics.ValidationCheck check) {
+        boolean valid = isConnectionValid(connection.getPhysicalConnection());
+        metrics.recordValidation(check, valid);
+        if (valid) {
+            connection.markValidated();
+        }
+        return valid;
+    }
+    
+    private boolean isExpired(PooledConnection connection, long now) {
+        return now - connection.getCreatedAt() > maxLifetimeMillis;
+    }
+    
+    /**
+     * Periodic maintenance run on the housekeeper thread.
+     */
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+            evictIdleConnections(now);
+            keepAliveIdleConnections(now);
+            fillToMinimum();
+            detectLeaks(now);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "⚠️ Connection pool housekeeping failed", e);
+        }
+    }
+    
+    private void evictIdleConnections(long now) {
+        int evicted = 0;
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledConnection connection = iterator.next();
+            boolean idleTooLong = now - connection.getLastUsedAt() > idleTimeoutMillis
+                    && totalConnections.get() > initialPoolSize;
+            if ((idleTooLong || isExpired(connection, now)) && idleConnections.remove(connection)) {
+                destroyConnection(connection);
+                metrics.recordEvicted();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            LOGGER.fine("🧹 Evicted " + evicted + " idle or expired connections");
+        }
+    }
+    
+    /**
+     * Pings idle connections that have not been used or checked for
+     * keepaliveIntervalMillis so dead ones are found here instead of on borrow.
+     */
+    private void keepAliveIdleConnections(long now) {
+        long keepaliveInterval = keepaliveIntervalMillis;
+        if (keepaliveInterval <= 0) {
+            return;
+        }
+        for (PooledConnection connection : idleConnections) {
+            // Take it out of the idle set so it cannot be borrowed mid-ping
+            if (now - connection.getLastCheckedAt() >= keepaliveInterval
+                    && idleConnections.remove(connection)) {
+                if (validate(connection, ConnectionPoolMetrics.ValidationCheck.KEEPALIVE)) {
+                    idleConnections.offerLast(connection);
+                } else {
+                    destroyConnection(connection);
+                }
+            }
+        }
+    }
+    
+    private void fillToMinimum() {
+        while (!shutdown && totalConnections.get() < initialPoolSize) {
+            PooledConnection connection = createNewConnection();
+            if (connection == null) {
+                break;
+            }
+            idleConnections.offerLast(connection);
+        }
+    }
+    
+    private void detectLeaks(long now) {
+        long threshold = leakDetectionThresholdMillis;
+        if (threshold <= 0) {
+            return;
+        }
+        for (PooledConnection connection : borrowedConnections) {
+            long heldFor = now - connection.getBorrowedAt();
+            if (heldFor > threshold && !connection.isLeakReported()) {
+                connection.setLeakReported(true);
+                metrics.recordLeak();
+                LOGGER.log(Level.WARNING, "⚠️ Possible connection leak: connection held for " + heldFor
+                        + " ms by thread " + connection.getBorrowingThread(), connection.getBorrowStackTrace());
+            }
+        }
+    }
+    
+    /**
+     * @return PRIMARY or REPLICA
+     */
+    public String getName() {
+        return name;
+    }
+    
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+    
     public int getAvailableConnections() {
-        return connectionPool.size();
+        return idleConnections.size();
+    }
+    
+    public int getActiveConnections() {
+        return borrowedConnections.size();
     }
     
     public int getTotalConnections() {
-        // This is a simplified implementation
-        // In a real pool, you'd track all connections (available + in use)
-        return connectionPool.size();
+        return totalConnections.get();
+    }
+    
+    public int getWaitingThreads() {
+        return borrowPermits.getQueueLength();
+    }
+    
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+    
+    /**
+     * @return live metrics for this pool, also published over JMX
+     */
+    public ConnectionPoolMetrics getMetrics() {
+        return metrics;
     }
     
     public void closeAllConnections() {
-        LOGGER.info("🔒 Closing all database connections...");
+        LOGGER.info("🔒 Closing all database connections in pool '" + name + "'...");
         
-        Connection connection;
-        while ((connection = connectionPool.poll()) != null) {
-            try {
-                connection.close();
-            } catch (SQLException e) {
-                LOGGER.log(Level.WARNING, "⚠️ Error closing connection", e);
-            }
+        shutdown = true;
+        housekeeper.shutdownNow();
+        ConfigurationManager.getInstance().removeReloadListener(reloadListener);
+        
+        PooledConnection connection;
+        while ((connection = idleConnections.poll()) != null) {
+            destroyConnection(connection);
+        }
+        
+        if (!borrowedConnections.isEmpty()) {
+            LOGGER.warning("⚠️ " + borrowedConnections.size()
+                    + " connections still in use; they will be closed when returned");
         }
         
         LOGGER.info("✅ All database connections closed");
     }
     
     public String getPoolStatus() {
-        return String.format("Connection Pool Status: Available=%d, Total=%d, Max=%d",
-                getAvailableConnections(), getTotalConnections(), MAX_POOL_SIZE);
+        return String.format("Connection Pool Status [%s]: Available=%d, InUse=%d, Total=%d, Max=%d, Waiting=%d",
+                name, getAvailableConnections(), getActiveConnections(), getTotalConnections(),
+                maxPoolSize, getWaitingThreads());
+    }
+    
+    // DataSource methods not used by the pool
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool connections use the configured credentials");
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+    
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        // Logging goes through java.util.logging
+    }
+    
+    @Override
+    public void setLoginTimeout(int seconds) {
+        // Login timeout is governed by db.pool.connection.timeout.seconds
+    }
+    
+    @Override
+    public int getLoginTimeout() {
+        return connectionTimeoutSeconds;
+    }
+    
+    @Override
+    public Logger getParentLogger() {
+        return LOGGER;
+    }
+    
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+    
+    /**
+     * Fair semaphore whose permit count can be changed while threads hold or
+     * wait for permits.
+     */
+    private static class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+        
+        ResizableSemaphore() {
+            super(0, true);
+        }
+        
+        void resize(int delta) {
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                // May go negative; borrowers then wait until enough connections come back
+                reducePermits(-delta);
+            }
+        }
     }
     
     // Shutdown hook to clean up connections
@@ -187,6 +680,9 @@ public class DatabaseConnectionPool {
             if (instance != null) {
                 instance.closeAllConnections();
             }
+            if (replicaInstance != null) {
+                replicaInstance.closeAllConnections();
+            }
         }));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package util;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Non-pooled DataSource that opens a new physical connection per call
+ * through {@link DBConnection}. Used when pooling is switched off
+ * (db.pool.enabled=false).
+ */
+class DirectDataSource implements DataSource {
+    private static final Logger LOGGER = Logger.getLogger(DirectDataSource.class.getName());
+
+    private final String url;
+    private final String username;
+    private final String password;
+
+    /**
+     * Direct connections to the primary database
+     */
+    DirectDataSource() {
+        this(null, null, null);
+    }
+
+    /**
+     * Direct read-only connections to another database, e.g. the read replica
+     */
+    DirectDataSource(String url, String username, String password) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (url == null) {
+            return DBConnection.getConnection();
+        }
+        Connection connection = DriverManager.getConnection(url, username, password);
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Direct connections use the configured credentials");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        // Logging goes through java.util.logging
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        // Governed by DriverManager
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
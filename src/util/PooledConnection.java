@@ -0,0 +1,179 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Wraps a physical connection owned by {@link DatabaseConnectionPool}.
+ * The proxy handed to callers returns the physical connection to the pool
+ * on close(), so DAOs can keep using try-with-resources unchanged.
+ */
+class PooledConnection implements InvocationHandler {
+
+    private final DatabaseConnectionPool pool;
+    private final Connection physicalConnection;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+    private volatile long lastValidatedAt;
+    private volatile long borrowedAt;
+    private volatile String borrowingThread;
+    private volatile Throwable borrowStackTrace;
+    private volatile boolean leakReported;
+    private volatile Connection proxy;
+    private final StatementCache statementCache;
+
+    /**
+     * @param statementCacheSize maximum prepared statements cached for this connection; 0 disables caching
+     */
+    PooledConnection(DatabaseConnectionPool pool, Connection physicalConnection,
+                     int statementCacheSize, ConnectionPoolMetrics metrics) {
+        this.pool = pool;
+        this.physicalConnection = physicalConnection;
+        this.createdAt = System.currentTimeMillis();
+        this.lastUsedAt = createdAt;
+        this.statementCache = statementCacheSize > 0
+                ? new StatementCache(this, statementCacheSize, metrics)
+                : null;
+    }
+
+    /**
+     * Creates a fresh proxy for one borrow. A new proxy per borrow means a
+     * caller that holds on to a connection after close() cannot use it again.
+     */
+    Connection borrow() {
+        proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                this);
+        return proxy;
+    }
+
+    Connection currentProxy() {
+        return proxy;
+    }
+
+    Connection getPhysicalConnection() {
+        return physicalConnection;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    /**
+     * @return the later of the last use and the last successful validation
+     */
+    long getLastCheckedAt() {
+        return Math.max(lastUsedAt, lastValidatedAt);
+    }
+
+    void markValidated() {
+        lastValidatedAt = System.currentTimeMillis();
+    }
+
+    long getBorrowedAt() {
+        return borrowedAt;
+    }
+
+    String getBorrowingThread() {
+        return borrowingThread;
+    }
+
+    /**
+     * @return stack trace captured when the connection was borrowed, or null
+     *         if leak detection is disabled
+     */
+    Throwable getBorrowStackTrace() {
+        return borrowStackTrace;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported(boolean leakReported) {
+        this.leakReported = leakReported;
+    }
+
+    /**
+     * Records who borrowed the connection and when.
+     * @param captureStackTrace whether to capture the borrower's stack for leak reports
+     */
+    void markBorrowed(boolean captureStackTrace) {
+        borrowedAt = System.currentTimeMillis();
+        lastUsedAt = borrowedAt;
+        // Virtual threads are usually unnamed; fall back to their id-bearing toString()
+        Thread thread = Thread.currentThread();
+        borrowingThread = thread.getName().isEmpty() ? thread.toString() : thread.getName();
+        borrowStackTrace = captureStackTrace ? new Throwable("Connection borrowed here") : null;
+        leakReported = false;
+    }
+
+    void markReturned() {
+        lastUsedAt = System.currentTimeMillis();
+        borrowingThread = null;
+        borrowStackTrace = null;
+    }
+
+    void closePhysical() {
+        try {
+            if (statementCache != null) {
+                statementCache.clear();
+            }
+            physicalConnection.close();
+        } catch (SQLException e) {
+            // Connection is being discarded; nothing useful to do
+        }
+    }
+
+    @Override
+    public Object invoke(Object caller, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+
+        switch (name) {
+            case "close":
+                if (proxy == caller) {
+                    proxy = null;
+                    pool.release(this);
+                }
+                return null;
+            case "isClosed":
+                return proxy != caller || physicalConnection.isClosed();
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(physicalConnection)) {
+                    return physicalConnection;
+                }
+                break;
+            case "equals":
+                return caller == args[0];
+            case "hashCode":
+                return System.identityHashCode(caller);
+            case "toString":
+                return "PooledConnection[" + physicalConnection + "]";
+            default:
+                break;
+        }
+
+        if (proxy != caller) {
+            throw new SQLException("Connection has already been returned to the pool");
+        }
+
+        if (statementCache != null && name.equals("prepareStatement") && StatementCache.isCacheable(method)) {
+            return statementCache.prepare((String) args[0], StatementCache.generatedKeysFlag(args));
+        }
+
+        try {
+            return method.invoke(physicalConnection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
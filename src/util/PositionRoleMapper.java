@@ -1,17 +1,36 @@
 package util;
 
 import model.UserRole;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * Maps employee positions to user roles for access control
  * Based on your actual database positions
+ *
+ * Positions loaded from the database through {@link #registerPositions} that
+ * have no mapping here get the EMPLOYEE role. Resolved roles are remembered
+ * per position string, so repeated lookups during logins and dashboard
+ * builds are a single map lookup.
  */
 public class PositionRoleMapper {
     private static final Logger LOGGER = Logger.getLogger(PositionRoleMapper.class.getName());
     private static final Map<String, UserRole> POSITION_ROLE_MAP = new HashMap<>();
+
+    // Bounds for the per-string caches, which are keyed by caller input
+    private static final int MAX_RESOLVED = 1024;
+
+    // Positions from the database with no entry in POSITION_ROLE_MAP, normalized
+    private static volatile Map<String, UserRole> registeredPositions = Collections.emptyMap();
+    // Raw position string as passed in -> role
+    private static final Map<String, UserRole> RESOLVED = new ConcurrentHashMap<>();
+    // Unknown positions already warned about, so each is logged once
+    private static final Set<String> WARNED_UNKNOWN = ConcurrentHashMap.newKeySet();
     
     static {
         // Executive Level - C-Suite
@@ -58,18 +77,61 @@ public class PositionRoleMapper {
             return UserRole.EMPLOYEE;
         }
         
-        String normalizedPosition = position.toLowerCase().trim();
+        UserRole cached = RESOLVED.get(position);
+        if (cached != null) {
+            return cached;
+        }
+        
+        String normalizedPosition = normalize(position);
         UserRole role = POSITION_ROLE_MAP.get(normalizedPosition);
+        if (role == null) {
+            role = registeredPositions.get(normalizedPosition);
+        }
         
         if (role == null) {
-            LOGGER.warning("⚠️ Unknown position: '" + position + "', defaulting to EMPLOYEE role");
-            return UserRole.EMPLOYEE;
+            if (WARNED_UNKNOWN.size() < MAX_RESOLVED && WARNED_UNKNOWN.add(normalizedPosition)) {
+                LOGGER.warning("⚠️ Unknown position: '" + position + "', defaulting to EMPLOYEE role");
+            }
+            role = UserRole.EMPLOYEE;
         }
         
-        LOGGER.fine("🎯 Position '" + position + "' mapped to role: " + role.getDisplayName());
+        if (RESOLVED.size() >= MAX_RESOLVED) {
+            RESOLVED.clear();
+        }
+        RESOLVED.put(position, role);
         return role;
     }
     
+    /**
+     * Registers the positions currently in the database. Titles without a
+     * mapping above get the EMPLOYEE role (logged once here instead of on
+     * every lookup). Replaces any previously registered positions.
+     * @param positionTitles position titles as stored in the positions table
+     */
+    public static synchronized void registerPositions(Collection<String> positionTitles) {
+        Map<String, UserRole> registered = new HashMap<>();
+        for (String title : positionTitles) {
+            if (title == null || title.trim().isEmpty()) {
+                continue;
+            }
+            String normalizedTitle = normalize(title);
+            if (!POSITION_ROLE_MAP.containsKey(normalizedTitle)) {
+                registered.put(normalizedTitle, UserRole.EMPLOYEE);
+            }
+        }
+        
+        if (!registered.keySet().equals(registeredPositions.keySet()) && !registered.isEmpty()) {
+            LOGGER.info("ℹ️ Positions without a role mapping, using EMPLOYEE: " + registered.keySet());
+        }
+        registeredPositions = Collections.unmodifiableMap(registered);
+        RESOLVED.clear();
+        WARNED_UNKNOWN.clear();
+    }
+    
+    private static String normalize(String position) {
+        return position.toLowerCase().trim();
+    }
+    
     /**
      * Check if position has HR access
      */
@@ -130,7 +192,9 @@ public class PositionRoleMapper {
      * Get all mapped positions for debugging
      */
     public static Map<String, UserRole> getAllMappings() {
-        return new HashMap<>(POSITION_ROLE_MAP);
+        Map<String, UserRole> mappings = new HashMap<>(registeredPositions);
+        mappings.putAll(POSITION_ROLE_MAP);
+        return mappings;
     }
     
     /**
@@ -140,7 +204,9 @@ public class PositionRoleMapper {
         if (position == null || position.trim().isEmpty()) {
             return false;
         }
-        return POSITION_ROLE_MAP.containsKey(position.toLowerCase().trim());
+        String normalizedPosition = normalize(position);
+        return POSITION_ROLE_MAP.containsKey(normalizedPosition)
+                || registeredPositions.containsKey(normalizedPosition);
     }
     
     /**
@@ -0,0 +1,243 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Query timeout and cancellation for the DAO calls made on one thread.
+ *
+ * While a scope is bound with {@link #bind()}, {@link DataSourceManager}
+ * wraps the connections it hands out so every statement a DAO creates gets
+ * the scope's query timeout and is remembered until closed. {@link #cancel()}
+ * may then be called from any other thread: it calls Statement.cancel() on
+ * the statements still open and makes further statements fail, so the DAO
+ * call ends with an exception instead of running to completion.
+ *
+ * <pre>
+ * QueryScope scope = new QueryScope(10);
+ * // on a worker thread
+ * try (QueryScope.Binding binding = scope.bind()) {
+ *     rows = employeeDAO.searchEmployeeListRows(term);
+ * }
+ * // from the UI thread, when the user types a new term
+ * scope.cancel();
+ * </pre>
+ */
+public final class QueryScope {
+    private static final Logger LOGGER = Logger.getLogger(QueryScope.class.getName());
+
+    /** SQLState MySQL reports for an interrupted query */
+    public static final String CANCELLED_SQL_STATE = "70100";
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private final int timeoutSeconds;
+    private final long callerWriteAt;
+    private final List<Statement> openStatements = new ArrayList<>();
+    // Held while cancelling so a statement cannot be closed and handed to another borrower mid-cancel
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean cancelled;
+
+    /**
+     * @param timeoutSeconds query timeout applied to each statement; 0 for none
+     */
+    public QueryScope(int timeoutSeconds) {
+        this.timeoutSeconds = Math.max(0, timeoutSeconds);
+        // Reads in this scope see the creating thread's recent writes (see DataSourceManager)
+        this.callerWriteAt = DataSourceManager.lastWriteOnCurrentThread();
+    }
+
+    /**
+     * Binds this scope to the current thread until the returned binding is closed
+     * @throws IllegalStateException if another scope is already bound to this thread
+     */
+    public Binding bind() {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("A query scope is already bound to this thread");
+        }
+        CURRENT.set(this);
+        return new Binding();
+    }
+
+    /**
+     * Cancels the statements currently running in this scope and fails any
+     * created afterwards. Safe to call more than once and from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+        lock.lock();
+        try {
+            for (Statement statement : openStatements) {
+                try {
+                    statement.cancel();
+                } catch (SQLException e) {
+                    LOGGER.log(Level.FINE, "Statement could not be cancelled", e);
+                }
+            }
+            openStatements.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    /**
+     * @return when the thread that created the bound scope last wrote, 0 if no scope is bound
+     */
+    static long currentCallerWriteAt() {
+        QueryScope scope = CURRENT.get();
+        return scope != null ? scope.callerWriteAt : 0;
+    }
+
+    /**
+     * Wraps the connection for the scope bound to the current thread
+     * @return the connection unchanged if no scope is bound
+     */
+    static Connection track(Connection connection) {
+        QueryScope scope = CURRENT.get();
+        if (scope == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                scope.new ConnectionHandler(connection));
+    }
+
+    /**
+     * @return true if the exception, or one it wraps, came from a cancelled query
+     */
+    public static boolean isCancellation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException
+                    && CANCELLED_SQL_STATE.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Statement register(Statement statement, Class<?> type) throws SQLException {
+        lock.lock();
+        try {
+            if (cancelled) {
+                statement.close();
+                throw cancelledException(null);
+            }
+            if (timeoutSeconds > 0) {
+                statement.setQueryTimeout(timeoutSeconds);
+            }
+            openStatements.add(statement);
+        } finally {
+            lock.unlock();
+        }
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[] { type },
+                new StatementHandler(statement));
+    }
+
+    private void unregister(Statement statement) {
+        lock.lock();
+        try {
+            openStatements.remove(statement);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static SQLException cancelledException(Throwable cause) {
+        return new SQLException("Query cancelled", CANCELLED_SQL_STATE, cause);
+    }
+
+    /**
+     * Unbinds the scope from the thread that bound it
+     */
+    public final class Binding implements AutoCloseable {
+        private Binding() {
+        }
+
+        @Override
+        public void close() {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Registers statements created on the connection; everything else goes straight through
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            boolean createsStatement = name.equals("createStatement")
+                    || name.equals("prepareStatement") || name.equals("prepareCall");
+            if (createsStatement && cancelled) {
+                throw cancelledException(null);
+            }
+
+            Object result;
+            try {
+                result = method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (createsStatement) {
+                return register((Statement) result, method.getReturnType());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Forgets the statement once the DAO closes it, so a later cancel cannot reach
+     * a pooled statement that has been handed to another query
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+
+        StatementHandler(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                unregister(statement);
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                if (cancelled && e.getCause() instanceof SQLException) {
+                    // Report the driver's "query interrupted" error in one recognisable form
+                    throw cancelledException(e.getCause());
+                }
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Records how long each startup phase takes, measured from JVM start, and
+ * logs the timeline once the login screen is shown.
+ *
+ * Phases may run concurrently on different threads; the timeline shows each
+ * phase's start offset so overlapping work is visible.
+ */
+public final class StartupTimeline {
+    private static final Logger LOGGER = Logger.getLogger(StartupTimeline.class.getName());
+
+    private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private static final List<Phase> PHASES = new CopyOnWriteArrayList<>();
+    private static volatile long timeToLoginScreenMillis = -1;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Runs a startup phase and records its timing
+     */
+    public static void run(String phase, Runnable task) {
+        call(phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a startup phase that produces a result and records its timing
+     */
+    public static <T> T call(String phase, Supplier<T> task) {
+        long start = System.currentTimeMillis();
+        try {
+            return task.get();
+        } finally {
+            PHASES.add(new Phase(phase, Thread.currentThread().getName(),
+                    start - JVM_START_MILLIS, System.currentTimeMillis() - start));
+        }
+    }
+
+    /**
+     * Marks the login screen as visible and logs the timeline
+     */
+    public static void markLoginScreenShown() {
+        timeToLoginScreenMillis = System.currentTimeMillis() - JVM_START_MILLIS;
+        LOGGER.info(format());
+    }
+
+    /**
+     * @return milliseconds from JVM start until the login screen was shown, or -1 if not yet shown
+     */
+    public static long getTimeToLoginScreenMillis() {
+        return timeToLoginScreenMillis;
+    }
+
+    /**
+     * @return the recorded phases ordered by start time, one per line
+     */
+    public static String format() {
+        List<Phase> phases = new ArrayList<>(PHASES);
+        phases.sort(Comparator.comparingLong(phase -> phase.startOffsetMillis));
+
+        StringBuilder sb = new StringBuilder("⏱️ Startup timeline (ms since JVM start)\n");
+        sb.append(String.format("  %-18s %8s %8s  %s%n", "phase", "start", "took", "thread"));
+        for (Phase phase : phases) {
+            sb.append(String.format("  %-18s %8d %8d  %s%n",
+                    phase.name, phase.startOffsetMillis, phase.durationMillis, phase.thread));
+        }
+        sb.append("  Time to login screen: ")
+          .append(timeToLoginScreenMillis >= 0 ? timeToLoginScreenMillis + " ms" : "not shown yet");
+        return sb.toString();
+    }
+
+    private static final class Phase {
+        final String name;
+        final String thread;
+        final long startOffsetMillis;
+        final long durationMillis;
+
+        Phase(String name, String thread, long startOffsetMillis, long durationMillis) {
+            this.name = name;
+            this.thread = thread;
+            this.startOffsetMillis = startOffsetMillis;
+            this.durationMillis = durationMillis;
+        }
+    }
+}
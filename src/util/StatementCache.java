@@ -0,0 +1,229 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LRU cache of prepared statements for one pooled physical connection,
+ * keyed by SQL text and generated-keys flag.
+ *
+ * DAOs prepare the same static SQL on every call. With the cache, close() on
+ * a statement only clears its parameters and hands it back here, so the next
+ * borrower of the same connection skips the prepare entirely.
+ *
+ * Guarded by a ReentrantLock rather than a monitor because prepare() can make
+ * a server round trip while holding it.
+ */
+class StatementCache {
+
+    private final PooledConnection owner;
+    private final Connection physicalConnection;
+    private final int maxSize;
+    private final ConnectionPoolMetrics metrics;
+    private final Map<String, CachedStatement> statements;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    StatementCache(PooledConnection owner, int maxSize, ConnectionPoolMetrics metrics) {
+        this.owner = owner;
+        this.physicalConnection = owner.getPhysicalConnection();
+        this.maxSize = maxSize;
+        this.metrics = metrics;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    eldest.getValue().evict();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a statement for the given SQL, reusing a cached one when it is
+     * not already checked out.
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS or NO_GENERATED_KEYS
+     */
+    PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys + ":" + sql;
+        lock.lock();
+        try {
+            CachedStatement cached = statements.get(key);
+
+            if (cached != null && !cached.inUse) {
+                metrics.recordStatementCacheHit();
+                return cached.checkout();
+            }
+
+            metrics.recordStatementCacheMiss();
+            PreparedStatement statement = physicalConnection.prepareStatement(sql, autoGeneratedKeys);
+            if (cached != null) {
+                // Same SQL already open on this connection (nested use): don't cache the second copy
+                return statement;
+            }
+
+            cached = new CachedStatement(statement);
+            statements.put(key, cached);
+            return cached.checkout();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes every cached statement that is not currently in use.
+     */
+    void clear() {
+        lock.lock();
+        try {
+            List<String> keys = new ArrayList<>(statements.keySet());
+            for (String key : keys) {
+                statements.remove(key).evict();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return statements.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A physical statement plus its checkout state. Each checkout gets its
+     * own proxy so a caller cannot use a statement after closing it.
+     */
+    private final class CachedStatement {
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+        private PreparedStatement proxy;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        PreparedStatement checkout() {
+            inUse = true;
+            proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new CheckoutHandler(this));
+            return proxy;
+        }
+
+        void checkin() throws SQLException {
+            lock.lock();
+            try {
+                inUse = false;
+                proxy = null;
+                if (evicted) {
+                    closeQuietly();
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            // Release anything the caller left open so it doesn't leak into the next use
+            ResultSet resultSet = statement.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+            statement.setFetchSize(0); // streaming reads set their own fetch size
+            statement.setQueryTimeout(0); // as does QueryScope
+        }
+
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Statement is being discarded; nothing useful to do
+            }
+        }
+    }
+
+    private final class CheckoutHandler implements InvocationHandler {
+        private final CachedStatement cached;
+
+        CheckoutHandler(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object caller, Method method, Object[] args) throws Throwable {
+            boolean current = cached.proxy == caller;
+
+            switch (method.getName()) {
+                case "close":
+                    if (current) {
+                        cached.checkin();
+                    }
+                    return null;
+                case "isClosed":
+                    return !current || cached.statement.isClosed();
+                case "getConnection":
+                    // Callers must not see the physical connection behind the pool
+                    return owner.currentProxy();
+                case "equals":
+                    return caller == args[0];
+                case "hashCode":
+                    return System.identityHashCode(caller);
+                case "toString":
+                    return "CachedStatement[" + cached.statement + "]";
+                default:
+                    break;
+            }
+
+            if (!current) {
+                throw new SQLException("Statement has already been closed");
+            }
+
+            try {
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Only prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys)
+     * are cached; other overloads go straight to the driver.
+     */
+    static boolean isCacheable(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        return types.length == 1 || (types.length == 2 && types[1] == int.class);
+    }
+
+    static int generatedKeysFlag(Object[] args) {
+        return args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+    }
+}
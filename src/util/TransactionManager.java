@@ -0,0 +1,94 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Binds one primary connection to the current thread for the length of a
+ * {@link UnitOfWork}.
+ *
+ * While a unit of work is open, {@link DataSourceManager#getConnection()} and
+ * {@link DataSourceManager#getReadConnection()} hand DAOs the bound connection
+ * instead of borrowing a new one, so existing DAO methods join the transaction
+ * without any changes. Their close() calls leave the bound connection open.
+ *
+ * <pre>
+ * try (UnitOfWork work = TransactionManager.begin(500)) {
+ *     for (Payroll payroll : run) {
+ *         payrollDAO.insertPayroll(payroll);
+ *         work.rowCompleted();       // commits every 500 rows
+ *     }
+ *     work.commit();                 // commits the remainder
+ * }                                  // rolls back anything not committed
+ * </pre>
+ */
+public final class TransactionManager {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private TransactionManager() {
+    }
+
+    /**
+     * Starts an all-or-nothing unit of work: nothing is committed until commit()
+     * @return the new unit of work, or a participant in the one already open on this thread
+     * @throws SQLException if no connection can be obtained
+     */
+    public static UnitOfWork begin() throws SQLException {
+        return begin(0);
+    }
+
+    /**
+     * Starts a unit of work that commits after every commitEvery calls to
+     * {@link UnitOfWork#rowCompleted()}.
+     * @param commitEvery rows per commit; 0 or less commits only on commit()
+     * @return the new unit of work, or a participant in the one already open on this thread
+     * @throws SQLException if no connection can be obtained
+     */
+    public static UnitOfWork begin(int commitEvery) throws SQLException {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            // Nested calls join the outer unit of work, which decides when to commit
+            return current.participate();
+        }
+        UnitOfWork unitOfWork = new UnitOfWork(DataSourceManager.getConnection(), commitEvery);
+        CURRENT.set(unitOfWork);
+        return unitOfWork;
+    }
+
+    /**
+     * @return true if a unit of work is open on the current thread
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Runs the action once the current unit of work's changes are committed,
+     * e.g. to drop cache entries only when other threads can see the new rows.
+     * Outside a unit of work the action runs immediately. Actions registered
+     * in a unit of work that is rolled back never run.
+     */
+    public static void afterCommit(Runnable action) {
+        UnitOfWork current = CURRENT.get();
+        if (current == null) {
+            action.run();
+        } else {
+            current.addCommitAction(action);
+        }
+    }
+
+    /**
+     * @return the connection bound to the current thread, or null outside a unit of work
+     */
+    static Connection currentConnection() {
+        UnitOfWork current = CURRENT.get();
+        return current != null ? current.getConnection() : null;
+    }
+
+    static void unbind(UnitOfWork unitOfWork) {
+        if (CURRENT.get() == unitOfWork) {
+            CURRENT.remove();
+        }
+    }
+}
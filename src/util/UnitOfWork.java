@@ -0,0 +1,203 @@
+package util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A transaction on one connection bound to the current thread, started with
+ * {@link TransactionManager#begin()}. Close it with try-with-resources: any
+ * work not committed by then is rolled back.
+ *
+ * A unit of work started while another is open on the same thread is a
+ * participant: its commit() only records that its part succeeded, and closing
+ * it without committing marks the outer unit rollback-only.
+ */
+public class UnitOfWork implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(UnitOfWork.class.getName());
+
+    private final UnitOfWork outer;
+    private final Connection connection;
+    private final Connection boundConnection;
+    private final int commitEvery;
+    private int pendingRows;
+    private int committedRows;
+    private boolean rollbackOnly;
+    private boolean committed; // participants only
+    private boolean closed;
+    private final List<Runnable> commitActions = new ArrayList<>(); // outer unit only
+
+    UnitOfWork(Connection connection, int commitEvery) throws SQLException {
+        this.outer = null;
+        this.connection = connection;
+        this.commitEvery = commitEvery;
+        this.boundConnection = bind(connection);
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private UnitOfWork(UnitOfWork outer) {
+        this.outer = outer;
+        this.connection = outer.connection;
+        this.boundConnection = outer.boundConnection;
+        this.commitEvery = outer.commitEvery;
+    }
+
+    UnitOfWork participate() {
+        return new UnitOfWork(this);
+    }
+
+    /**
+     * @return the transaction's connection; closing it has no effect
+     */
+    public Connection getConnection() {
+        return boundConnection;
+    }
+
+    /**
+     * Records that one row of work is done, committing if commitEvery rows
+     * have accumulated since the last commit.
+     */
+    public void rowCompleted() throws SQLException {
+        if (outer != null) {
+            outer.rowCompleted();
+            return;
+        }
+        pendingRows++;
+        if (commitEvery > 0 && pendingRows >= commitEvery) {
+            commit();
+        }
+    }
+
+    /**
+     * Commits everything done so far. The unit of work stays open for more work.
+     * @throws SQLException if the commit fails, or if a participant failed and
+     *         the work was rolled back instead
+     */
+    public void commit() throws SQLException {
+        if (outer != null) {
+            committed = true;
+            return;
+        }
+        if (rollbackOnly) {
+            rollback();
+            throw new SQLException("Transaction rolled back: a participating unit of work did not complete");
+        }
+        connection.commit();
+        committedRows += pendingRows;
+        pendingRows = 0;
+        runCommitActions();
+    }
+
+    void addCommitAction(Runnable action) {
+        if (outer != null) {
+            outer.addCommitAction(action);
+            return;
+        }
+        commitActions.add(action);
+    }
+
+    private void runCommitActions() {
+        List<Runnable> actions = new ArrayList<>(commitActions);
+        commitActions.clear();
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "⚠️ Error running after-commit action", e);
+            }
+        }
+    }
+
+    /**
+     * Discards everything done since the last commit.
+     */
+    public void rollback() throws SQLException {
+        if (outer != null) {
+            outer.rollbackOnly = true;
+            return;
+        }
+        connection.rollback();
+        pendingRows = 0;
+        rollbackOnly = false;
+        commitActions.clear();
+    }
+
+    /**
+     * @return rows committed so far, as counted by rowCompleted()
+     */
+    public int getCommittedRows() {
+        return outer != null ? outer.getCommittedRows() : committedRows;
+    }
+
+    /**
+     * @return rows completed since the last commit
+     */
+    public int getPendingRows() {
+        return outer != null ? outer.getPendingRows() : pendingRows;
+    }
+
+    /**
+     * Rolls back uncommitted work and returns the connection to the pool.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (outer != null) {
+            if (!committed) {
+                outer.rollbackOnly = true;
+            }
+            return;
+        }
+
+        TransactionManager.unbind(this);
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "⚠️ Error ending unit of work", e);
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Wraps the connection so DAOs can close it as usual and cannot end the
+     * transaction themselves.
+     */
+    private static Connection bind(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            return null;
+                        case "commit":
+                        case "rollback":
+                        case "setAutoCommit":
+                            throw new SQLException("Transaction is managed by the current UnitOfWork");
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,24 @@
+package util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors that run each task on its own named virtual thread, for
+ * work that spends most of its time blocked, such as waiting for a pooled
+ * connection or a query.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates an executor for blocking tasks such as waiting for a connection.
+     * Callers that must limit how many tasks run at once do so themselves.
+     * @param name prefix for thread names
+     */
+    public static ExecutorService newExecutor(String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+}
@@ -169,7 +169,8 @@ CREATE TABLE attendance (
     log_out TIME NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE
+    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE,
+    UNIQUE KEY unique_attendance_day (employee_id, date)
 );
 
 -- Insert sample attendance data
@@ -296,20 +297,25 @@ INSERT INTO overtime (employee_id, date, hours, reason, approved) VALUES
 -- =============================================
 -- Create indexes for better performance
 -- =============================================
-CREATE INDEX idx_employees_last_name ON employees(last_name);
+CREATE INDEX idx_employees_name ON employees(last_name, first_name);
+CREATE FULLTEXT INDEX ft_employees_search ON employees(first_name, last_name, position);
 CREATE INDEX idx_employees_position ON employees(position);
 CREATE INDEX idx_employees_status ON employees(status);
 CREATE INDEX idx_employees_supervisor ON employees(immediate_supervisor);
 CREATE INDEX idx_leave_request_employee_id ON leave_request(employee_id);
 CREATE INDEX idx_leave_request_dates ON leave_request(start_date, end_date);
-CREATE INDEX idx_attendance_employee_date ON attendance(employee_id, date);
+CREATE INDEX idx_leave_request_status_start ON leave_request(status, start_date);
 CREATE INDEX idx_attendance_date ON attendance(date);
 CREATE INDEX idx_payroll_employee_id ON payroll(employee_id);
 CREATE INDEX idx_payroll_period ON payroll(period_start, period_end);
 CREATE INDEX idx_overtime_employee_id ON overtime(employee_id);
-CREATE INDEX idx_deductions_employee_id ON deductions(employee_id);
+CREATE INDEX idx_deductions_employee_type ON deductions(employee_id, type, deduction_date);
 CREATE INDEX idx_government_contributions_employee ON government_contributions(employee_id);
 CREATE INDEX idx_compensation_details_employee ON compensation_details(employee_id);
+CREATE INDEX idx_employees_updated_at ON employees(updated_at);
+CREATE INDEX idx_attendance_updated_at ON attendance(updated_at, employee_id);
+CREATE INDEX idx_leave_request_updated_at ON leave_request(updated_at, employee_id);
+CREATE INDEX idx_payroll_updated_at ON payroll(updated_at, employee_id);
 
 -- Re-enable foreign key checks
 SET FOREIGN_KEY_CHECKS = 1;
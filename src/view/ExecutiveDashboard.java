@@ -1,6 +1,7 @@
 package view;
 
 import model.Employee;
+import model.EmployeeListRow;
 import model.UserRole;
 import util.PositionRoleMapper;
 import dao.EmployeeDAO;
@@ -222,10 +223,10 @@ public class ExecutiveDashboard extends JFrame {
         metricsPanel.setOpaque(false);
         
         try {
-            List<Employee> allEmployees = employeeDAO.getAllEmployees();
+            List<EmployeeListRow> allEmployees = employeeDAO.getEmployeeListRows();
             int totalEmployees = allEmployees.size();
             long regularEmployees = allEmployees.stream().filter(e -> "Regular".equals(e.getStatus())).count();
-            double avgSalary = allEmployees.stream().mapToDouble(Employee::getBasicSalary).average().orElse(0.0);
+            double avgSalary = allEmployees.stream().mapToDouble(EmployeeListRow::getBasicSalary).average().orElse(0.0);
             
             metricsPanel.add(createExecutiveMetricCard("👥 Total Employees", String.valueOf(totalEmployees), "Active workforce", EXECUTIVE_SUCCESS));
             metricsPanel.add(createExecutiveMetricCard("✅ Regular Staff", String.valueOf(regularEmployees), "Permanent employees", EXECUTIVE_PRIMARY));
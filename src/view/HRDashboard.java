@@ -1,9 +1,14 @@
 package view;
 
 import model.Employee;
+import model.EmployeeListRow;
 import model.UserRole;
 import util.PositionRoleMapper;
+import util.QueryScope;
+import dao.AsyncDAO;
+import dao.ChangeFeed;
 import dao.EmployeeDAO;
+import dao.Page;
 import dao.AttendanceDAO;
 import service.PayrollCalculator;
 import ui.EmployeeDetailsDialog;
@@ -24,7 +29,15 @@ import java.awt.event.ActionEvent;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 public class HRDashboard extends JFrame {
     private Employee currentUser;
@@ -47,6 +60,9 @@ public class HRDashboard extends JFrame {
     private static final Color TEXT_SECONDARY = new Color(100, 116, 139);
     private static final Color BORDER_LIGHT = new Color(226, 232, 240);
 
+    private static final int EMPLOYEE_PAGE_SIZE = 200;
+    private static final int SEARCH_DELAY_MS = 300;
+
     // Dashboard Components
     private JTable employeeTable;
     private DefaultTableModel employeeTableModel;
@@ -59,12 +75,27 @@ public class HRDashboard extends JFrame {
 
     // Services
     private EmployeeDAO employeeDAO;
+    private AsyncDAO asyncDAO;
     private AttendanceDAO attendanceDAO;
     private PayrollCalculator payrollCalculator;
 
     // Timer for real-time updates
     private Timer dateTimeTimer;
     private Timer metricsTimer;
+    private Timer searchDelayTimer;
+
+    // Search still running; cancelled when the user changes the term
+    private CompletableFuture<List<EmployeeListRow>> pendingSearch;
+
+    // Keyset paging of the unfiltered table: the next page loads when the user scrolls to the end
+    private CompletableFuture<Page<EmployeeListRow>> pendingPage;
+    private EmployeeListRow lastLoadedEmployee;
+    private boolean moreEmployees;
+    // Employees the change feed added before their page was loaded
+    private final Set<Integer> employeesAddedAhead = new HashSet<>();
+
+    // Updates the table with employees changed by other users
+    private final Consumer<ChangeFeed.Delta> employeeChanges = this::onEmployeeChanges;
 
     public HRDashboard(Employee user) {
         this.currentUser = user;
@@ -72,6 +103,7 @@ public class HRDashboard extends JFrame {
 
         try {
             this.employeeDAO = new EmployeeDAO();
+            this.asyncDAO = new AsyncDAO();
             this.attendanceDAO = new AttendanceDAO();
             this.payrollCalculator = new PayrollCalculator();
 
@@ -80,6 +112,7 @@ public class HRDashboard extends JFrame {
             setupEventHandlers();
             startRealTimeUpdates();
             loadData();
+            ChangeFeed.getInstance().addListener(ChangeFeed.Source.EMPLOYEES, employeeChanges);
 
             System.out.println("✅ HR Dashboard initialized for: " + user.getFullName() + " (" + userRole.getDisplayName() + ")");
 
@@ -438,6 +471,12 @@ public class HRDashboard extends JFrame {
         JScrollPane scrollPane = new JScrollPane(employeeTable);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         scrollPane.getViewport().setBackground(CARD_WHITE);
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            BoundedRangeModel model = ((JScrollBar) e.getAdjustable()).getModel();
+            if (model.getValue() + model.getExtent() >= model.getMaximum() - employeeTable.getRowHeight() * 5) {
+                loadNextEmployeePage();
+            }
+        });
 
         tablePanel.add(scrollPane, BorderLayout.CENTER);
 
@@ -573,8 +612,7 @@ public class HRDashboard extends JFrame {
 
     private void updateMetrics() {
         try {
-            List<Employee> allEmployees = employeeDAO.getAllEmployees();
-            totalEmployeesLabel.setText(String.valueOf(allEmployees.size()));
+            totalEmployeesLabel.setText(String.valueOf(employeeDAO.getEmployeeCount()));
 
             // Calculate new employees - simplified
             newEmployeesLabel.setText("+2");
@@ -590,6 +628,18 @@ public class HRDashboard extends JFrame {
     private void setupEventHandlers() {
         searchField.addActionListener(e -> searchEmployees());
 
+        // Search as the user types, once they pause
+        searchDelayTimer = new Timer(SEARCH_DELAY_MS, e -> searchEmployees());
+        searchDelayTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { searchDelayTimer.restart(); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { searchDelayTimer.restart(); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { searchDelayTimer.restart(); }
+        });
+
         employeeTable.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
@@ -613,64 +663,204 @@ public class HRDashboard extends JFrame {
         updateMetrics();
     }
 
+    /**
+     * Shows the first page of employees; further pages load as the user
+     * scrolls down. Pages are fetched off the event dispatch thread.
+     */
     private void loadEmployeeData() {
+        if (pendingPage != null) {
+            pendingPage.cancel(true);
+            pendingPage = null;
+        }
         employeeTableModel.setRowCount(0);
+        employeesAddedAhead.clear();
+        lastLoadedEmployee = null;
+        moreEmployees = true;
+        loadNextEmployeePage();
+    }
 
-        try {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-
-            for (Employee emp : employees) {
-                Object[] row = {
-                        emp.getEmployeeId(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        emp.getPosition(),
-                        "HR", // Department placeholder
-                        emp.getStatus(),
-                        String.format("₱%,.2f", emp.getBasicSalary())
-                };
-                employeeTableModel.addRow(row);
+    private void loadNextEmployeePage() {
+        if (pendingPage != null || !moreEmployees || !searchField.getText().trim().isEmpty()) {
+            return;
+        }
+        CompletableFuture<Page<EmployeeListRow>> load = asyncDAO.getEmployeeListPage(lastLoadedEmployee, EMPLOYEE_PAGE_SIZE);
+        pendingPage = load;
+        load.whenComplete((page, error) -> SwingUtilities.invokeLater(() -> {
+            if (load != pendingPage) {
+                return; // the table was reloaded or replaced by search results
+            }
+            pendingPage = null;
+            if (error != null) {
+                moreEmployees = false;
+                showLoadError(error);
+            } else {
+                appendEmployeePage(page);
             }
+        }));
+    }
 
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, 
-                    "<html><center><h3>❌ Data Loading Error</h3><p>Error loading employee data: " + e.getMessage() + "</p></center></html>",
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+    private void appendEmployeePage(Page<EmployeeListRow> page) {
+        for (EmployeeListRow emp : page.getItems()) {
+            if (employeesAddedAhead.remove(emp.getEmployeeId())) {
+                continue; // already shown
+            }
+            employeeTableModel.addRow(toTableRow(emp));
+        }
+        if (!page.getItems().isEmpty()) {
+            lastLoadedEmployee = page.getLast();
         }
+        moreEmployees = page.hasMore();
+    }
+
+    private void showLoadError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException || QueryScope.isCancellation(cause)) {
+            return;
+        }
+        JOptionPane.showMessageDialog(this, 
+                "<html><center><h3>❌ Data Loading Error</h3><p>Error loading employee data: " + cause.getMessage() + "</p></center></html>",
+                "Error", JOptionPane.ERROR_MESSAGE);
+        cause.printStackTrace();
     }
 
     private void searchEmployees() {
+        searchDelayTimer.stop();
+        // Results for the previous term are no longer wanted
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+
         String searchTerm = searchField.getText().trim();
         if (searchTerm.isEmpty()) {
             loadEmployeeData();
             return;
         }
+        if (pendingPage != null) {
+            pendingPage.cancel(true);
+            pendingPage = null;
+        }
 
+        CompletableFuture<List<EmployeeListRow>> search = asyncDAO.searchEmployeeListRows(searchTerm);
+        pendingSearch = search;
+        search.whenComplete((employees, error) -> SwingUtilities.invokeLater(() -> {
+            if (search != pendingSearch) {
+                return; // superseded by a newer search
+            }
+            pendingSearch = null;
+            if (error != null) {
+                showSearchError(error);
+            } else {
+                showSearchResults(employees);
+            }
+        }));
+    }
+
+    private void showSearchResults(List<EmployeeListRow> employees) {
         employeeTableModel.setRowCount(0);
+        for (EmployeeListRow emp : employees) {
+            employeeTableModel.addRow(toTableRow(emp));
+        }
+    }
 
-        try {
-            List<Employee> employees = employeeDAO.searchEmployees(searchTerm);
-
-            for (Employee emp : employees) {
-                Object[] row = {
-                        emp.getEmployeeId(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        emp.getPosition(),
-                        "HR", // Department placeholder
-                        emp.getStatus(),
-                        String.format("₱%,.2f", emp.getBasicSalary())
-                };
-                employeeTableModel.addRow(row);
+    private Object[] toTableRow(EmployeeListRow emp) {
+        return new Object[] {
+                emp.getEmployeeId(),
+                emp.getLastName(),
+                emp.getFirstName(),
+                emp.getPosition(),
+                "HR", // Department placeholder
+                emp.getStatus(),
+                String.format("₱%,.2f", emp.getBasicSalary())
+        };
+    }
+
+    /**
+     * Runs on the change feed's thread: loads only the changed employees,
+     * then applies them to the table on the event dispatch thread
+     */
+    private void onEmployeeChanges(ChangeFeed.Delta delta) {
+        if (delta.isFullReload()) {
+            SwingUtilities.invokeLater(this::reloadAfterExternalChanges);
+            return;
+        }
+        Map<Integer, EmployeeListRow> rows = employeeDAO.getEmployeeListRowsByIds(delta.getEmployeeIds());
+        SwingUtilities.invokeLater(() -> applyEmployeeChanges(delta.getEmployeeIds(), rows));
+    }
+
+    private void reloadAfterExternalChanges() {
+        if (!isDisplayable()) {
+            return;
+        }
+        if (searchField.getText().trim().isEmpty()) {
+            loadEmployeeData();
+        } else {
+            searchEmployees();
+        }
+        updateMetrics();
+    }
+
+    /**
+     * Updates, adds or removes just the changed rows; a search in progress is
+     * re-run instead, since the changes may move employees in or out of it
+     */
+    private void applyEmployeeChanges(Set<Integer> employeeIds, Map<Integer, EmployeeListRow> rows) {
+        if (!isDisplayable()) {
+            return;
+        }
+        if (!searchField.getText().trim().isEmpty()) {
+            searchEmployees();
+            return;
+        }
+
+        boolean countChanged = false;
+        for (Integer employeeId : employeeIds) {
+            int modelRow = findModelRow(employeeId);
+            EmployeeListRow emp = rows.get(employeeId);
+            if (emp == null) {
+                if (modelRow >= 0) {
+                    employeeTableModel.removeRow(modelRow);
+                    countChanged = true;
+                }
+            } else if (modelRow >= 0) {
+                Object[] values = toTableRow(emp);
+                for (int column = 0; column < values.length; column++) {
+                    employeeTableModel.setValueAt(values[column], modelRow, column);
+                }
+            } else {
+                employeeTableModel.addRow(toTableRow(emp));
+                if (moreEmployees) {
+                    employeesAddedAhead.add(employeeId);
+                }
+                countChanged = true;
             }
+        }
+        if (countChanged) {
+            updateMetrics();
+        }
+    }
 
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, 
-                    "<html><center><h3>❌ Search Error</h3><p>Error searching employees: " + e.getMessage() + "</p></center></html>",
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+    private int findModelRow(int employeeId) {
+        for (int row = 0; row < employeeTableModel.getRowCount(); row++) {
+            if (Integer.valueOf(employeeId).equals(employeeTableModel.getValueAt(row, 0))) {
+                return row;
+            }
         }
+        return -1;
+    }
+
+    private void showSearchError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException || QueryScope.isCancellation(cause)) {
+            return;
+        }
+        String message = cause instanceof TimeoutException
+                ? "The search took too long. Try a more specific term."
+                : "Error searching employees: " + cause.getMessage();
+        JOptionPane.showMessageDialog(this, 
+                "<html><center><h3>❌ Search Error</h3><p>" + message + "</p></center></html>",
+                "Error", JOptionPane.ERROR_MESSAGE);
+        cause.printStackTrace();
     }
 
     private void showAddEmployeeDialog() {
@@ -776,6 +966,13 @@ public class HRDashboard extends JFrame {
         if (metricsTimer != null) {
             metricsTimer.stop();
         }
+        if (searchDelayTimer != null) {
+            searchDelayTimer.stop();
+        }
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+        }
+        ChangeFeed.getInstance().removeListener(ChangeFeed.Source.EMPLOYEES, employeeChanges);
         super.dispose();
     }
 }
\ No newline at end of file
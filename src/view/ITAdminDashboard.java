@@ -1,11 +1,23 @@
 package view;
 
+import dao.CacheStats;
+import dao.ChangeFeed;
+import dao.EmployeeDAO;
+import dao.ReferenceDataRegistry;
 import model.Employee;
 import model.UserRole;
+import service.PayrollCalculator;
+import util.ConfigurationManager;
+import util.ConnectionPoolMetrics;
+import util.DataSourceManager;
+import util.DatabaseConnectionPool;
 import util.PositionRoleMapper;
+import util.StartupTimeline;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * IT Admin Dashboard for IT administrators
@@ -15,6 +27,12 @@ public class ITAdminDashboard extends JFrame {
     private Employee currentUser;
     private UserRole userRole;
     
+    // Live connection pool panel
+    private static final int POOL_REFRESH_INTERVAL_MS = 2000;
+    private final Map<String, JLabel> poolMetricLabels = new LinkedHashMap<>();
+    private JTextArea latencyHistogramArea;
+    private Timer poolRefreshTimer;
+    
     // Color scheme for IT admin interface
     private static final Color IT_PRIMARY = new Color(52, 73, 94);
     private static final Color IT_SECONDARY = new Color(44, 62, 80);
@@ -92,8 +110,117 @@ public class ITAdminDashboard extends JFrame {
         
         mainPanel.add(titleLabel, BorderLayout.NORTH);
         mainPanel.add(new JScrollPane(contentArea), BorderLayout.CENTER);
+        mainPanel.add(createConnectionPoolPanel(), BorderLayout.EAST);
         
         add(mainPanel);
+        startPoolRefresh();
+    }
+    
+    /**
+     * Live view of the database connection pool metrics also exposed over JMX
+     */
+    private JPanel createConnectionPoolPanel() {
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(Color.WHITE);
+        panel.setPreferredSize(new Dimension(380, 0));
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createEmptyBorder(0, 10, 10, 10),
+                BorderFactory.createTitledBorder("🗄️ Database Connection Pool")));
+        
+        JPanel gaugesPanel = new JPanel(new GridLayout(0, 2, 8, 4));
+        gaugesPanel.setBackground(Color.WHITE);
+        String[] metricNames = {
+            "Active", "Idle", "Total", "Max size", "Waiting threads",
+            "Borrows", "Avg borrow (ms)", "Max borrow (ms)", "Timeouts",
+            "Created", "Evicted", "Validations skipped", "Validation failures", "Leaks detected",
+            "Employee cache", "Employee cache hit rate", "Payroll cache", "Payroll cache hit rate"
+        };
+        for (String name : metricNames) {
+            JLabel nameLabel = new JLabel(name);
+            nameLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            JLabel valueLabel = new JLabel("-");
+            valueLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+            valueLabel.setForeground(IT_SECONDARY);
+            gaugesPanel.add(nameLabel);
+            gaugesPanel.add(valueLabel);
+            poolMetricLabels.put(name, valueLabel);
+        }
+        
+        latencyHistogramArea = new JTextArea(9, 20);
+        latencyHistogramArea.setEditable(false);
+        latencyHistogramArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        latencyHistogramArea.setBorder(BorderFactory.createTitledBorder("Borrow latency"));
+        
+        panel.add(gaugesPanel, BorderLayout.NORTH);
+        panel.add(latencyHistogramArea, BorderLayout.CENTER);
+        return panel;
+    }
+    
+    private void startPoolRefresh() {
+        poolRefreshTimer = new Timer(POOL_REFRESH_INTERVAL_MS, e -> refreshPoolMetrics());
+        poolRefreshTimer.setInitialDelay(0);
+        poolRefreshTimer.start();
+    }
+    
+    private void refreshPoolMetrics() {
+        CacheStats employeeCache = EmployeeDAO.getEmployeeCacheStats();
+        setPoolMetric("Employee cache", employeeCache.getHits() + " hits / " + employeeCache.getMisses() + " misses");
+        setPoolMetric("Employee cache hit rate", String.format("%.1f%% (%d/%d)",
+                employeeCache.getHitRate() * 100, employeeCache.getSize(), employeeCache.getMaxSize()));
+        CacheStats payrollCache = PayrollCalculator.getResultCacheStats();
+        setPoolMetric("Payroll cache", payrollCache.getHits() + " hits / " + payrollCache.getMisses() + " misses");
+        setPoolMetric("Payroll cache hit rate", String.format("%.1f%% (%d/%d)",
+                payrollCache.getHitRate() * 100, payrollCache.getSize(), payrollCache.getMaxSize()));
+        
+        if (!DataSourceManager.isPoolingEnabled()) {
+            latencyHistogramArea.setText("Connection pooling is disabled\n(db.pool.enabled=false)");
+            return;
+        }
+        
+        ConnectionPoolMetrics metrics = DatabaseConnectionPool.getInstance().getMetrics();
+        setPoolMetric("Active", metrics.getActiveConnections());
+        setPoolMetric("Idle", metrics.getIdleConnections());
+        setPoolMetric("Total", metrics.getTotalConnections());
+        setPoolMetric("Max size", metrics.getMaxPoolSize());
+        setPoolMetric("Waiting threads", metrics.getWaitingThreads());
+        setPoolMetric("Borrows", metrics.getBorrowCount());
+        setPoolMetric("Avg borrow (ms)", String.format("%.2f", metrics.getAverageBorrowMillis()));
+        setPoolMetric("Max borrow (ms)", String.format("%.2f", metrics.getMaxBorrowMillis()));
+        setPoolMetric("Timeouts", metrics.getBorrowTimeouts());
+        setPoolMetric("Created", metrics.getConnectionsCreated());
+        setPoolMetric("Evicted", metrics.getConnectionsEvicted());
+        setPoolMetric("Validations skipped", metrics.getValidationsSkipped());
+        setPoolMetric("Validation failures", metrics.getValidationFailures());
+        setPoolMetric("Leaks detected", metrics.getLeaksDetected());
+        
+        // Waiting threads are a sign of pool starvation rather than slow SQL
+        poolMetricLabels.get("Waiting threads").setForeground(
+                metrics.getWaitingThreads() > 0 ? Color.RED : IT_SECONDARY);
+        
+        String[] buckets = metrics.getBorrowLatencyBuckets();
+        long[] counts = metrics.getBorrowLatencyHistogram();
+        long max = 1;
+        for (long count : counts) {
+            max = Math.max(max, count);
+        }
+        StringBuilder histogram = new StringBuilder();
+        for (int i = 0; i < buckets.length; i++) {
+            int barLength = (int) Math.round(20.0 * counts[i] / max);
+            histogram.append(String.format("%-8s %-20s %d%n", buckets[i], "#".repeat(barLength), counts[i]));
+        }
+        latencyHistogramArea.setText(histogram.toString());
+    }
+    
+    private void setPoolMetric(String name, Object value) {
+        poolMetricLabels.get(name).setText(String.valueOf(value));
+    }
+    
+    @Override
+    public void dispose() {
+        if (poolRefreshTimer != null) {
+            poolRefreshTimer.stop();
+        }
+        super.dispose();
     }
     
     private JMenu createStyledMenu(String text, String tooltip) {
@@ -117,8 +244,24 @@ public class ITAdminDashboard extends JFrame {
         showMessage("User Management", "Opening user management interface...");
     }
     
+    /**
+     * Re-reads application.properties; db.pool.* changes resize the live pool
+     */
     private void configureSystem() {
-        showMessage("System Settings", "Opening system configuration...");
+        ConfigurationManager.getInstance().reloadConfiguration();
+        String status = DataSourceManager.isPoolingEnabled()
+                ? DatabaseConnectionPool.getInstance().getPoolStatus()
+                : "Connection pooling is disabled.";
+        if (DataSourceManager.isPoolingEnabled() && DataSourceManager.isReadReplicaEnabled()) {
+            status += "\n" + DatabaseConnectionPool.getReplicaInstance().getPoolStatus();
+        }
+        ReferenceDataRegistry referenceData = ReferenceDataRegistry.getInstance();
+        String referenceStatus = referenceData.refresh()
+                ? "Reference data reloaded: " + referenceData.getPositions().size() + " positions, "
+                        + referenceData.getStatuses().size() + " statuses, "
+                        + referenceData.getDepartmentNames().size() + " departments."
+                : "Reference data could not be reloaded; the previous copy is still in use.";
+        showMessage("System Settings", "Configuration reloaded.\n" + referenceStatus + "\n\n" + status);
     }
     
     private void manageDatabases() {
@@ -130,7 +273,16 @@ public class ITAdminDashboard extends JFrame {
     }
     
     private void viewPerformanceMetrics() {
-        showMessage("Performance Metrics", "Loading system performance data...");
+        String changeFeed = ChangeFeed.getInstance().getStatus() + "\n";
+        if (DataSourceManager.isPoolingEnabled()) {
+            String metrics = DatabaseConnectionPool.getInstance().getMetrics().toString();
+            if (DataSourceManager.isReadReplicaEnabled()) {
+                metrics += "\nRead replica:\n" + DatabaseConnectionPool.getReplicaInstance().getMetrics();
+            }
+            showMessage("Performance Metrics", metrics + "\n" + changeFeed + StartupTimeline.format());
+        } else {
+            showMessage("Performance Metrics", "Connection pooling is disabled.\n\n" + changeFeed + StartupTimeline.format());
+        }
     }
     
     private void viewErrorLogs() {
@@ -0,0 +1,38 @@
+-- Unique payroll period per employee for MotorPH Payroll System
+-- Lets PayrollDAO save a recalculated period with INSERT ... ON DUPLICATE KEY UPDATE
+-- instead of adding a second row. Databases created from aoopdatabase_payroll.sql
+-- already have the key; this brings older databases in line.
+
+USE aoopdatabase_payroll;
+
+-- =============================================
+-- 1. Remove duplicate payroll rows, keeping the latest one per period
+-- =============================================
+
+DELETE older
+FROM payroll older
+JOIN payroll newer
+  ON newer.employee_id = older.employee_id
+ AND newer.period_start = older.period_start
+ AND newer.period_end = older.period_end
+ AND newer.payroll_id > older.payroll_id;
+
+-- =============================================
+-- 2. Add the unique key if it is missing
+-- =============================================
+
+SET @has_key = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'payroll'
+      AND index_name = 'unique_payroll_period'
+);
+
+SET @ddl = IF(@has_key = 0,
+    'ALTER TABLE payroll ADD UNIQUE KEY unique_payroll_period (employee_id, period_start, period_end)',
+    'SELECT ''unique_payroll_period already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,56 @@
+-- One attendance record per employee per day for MotorPH Payroll System
+-- AttendanceDAO.insertAttendance relies on this key (and the employee foreign key)
+-- instead of checking for an existing record before every insert.
+
+USE aoopdatabase_payroll;
+
+-- =============================================
+-- 1. Remove duplicate attendance rows, keeping the first one recorded per day
+-- =============================================
+
+DELETE later
+FROM attendance later
+JOIN attendance earlier
+  ON earlier.employee_id = later.employee_id
+ AND earlier.date = later.date
+ AND earlier.id < later.id;
+
+-- =============================================
+-- 2. Add the unique key if it is missing
+-- =============================================
+
+SET @has_key = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'attendance'
+      AND index_name = 'unique_attendance_day'
+);
+
+SET @ddl = IF(@has_key = 0,
+    'ALTER TABLE attendance ADD UNIQUE KEY unique_attendance_day (employee_id, date)',
+    'SELECT ''unique_attendance_day already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- =============================================
+-- 3. Drop the plain (employee_id, date) index the unique key replaces
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'attendance'
+      AND index_name = 'idx_attendance_employee_date'
+);
+
+SET @ddl = IF(@has_index > 0,
+    'DROP INDEX idx_attendance_employee_date ON attendance',
+    'SELECT ''idx_attendance_employee_date not present''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,63 @@
+-- Indexes behind the keyset page queries for MotorPH Payroll System
+-- EmployeeDAO pages seek on (last_name, first_name, employee_id) and
+-- LeaveRequestDAO pages on (status, start_date, leave_id). InnoDB appends the
+-- primary key to every secondary index, so two columns are enough for each.
+-- Payroll pages already use unique_payroll_period (employee_id, period_start, ...).
+
+USE aoopdatabase_payroll;
+
+-- =============================================
+-- 1. Employee name index (replaces the last_name-only index)
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'employees'
+      AND index_name = 'idx_employees_name'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_employees_name ON employees(last_name, first_name)',
+    'SELECT ''idx_employees_name already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'employees'
+      AND index_name = 'idx_employees_last_name'
+);
+
+SET @ddl = IF(@has_index > 0,
+    'DROP INDEX idx_employees_last_name ON employees',
+    'SELECT ''idx_employees_last_name not present''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- =============================================
+-- 2. Leave requests by status, latest start date first
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'leave_request'
+      AND index_name = 'idx_leave_request_status_start'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_leave_request_status_start ON leave_request(status, start_date)',
+    'SELECT ''idx_leave_request_status_start already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,21 @@
+-- FULLTEXT index for employee search in MotorPH Payroll System
+-- EmployeeDAO searches an in-memory index first and falls back to this index
+-- (MATCH ... AGAINST in boolean mode) instead of a CONCAT(...) LIKE '%term%' scan.
+
+USE aoopdatabase_payroll;
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'employees'
+      AND index_name = 'ft_employees_search'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE FULLTEXT INDEX ft_employees_search ON employees(first_name, last_name, position)',
+    'SELECT ''ft_employees_search already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,42 @@
+-- Index behind DeductionDAO's grouped per-type totals for MotorPH Payroll System
+-- The totals query groups by (employee_id, type) and filters on deduction_date,
+-- so one index on those columns replaces the employee_id-only index. It still
+-- starts with employee_id, so it also serves the employees foreign key.
+
+USE aoopdatabase_payroll;
+
+-- =============================================
+-- 1. Deductions by employee and type
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'deductions'
+      AND index_name = 'idx_deductions_employee_type'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_deductions_employee_type ON deductions(employee_id, type, deduction_date)',
+    'SELECT ''idx_deductions_employee_type already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'deductions'
+      AND index_name = 'idx_deductions_employee_id'
+);
+
+SET @ddl = IF(@has_index > 0,
+    'DROP INDEX idx_deductions_employee_id ON deductions',
+    'SELECT ''idx_deductions_employee_id not present''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
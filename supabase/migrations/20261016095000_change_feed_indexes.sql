@@ -0,0 +1,87 @@
+-- updated_at indexes behind the change feed for MotorPH Payroll System
+-- ChangeFeed polls each table for rows with updated_at at or after its
+-- watermark. With an index on (updated_at, employee_id) the poll reads only
+-- the changed rows' index entries (InnoDB adds the primary key to every
+-- secondary index), instead of scanning the table every interval.
+
+USE aoopdatabase_payroll;
+
+-- =============================================
+-- 1. Employees
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'employees'
+      AND index_name = 'idx_employees_updated_at'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_employees_updated_at ON employees(updated_at)',
+    'SELECT ''idx_employees_updated_at already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- =============================================
+-- 2. Attendance
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'attendance'
+      AND index_name = 'idx_attendance_updated_at'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_attendance_updated_at ON attendance(updated_at, employee_id)',
+    'SELECT ''idx_attendance_updated_at already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- =============================================
+-- 3. Leave requests
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'leave_request'
+      AND index_name = 'idx_leave_request_updated_at'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_leave_request_updated_at ON leave_request(updated_at, employee_id)',
+    'SELECT ''idx_leave_request_updated_at already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- =============================================
+-- 4. Payroll
+-- =============================================
+
+SET @has_index = (
+    SELECT COUNT(*)
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'payroll'
+      AND index_name = 'idx_payroll_updated_at'
+);
+
+SET @ddl = IF(@has_index = 0,
+    'CREATE INDEX idx_payroll_updated_at ON payroll(updated_at, employee_id)',
+    'SELECT ''idx_payroll_updated_at already exists''');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;